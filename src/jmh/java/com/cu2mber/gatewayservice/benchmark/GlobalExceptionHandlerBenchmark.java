@@ -0,0 +1,59 @@
+package com.cu2mber.gatewayservice.benchmark;
+
+import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import com.cu2mber.gatewayservice.common.handler.GlobalExceptionHandler;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GlobalExceptionHandler의 에러 응답 직렬화 벤치마크입니다.
+ * <p>
+ * 미리 직렬화된 템플릿으로 본문을 만드는 {@link #renderErrorBody()}와,
+ * 상태 코드/헤더 설정과 응답 쓰기까지 포함한 {@link #handle()}를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private UnauthorizedException exception;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(new ObjectMapper(), new GatewayMetrics(new SimpleMeterRegistry()));
+        exception = new UnauthorizedException("만료된 JWT 토큰입니다.");
+    }
+
+    @Benchmark
+    public byte[] renderErrorBody() {
+        return handler.renderErrorBody(HttpStatus.UNAUTHORIZED, exception.getMessage(), "/api/order-service/orders/1");
+    }
+
+    @Benchmark
+    public Object handle() {
+        MockServerWebExchange exchange =
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/order-service/orders/1"));
+        handler.handle(exchange, exception).block();
+        return exchange;
+    }
+}
@@ -0,0 +1,91 @@
+package com.cu2mber.gatewayservice.benchmark;
+
+import com.cu2mber.gatewayservice.common.config.AuthPolicyProperties;
+import com.cu2mber.gatewayservice.common.config.ClaimHeaderProperties;
+import com.cu2mber.gatewayservice.common.filter.JwtAuthorizationFilter;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.route.AuthPolicyMatcher;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthorizationFilter의 인증 통과/거절 경로 벤치마크입니다.
+ * <p>
+ * 매 호출마다 MockServerWebExchange를 새로 만들므로, exchange 생성 비용만 측정하는 {@link #exchangeOnly()}를
+ * 기준선으로 함께 측정하여 필터 자체의 비용과 구분합니다. 통과 경로는 검증된 토큰 캐시에 적중하는 일반적인 경우입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthorizationFilterBenchmark {
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private JwtAuthorizationFilter filter;
+    private Route route;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        GatewayMetrics metrics = new GatewayMetrics(new SimpleMeterRegistry());
+        filter = new JwtAuthorizationFilter(
+                JwtProviderBenchmark.jwtProvider(JwtProviderBenchmark.SECRET, 10_000),
+                new ClaimHeaderProperties(), metrics,
+                new AuthPolicyMatcher(new AuthPolicyProperties()));
+        route = Route.async().id("ORDER-SERVICE").uri("lb://ORDER-SERVICE").predicate(e -> true).build();
+        authorization = "Bearer " + JwtProviderBenchmark.token(
+                Keys.hmacShaKeyFor(Base64.getDecoder().decode(JwtProviderBenchmark.SECRET)), 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public Object exchangeOnly() {
+        return exchange(authorization);
+    }
+
+    @Benchmark
+    public Object accept() {
+        MockServerWebExchange exchange = exchange(authorization);
+        filter.filter(exchange, CHAIN).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public Object rejectMissingToken() {
+        MockServerWebExchange exchange = exchange(null);
+        filter.filter(exchange, CHAIN).block();
+        return exchange;
+    }
+
+    private MockServerWebExchange exchange(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/orders/1");
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+}
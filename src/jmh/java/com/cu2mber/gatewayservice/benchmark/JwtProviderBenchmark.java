@@ -0,0 +1,127 @@
+package com.cu2mber.gatewayservice.benchmark;
+
+import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.provider.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider의 토큰 검증 경로별 벤치마크입니다.
+ * <p>
+ * 유효한 토큰은 검증된 토큰 캐시 적중(cached)과 매번 서명을 검증하는 경우(uncached)를 나누어 측정하고,
+ * 만료, 잘못된 서명, 형식 오류 토큰은 UnauthorizedException이 발생하는 실패 경로를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    static final String SECRET = "aWFtdGVzdHNlY3JldGtleTEyMzQ1Njc4OTBhYmNkZWY=";
+    static final String OTHER_SECRET = "aWFtYW5vdGhlcnRlc3RzZWNyZXRrZXkxMjM0NTY3ODkwYWJjZGVm";
+
+    private JwtProvider cachingProvider;
+    private JwtProvider uncachedProvider;
+    private String validToken;
+    private String expiredToken;
+    private String badSignatureToken;
+    private String malformedToken;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = jwtProvider(SECRET, 10_000);
+        uncachedProvider = jwtProvider(SECRET, 0);
+
+        Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        Key otherKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(OTHER_SECRET));
+        validToken = token(key, 60 * 60 * 1000L);
+        expiredToken = token(key, -60 * 1000L);
+        badSignatureToken = token(otherKey, 60 * 60 * 1000L);
+        malformedToken = "I.Am.Not.A.JWT.Token.Type.Token.";
+    }
+
+    @Benchmark
+    public Object validCached() {
+        return cachingProvider.validateAndGetClaims(validToken);
+    }
+
+    @Benchmark
+    public Object validUncached() {
+        return uncachedProvider.validateAndGetClaims(validToken);
+    }
+
+    @Benchmark
+    public Object expired() {
+        return reject(expiredToken);
+    }
+
+    @Benchmark
+    public Object badSignature() {
+        return reject(badSignatureToken);
+    }
+
+    @Benchmark
+    public Object malformed() {
+        return reject(malformedToken);
+    }
+
+    private Object reject(String token) {
+        try {
+            return cachingProvider.validateAndGetClaims(token);
+        } catch (UnauthorizedException e) {
+            return e;
+        }
+    }
+
+    /**
+     * 벤치마크용 JwtProvider를 생성합니다.
+     *
+     * @param secret       Base64 인코딩된 시크릿 키
+     * @param cacheMaxSize 검증된 토큰 캐시 크기 (0이면 캐시하지 않음)
+     * @return 초기화된 JwtProvider
+     */
+    static JwtProvider jwtProvider(String secret, long cacheMaxSize) {
+        JwtProvider provider = new JwtProvider(new GatewayMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(provider, "secret", secret);
+        ReflectionTestUtils.setField(provider, "tokenCacheMaxSize", cacheMaxSize);
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * 주어진 키로 서명한 토큰을 생성합니다.
+     *
+     * @param key             서명 키
+     * @param expiresInMillis 현재 시각부터 만료까지의 시간(밀리초), 음수면 이미 만료된 토큰
+     * @return JWT 문자열
+     */
+    static String token(Key key, long expiresInMillis) {
+        return Jwts.builder()
+                .setSubject("bench-user")
+                .claim("roles", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
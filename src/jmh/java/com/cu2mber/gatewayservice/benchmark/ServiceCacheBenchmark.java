@@ -0,0 +1,70 @@
+package com.cu2mber.gatewayservice.benchmark;
+
+import com.cu2mber.gatewayservice.common.cache.RegistrySnapshotStore;
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 스레드가 동시에 ServiceCache.getServices를 호출할 때의 벤치마크입니다.
+ * <p>
+ * 캐시가 채워진 뒤의 조회 경로(refresh-after-write 적중)를 측정하며, 스레드 수는 {@code -t} 옵션으로 바꿀 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ServiceCacheBenchmark {
+
+    private ServiceCache serviceCache;
+
+    @Setup
+    public void setUp() {
+        List<String> services = IntStream.range(0, 50).mapToObj(i -> "service-" + i).toList();
+        DiscoveryClient discoveryClient = new DiscoveryClient() {
+            @Override
+            public String description() {
+                return "benchmark";
+            }
+
+            @Override
+            public List<ServiceInstance> getInstances(String serviceId) {
+                return List.of();
+            }
+
+            @Override
+            public List<String> getServices() {
+                return services;
+            }
+        };
+        serviceCache = new ServiceCache(discoveryClient, 60, 1000, new GatewayMetrics(new SimpleMeterRegistry()),
+                RegistrySnapshotStore.disabled());
+        serviceCache.init();
+        serviceCache.getServices().block();
+    }
+
+    @Benchmark
+    public List<String> getServices() {
+        return serviceCache.getServices().block();
+    }
+}
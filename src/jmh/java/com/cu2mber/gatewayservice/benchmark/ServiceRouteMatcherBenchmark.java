@@ -0,0 +1,84 @@
+package com.cu2mber.gatewayservice.benchmark;
+
+import com.cu2mber.gatewayservice.common.route.ServiceRouteMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxProperties;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 서비스 라우트 해시 매처와 Spring Cloud Gateway 기본 predicate 체인의 라우트 조회 벤치마크입니다.
+ * <p>
+ * 라우트는 ServiceRouteLocator와 같은 메타데이터와 Path predicate로 만들며,
+ * 요청은 마지막 라우트에 매칭되도록 하여 predicate 체인의 최악의 경우를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceRouteMatcherBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int routeCount;
+
+    private List<Route> routes;
+    private ServiceRouteMatcher matcher;
+    private String path;
+    private MockServerWebExchange exchange;
+
+    @Setup
+    public void setUp() {
+        PathRoutePredicateFactory pathPredicateFactory = new PathRoutePredicateFactory(new WebFluxProperties());
+        routes = IntStream.range(0, routeCount)
+                .mapToObj(i -> "service-" + i)
+                .map(segment -> Route.async()
+                        .id(segment.toUpperCase())
+                        .uri("lb://" + segment.toUpperCase())
+                        .metadata(ServiceRouteMatcher.SERVICE_METADATA_KEY, segment)
+                        .asyncPredicate(ServerWebExchangeUtils.toAsyncPredicate(
+                                pathPredicateFactory.apply(c -> c.setPatterns(List.of("/api/" + segment + "/**")))))
+                        .build())
+                .toList();
+        matcher = new ServiceRouteMatcher();
+        matcher.update(routes);
+
+        path = "/api/service-" + (routeCount - 1) + "/items/1";
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    @Benchmark
+    public Route hashMatcher() {
+        return matcher.match(path);
+    }
+
+    /**
+     * RoutePredicateHandlerMapping 기본 구현과 같은 방식으로 라우트 predicate를 순서대로 평가합니다.
+     */
+    @Benchmark
+    public Route predicateChain() {
+        return Flux.fromIterable(routes)
+                .filterWhen(route -> route.getPredicate().apply(exchange))
+                .next()
+                .block();
+    }
+}
@@ -0,0 +1,58 @@
+package com.cu2mber.gatewayservice.common.accesslog;
+
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+
+import java.net.URI;
+
+/**
+ * 액세스 로그 기록 하나를 담는 슬롯입니다.
+ * <p>
+ * {@link AccessLogRingBuffer}가 기동 시 미리 만들어 두고 계속 재사용하므로, 요청마다 객체를 할당하지 않습니다.
+ * 필드에는 요청 처리 중 이미 만들어진 객체의 참조만 담고, 문자열 변환과 JSON 직렬화는 기록 스레드가 수행합니다.
+ */
+final class AccessLogEntry {
+
+    /** 링 버퍼 슬롯 순번 (생산자/소비자 간 게시 신호) */
+    volatile long sequence;
+
+    /** 요청 완료 시각(epoch 밀리초) */
+    long timestampMillis;
+
+    /** 라우트 ID */
+    String routeId;
+
+    /** HTTP 메서드 */
+    String method;
+
+    /** 요청 경로 (쿼리 문자열 제외) */
+    String path;
+
+    /** 응답 상태 코드 */
+    int status;
+
+    /** 요청을 처리한 업스트림 URI (로드밸런싱 이후), 없으면 null */
+    URI upstream;
+
+    /** 인증 결과, 인증 필터를 거치지 않았으면 null */
+    String auth;
+
+    /** 응답 헤더 전송까지 걸린 시간(나노초), 알 수 없으면 -1 */
+    long ttfbNanos;
+
+    /** 전체 처리 시간(나노초) */
+    long durationNanos;
+
+    /** 구간별 처리 시간(나노초, Segment 순서), 기록되지 않은 구간은 -1 */
+    final long[] phaseNanos = new long[RequestTiming.Segment.values().length];
+
+    /**
+     * 기록한 뒤 참조를 비워 요청 객체가 슬롯에 남지 않도록 합니다.
+     */
+    void clear() {
+        routeId = null;
+        method = null;
+        path = null;
+        upstream = null;
+        auth = null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.cu2mber.gatewayservice.common.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 여러 생산자(이벤트 루프 스레드)와 하나의 소비자(기록 스레드) 사이에서 액세스 로그 기록을 전달하는 고정 크기 링 버퍼입니다.
+ * <p>
+ * 슬롯마다 순번을 두는 방식으로, 생산자는 CAS 한 번으로 슬롯을 차지하고 필드를 채운 뒤 순번을 갱신하여 게시합니다.
+ * 락을 잡거나 객체를 할당하지 않으며, 버퍼가 가득 차면 기다리지 않고 {@link #claim()}이 null을 반환합니다.
+ */
+final class AccessLogRingBuffer {
+
+    /** 미리 만들어 둔 슬롯 */
+    private final AccessLogEntry[] entries;
+
+    /** 인덱스 마스크 (크기 - 1) */
+    private final int mask;
+
+    /** 다음에 차지할 위치 (생산자 공유) */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** 다음에 읽을 위치 (소비자 전용) */
+    private long head;
+
+    /**
+     * AccessLogRingBuffer 생성자
+     *
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    AccessLogRingBuffer(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new AccessLogEntry[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new AccessLogEntry();
+            entries[i].sequence = i;
+        }
+    }
+
+    /**
+     * 기록할 슬롯을 차지합니다. 필드를 채운 뒤 반드시 {@link #publish(AccessLogEntry)}를 호출해야 합니다.
+     *
+     * @return 비어 있는 슬롯, 버퍼가 가득 찼으면 null
+     */
+    AccessLogEntry claim() {
+        long position = tail.get();
+        while (true) {
+            AccessLogEntry entry = entries[(int) position & mask];
+            long difference = entry.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return entry;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 채운 슬롯을 소비자에게 게시합니다.
+     *
+     * @param entry {@link #claim()}으로 차지한 슬롯
+     */
+    void publish(AccessLogEntry entry) {
+        entry.sequence = entry.sequence + 1;
+    }
+
+    /**
+     * 게시된 슬롯을 순서대로 최대 {@code max}개까지 처리하고 비웁니다. 소비자 스레드 하나에서만 호출해야 합니다.
+     *
+     * @param consumer 슬롯 처리 함수 (슬롯 참조를 보관하면 안 됨)
+     * @param max      최대 처리 수
+     * @return 처리한 수
+     */
+    int drain(Consumer<AccessLogEntry> consumer, int max) {
+        int drained = 0;
+        while (drained < max) {
+            AccessLogEntry entry = entries[(int) head & mask];
+            if (entry.sequence != head + 1) {
+                break;
+            }
+            try {
+                consumer.accept(entry);
+            } finally {
+                entry.clear();
+                entry.sequence = head + entries.length;
+                head++;
+                drained++;
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 게시되었지만 아직 처리하지 않은 슬롯이 있는지 확인합니다. 소비자 스레드에서만 호출해야 합니다.
+     *
+     * @return 처리할 슬롯이 있으면 true
+     */
+    boolean hasPublished() {
+        return entries[(int) head & mask].sequence == head + 1;
+    }
+
+    /**
+     * 버퍼 크기를 반환합니다.
+     *
+     * @return 슬롯 수
+     */
+    int capacity() {
+        return entries.length;
+    }
+}
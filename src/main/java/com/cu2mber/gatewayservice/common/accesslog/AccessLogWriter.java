@@ -0,0 +1,399 @@
+package com.cu2mber.gatewayservice.common.accesslog;
+
+import com.cu2mber.gatewayservice.common.config.AccessLogProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import io.micrometer.core.instrument.FunctionCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 액세스 로그 기록을 링 버퍼로 받아 백그라운드 스레드에서 JSON 한 줄씩 파일에 쓰는 클래스입니다.
+ * <p>
+ * 요청 스레드는 {@link #offer}로 미리 할당된 슬롯에 참조만 채워 넣고 바로 돌아가며, 파일 I/O와 문자열 변환은 하지 않습니다.
+ * 로그 한 줄에는 {@link RequestTiming}의 구간별 처리 시간(route, auth, lb, connect, upstream)도 함께 담습니다.
+ * 기록 스레드는 버퍼에서 최대 batch-size개씩 꺼내 재사용하는 출력 버퍼에 직렬화하고, 꺼낼 기록이 없을 때 한 번에 파일에 씁니다.
+ * 버퍼가 가득 차면 기록을 버리고 {@code gateway.access-log.records{result=dropped}}로 집계합니다.
+ * <p>
+ * 기록에는 요청 경로(쿼리 문자열 제외)와 인증 결과만 담기며, Authorization 헤더나 토큰은 받지도 쓰지도 않습니다.
+ * 웹 서버보다 먼저 시작하고 나중에 멈추도록({@link #PHASE}) 하여, 종료 시 남은 기록을 모두 쓰고 파일을 닫습니다.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter implements SmartLifecycle {
+
+    /** 라이프사이클 단계 (웹 서버 시작 전 시작, 웹 서버 종료 후 종료) */
+    public static final int PHASE = -1000;
+
+    /** 출력 버퍼 크기 */
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    /** 기록 하나에 쓸 요청 경로의 최대 길이 */
+    private static final int MAX_PATH_LENGTH = 2048;
+
+    /** 기록할 구간 목록 (total은 durationMs와 겹치므로 제외) */
+    private static final RequestTiming.Segment[] PHASES = {
+            RequestTiming.Segment.ROUTE, RequestTiming.Segment.AUTH, RequestTiming.Segment.LB,
+            RequestTiming.Segment.CONNECT, RequestTiming.Segment.UPSTREAM};
+
+    /** 종료 시 기록 스레드를 기다리는 최대 시간(밀리초) */
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    /** 액세스 로그 설정 */
+    private final AccessLogProperties properties;
+
+    /** 기록 대기 버퍼, 비활성화되어 있으면 null */
+    private final AccessLogRingBuffer ringBuffer;
+
+    /** 버퍼가 가득 차 버린 기록 수 */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** 파일에 쓴 기록 수 (기록 스레드만 갱신) */
+    private volatile long written;
+
+    /** 기록 스레드 */
+    private volatile Thread thread;
+
+    /** 실행 여부 */
+    private volatile boolean running;
+
+    /** 기록 스레드 전용: JSON 한 줄 */
+    private final StringBuilder line = new StringBuilder(512);
+
+    /** 기록 스레드 전용: 파일에 쓸 바이트 */
+    private final ByteBuffer output = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+
+    /** 기록 스레드 전용: UTF-8 인코더 */
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    /** 기록 스레드 전용: 현재 파일 */
+    private FileChannel channel;
+
+    /** 기록 스레드 전용: 현재 파일 크기 */
+    private long fileSize;
+
+    /**
+     * AccessLogWriter 생성자
+     *
+     * @param properties 액세스 로그 설정
+     * @param metrics    게이트웨이 공통 메트릭
+     */
+    public AccessLogWriter(AccessLogProperties properties, GatewayMetrics metrics) {
+        this.properties = properties;
+        this.ringBuffer = properties.isEnabled() ? new AccessLogRingBuffer(properties.getBufferSize()) : null;
+        if (ringBuffer != null) {
+            FunctionCounter.builder("gateway.access-log.records", this, writer -> writer.written)
+                    .description("액세스 로그 기록 수")
+                    .tag("result", "written")
+                    .register(metrics.getRegistry());
+            FunctionCounter.builder("gateway.access-log.records", dropped, AtomicLong::get)
+                    .description("액세스 로그 기록 수")
+                    .tag("result", "dropped")
+                    .register(metrics.getRegistry());
+        }
+    }
+
+    /**
+     * 액세스 로그 사용 여부를 반환합니다.
+     *
+     * @return 사용하면 true
+     */
+    public boolean isEnabled() {
+        return ringBuffer != null;
+    }
+
+    /**
+     * 기록 하나를 버퍼에 넣습니다. 블로킹하거나 객체를 할당하지 않습니다.
+     *
+     * @param routeId       라우트 ID
+     * @param method        HTTP 메서드
+     * @param path          요청 경로 (쿼리 문자열 제외)
+     * @param status        응답 상태 코드
+     * @param upstream      요청을 처리한 업스트림 URI, 없으면 null
+     * @param auth          인증 결과, 없으면 null
+     * @param ttfbNanos     응답 헤더 전송까지 걸린 시간(나노초), 알 수 없으면 -1
+     * @param durationNanos 전체 처리 시간(나노초)
+     * @param timing        요청 단계별 시각, 없으면 null
+     * @return 버퍼에 넣었으면 true, 비활성화되어 있거나 버퍼가 가득 찼으면 false
+     */
+    public boolean offer(String routeId, String method, String path, int status, URI upstream, String auth,
+                         long ttfbNanos, long durationNanos, RequestTiming timing) {
+        if (ringBuffer == null) {
+            return false;
+        }
+        AccessLogEntry entry = ringBuffer.claim();
+        if (entry == null) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        entry.timestampMillis = System.currentTimeMillis();
+        entry.routeId = routeId;
+        entry.method = method;
+        entry.path = path;
+        entry.status = status;
+        entry.upstream = upstream;
+        entry.auth = auth;
+        entry.ttfbNanos = ttfbNanos;
+        entry.durationNanos = durationNanos;
+        for (RequestTiming.Segment phase : PHASES) {
+            entry.phaseNanos[phase.ordinal()] = timing == null ? -1 : timing.duration(phase);
+        }
+        ringBuffer.publish(entry);
+        return true;
+    }
+
+    /**
+     * 버퍼가 가득 차 버린 기록 수를 반환합니다.
+     *
+     * @return 버린 기록 수
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * 파일에 쓴 기록 수를 반환합니다.
+     *
+     * @return 쓴 기록 수
+     */
+    public long getWrittenCount() {
+        return written;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        if (ringBuffer != null) {
+            thread = new Thread(this::run, "gateway-access-log");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        Thread current = thread;
+        if (current == null) {
+            return;
+        }
+        LockSupport.unpark(current);
+        try {
+            current.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 기록 스레드 본문. 종료 요청을 받으면 버퍼에 남은 기록을 모두 쓰고 파일을 닫습니다.
+     */
+    private void run() {
+        long idleNanos = properties.getFlushInterval().toNanos();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        try {
+            while (running) {
+                int drained = ringBuffer.drain(this::append, batchSize);
+                if (drained < batchSize) {
+                    flush();
+                }
+                if (drained == 0) {
+                    LockSupport.parkNanos(idleNanos);
+                }
+            }
+            while (ringBuffer.hasPublished()) {
+                ringBuffer.drain(this::append, batchSize);
+            }
+            flush();
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * 기록 하나를 JSON 한 줄로 직렬화하여 출력 버퍼에 추가합니다. 출력 버퍼가 부족하면 먼저 파일에 씁니다.
+     *
+     * @param entry 기록
+     */
+    private void append(AccessLogEntry entry) {
+        line.setLength(0);
+        line.append("{\"ts\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(entry.timestampMillis), line);
+        line.append('"');
+        appendString("route", entry.routeId);
+        appendString("method", entry.method);
+        appendString("path", entry.path);
+        line.append(",\"status\":").append(entry.status);
+        if (entry.upstream != null) {
+            line.append(",\"upstream\":\"");
+            appendEscaped(entry.upstream.getHost());
+            line.append(':').append(entry.upstream.getPort()).append('"');
+        }
+        appendString("auth", entry.auth);
+        if (entry.ttfbNanos >= 0) {
+            appendMillis("ttfbMs", entry.ttfbNanos);
+        }
+        appendMillis("durationMs", entry.durationNanos);
+        appendPhases(entry.phaseNanos);
+        line.append("}\n");
+
+        if (output.remaining() < line.length() * 3) {
+            flush();
+        }
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(line), output, true);
+        written++;
+    }
+
+    private void appendString(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        appendEscaped(value.length() > MAX_PATH_LENGTH ? value.substring(0, MAX_PATH_LENGTH) : value);
+        line.append('"');
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xf, 16));
+            } else {
+                line.append(c);
+            }
+        }
+    }
+
+    private void appendMillis(String name, long nanos) {
+        line.append(",\"").append(name).append("\":");
+        RequestTiming.appendMillis(line, nanos);
+    }
+
+    private void appendPhases(long[] phaseNanos) {
+        boolean first = true;
+        for (RequestTiming.Segment phase : PHASES) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos < 0) {
+                continue;
+            }
+            line.append(first ? ",\"phasesMs\":{\"" : ",\"").append(phase.label()).append("\":");
+            RequestTiming.appendMillis(line, nanos);
+            first = false;
+        }
+        if (!first) {
+            line.append('}');
+        }
+    }
+
+    /**
+     * 출력 버퍼의 내용을 파일에 씁니다. 파일이 최대 크기를 넘게 되면 먼저 파일을 교체합니다.
+     * 쓰기에 실패하면 해당 내용을 버리고 다음 쓰기에서 파일을 다시 엽니다.
+     */
+    private void flush() {
+        if (output.position() == 0) {
+            return;
+        }
+        output.flip();
+        try {
+            if (channel == null) {
+                openChannel();
+            }
+            if (fileSize > 0 && fileSize + output.remaining() > properties.getMaxFileSize().toBytes()) {
+                rotate();
+            }
+            while (output.hasRemaining()) {
+                fileSize += channel.write(output);
+            }
+        } catch (IOException e) {
+            log.warn("액세스 로그 쓰기 실패 - path: {}, message: {}", properties.getPath(), e.getMessage());
+            closeChannel();
+        } finally {
+            output.clear();
+        }
+    }
+
+    private void openChannel() throws IOException {
+        Path path = Path.of(properties.getPath()).toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    /**
+     * 현재 파일을 access.log.1로, access.log.1을 access.log.2로 밀어내고 새 파일을 엽니다.
+     * max-history를 넘는 가장 오래된 파일은 삭제됩니다.
+     */
+    private void rotate() throws IOException {
+        closeChannel();
+        Path path = Path.of(properties.getPath()).toAbsolutePath();
+        int maxHistory = Math.max(0, properties.getMaxHistory());
+        if (maxHistory == 0) {
+            Files.deleteIfExists(path);
+        } else {
+            Files.deleteIfExists(history(path, maxHistory));
+            for (int i = maxHistory - 1; i >= 1; i--) {
+                Path older = history(path, i);
+                if (Files.exists(older)) {
+                    Files.move(older, history(path, i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, history(path, 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        openChannel();
+    }
+
+    private static Path history(Path path, int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("액세스 로그 파일 닫기 실패 - message: {}", e.getMessage());
+        }
+        channel = null;
+        fileSize = 0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.cu2mber.gatewayservice.common.cache;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 업스트림 응답의 상태 코드, 헤더, 본문을 바이트 배열로 보관하는 불변 스냅샷입니다.
+ * <p>
+ * 응답 캐시, 동일 요청 병합 등 하나의 업스트림 응답을 여러 클라이언트 응답에 재사용할 때 사용합니다.
+ *
+ * @param statusCode HTTP 상태 코드
+ * @param headers    읽기 전용 응답 헤더 (hop-by-hop 헤더와 Content-Length 제외)
+ * @param body       응답 본문
+ */
+public record CachedResponse(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {
+
+    /** 저장하지 않는 hop-by-hop 및 길이 관련 헤더 */
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.CONNECTION, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONTENT_LENGTH,
+            "Keep-Alive", HttpHeaders.PROXY_AUTHENTICATE, HttpHeaders.TRAILER, HttpHeaders.UPGRADE);
+
+    /**
+     * 응답 헤더를 복사하여 스냅샷을 생성합니다.
+     *
+     * @param statusCode HTTP 상태 코드
+     * @param headers    원본 응답 헤더
+     * @param body       응답 본문
+     * @return 응답 스냅샷
+     */
+    public static CachedResponse of(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {
+        HttpHeaders copy = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return new CachedResponse(statusCode, HttpHeaders.readOnlyHttpHeaders(copy), body);
+    }
+
+    /**
+     * 스냅샷을 클라이언트 응답으로 씁니다.
+     *
+     * @param response 클라이언트 응답
+     * @return 쓰기 완료 신호
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(statusCode);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(body.length);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * 대략적인 메모리 사용량(바이트)을 반환합니다.
+     *
+     * @return 본문과 헤더 크기의 합
+     */
+    public int weight() {
+        int headerBytes = 0;
+        for (var header : headers.entrySet()) {
+            headerBytes += header.getKey().length();
+            for (String value : header.getValue()) {
+                headerBytes += value.length();
+            }
+        }
+        return body.length + headerBytes;
+    }
+}
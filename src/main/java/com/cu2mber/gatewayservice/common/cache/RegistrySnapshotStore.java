@@ -0,0 +1,273 @@
+package com.cu2mber.gatewayservice.common.cache;
+
+import com.cu2mber.gatewayservice.common.config.RegistrySnapshotProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 서비스 레지스트리(서비스 목록과 서비스별 인스턴스 목록) 스냅샷을 로컬 파일에 저장하고 읽는 저장소 클래스입니다.
+ * <p>
+ * 파일은 매직 넘버와 버전, 저장 시각 뒤에 서비스와 인스턴스(instanceId, host, port, secure, metadata)를
+ * DataOutputStream 형식으로 이어 쓴 바이너리입니다. 같은 디렉터리의 임시 파일에 쓰고 fsync한 뒤
+ * 원자적으로 이름을 바꾸므로, 기록 중 프로세스가 종료되어도 이전 스냅샷이나 새 스냅샷 중 하나만 남습니다.
+ * 내용이 마지막으로 저장한 스냅샷과 같으면 파일을 다시 쓰지 않지만, 레지스트리가 오래 바뀌지 않아도
+ * 스냅샷이 max-age를 넘지 않도록 저장 시각이 max-age의 절반보다 오래되면 같은 내용으로 다시 씁니다.
+ * <p>
+ * 읽기에 실패하거나(파일 없음, 손상, 버전 불일치) max-age보다 오래된 스냅샷은 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RegistrySnapshotStore {
+
+    /** 파일 형식 식별자 ("GWRS") */
+    private static final int MAGIC = 0x47575253;
+
+    /** 파일 형식 버전 */
+    private static final short VERSION = 1;
+
+    /** 스냅샷 설정 */
+    private final RegistrySnapshotProperties properties;
+
+    /** 스냅샷 파일 경로, 사용하지 않으면 null */
+    private final Path path;
+
+    /** 마지막으로 저장하거나 읽은 스냅샷 본문 (변경 여부 비교용) */
+    private byte[] lastBody = new byte[0];
+
+    /** 마지막으로 저장(또는 읽은) 스냅샷의 저장 시각(epoch 밀리초) */
+    private long lastSavedAtMillis;
+
+    /**
+     * RegistrySnapshotStore 생성자
+     *
+     * @param properties 스냅샷 설정
+     */
+    public RegistrySnapshotStore(RegistrySnapshotProperties properties) {
+        this.properties = properties;
+        this.path = properties.getPath() == null || properties.getPath().isBlank()
+                ? null
+                : Path.of(properties.getPath()).toAbsolutePath();
+    }
+
+    /**
+     * 스냅샷을 사용하지 않는 저장소를 생성합니다.
+     *
+     * @return 비활성화된 저장소
+     */
+    public static RegistrySnapshotStore disabled() {
+        return new RegistrySnapshotStore(new RegistrySnapshotProperties());
+    }
+
+    /**
+     * 스냅샷 사용 여부를 반환합니다.
+     *
+     * @return 스냅샷 파일 경로가 설정되어 있으면 true
+     */
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * 스냅샷 설정을 반환합니다.
+     *
+     * @return 스냅샷 설정
+     */
+    public RegistrySnapshotProperties getProperties() {
+        return properties;
+    }
+
+    /**
+     * 스냅샷 파일을 읽습니다.
+     *
+     * @return max-age 이내의 스냅샷, 없거나 사용할 수 없으면 빈 Optional
+     */
+    public synchronized Optional<Snapshot> load() {
+        if (path == null) {
+            return Optional.empty();
+        }
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("레지스트리 스냅샷 읽기 실패 - path: {}, message: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                log.warn("레지스트리 스냅샷 형식이 맞지 않아 사용하지 않습니다 - path: {}", path);
+                return Optional.empty();
+            }
+            Instant savedAt = Instant.ofEpochMilli(in.readLong());
+            Duration age = Duration.between(savedAt, Instant.now());
+            if (age.compareTo(properties.getMaxAge()) > 0) {
+                log.info("레지스트리 스냅샷이 max-age를 넘어 사용하지 않습니다 - age: {}", age);
+                return Optional.empty();
+            }
+            int bodyOffset = bytes.length - in.available();
+            Snapshot snapshot = readBody(in, savedAt);
+            lastBody = Arrays.copyOfRange(bytes, bodyOffset, bytes.length);
+            lastSavedAtMillis = savedAt.toEpochMilli();
+            return Optional.of(snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.warn("레지스트리 스냅샷이 손상되어 사용하지 않습니다 - path: {}, message: {}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 서비스 목록과 인스턴스 목록을 스냅샷 파일에 원자적으로 저장합니다.
+     * 서비스 목록에 없는 서비스의 인스턴스는 저장하지 않으며, 내용이 바뀌지 않았고
+     * 저장 시각이 max-age의 절반 이내이면 파일을 쓰지 않습니다.
+     *
+     * @param services  서비스 이름 목록
+     * @param instances 서비스 이름 → 인스턴스 목록
+     * @return 파일을 새로 썼으면 true
+     */
+    public synchronized boolean save(List<String> services, Map<String, List<ServiceInstance>> instances) {
+        if (path == null) {
+            return false;
+        }
+        try {
+            byte[] body = writeBody(services, instances);
+            long now = System.currentTimeMillis();
+            if (Arrays.equals(body, lastBody) && now - lastSavedAtMillis < properties.getMaxAge().toMillis() / 2) {
+                return false;
+            }
+
+            ByteArrayOutputStream header = new ByteArrayOutputStream(14);
+            try (DataOutputStream out = new DataOutputStream(header)) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(now);
+            }
+
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    ByteBuffer[] buffers = {ByteBuffer.wrap(header.toByteArray()), ByteBuffer.wrap(body)};
+                    while (buffers[1].hasRemaining()) {
+                        channel.write(buffers);
+                    }
+                    channel.force(true);
+                }
+                move(temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            lastBody = body;
+            lastSavedAtMillis = now;
+            return true;
+        } catch (IOException e) {
+            log.warn("레지스트리 스냅샷 저장 실패 - path: {}, message: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private void move(Path temp) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] writeBody(List<String> services, Map<String, List<ServiceInstance>> instances)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(services.size());
+            for (String service : services) {
+                List<ServiceInstance> list = instances.get(service);
+                out.writeUTF(service);
+                out.writeBoolean(list != null);
+                if (list == null) {
+                    continue;
+                }
+                out.writeInt(list.size());
+                for (ServiceInstance instance : list) {
+                    out.writeUTF(instance.getInstanceId() == null ? "" : instance.getInstanceId());
+                    out.writeUTF(instance.getHost());
+                    out.writeInt(instance.getPort());
+                    out.writeBoolean(instance.isSecure());
+                    Map<String, String> metadata = new TreeMap<>(instance.getMetadata());
+                    out.writeInt(metadata.size());
+                    for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        out.writeUTF(entry.getValue() == null ? "" : entry.getValue());
+                    }
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Snapshot readBody(DataInputStream in, Instant savedAt) throws IOException {
+        int serviceCount = in.readInt();
+        List<String> services = new ArrayList<>(serviceCount);
+        Map<String, List<ServiceInstance>> instances = new LinkedHashMap<>();
+        for (int i = 0; i < serviceCount; i++) {
+            String service = in.readUTF();
+            services.add(service);
+            if (!in.readBoolean()) {
+                continue;
+            }
+            int instanceCount = in.readInt();
+            List<ServiceInstance> list = new ArrayList<>(instanceCount);
+            for (int j = 0; j < instanceCount; j++) {
+                String instanceId = in.readUTF();
+                String host = in.readUTF();
+                int port = in.readInt();
+                boolean secure = in.readBoolean();
+                int metadataCount = in.readInt();
+                Map<String, String> metadata = new HashMap<>(metadataCount);
+                for (int k = 0; k < metadataCount; k++) {
+                    metadata.put(in.readUTF(), in.readUTF());
+                }
+                list.add(new DefaultServiceInstance(instanceId.isEmpty() ? null : instanceId,
+                        service, host, port, secure, metadata));
+            }
+            instances.put(service, List.copyOf(list));
+        }
+        return new Snapshot(savedAt, List.copyOf(services), instances);
+    }
+
+    /**
+     * 파일에서 읽은 레지스트리 스냅샷.
+     *
+     * @param savedAt   저장 시각
+     * @param services  서비스 이름 목록
+     * @param instances 서비스 이름 → 인스턴스 목록 (저장 시 조회된 서비스만 포함)
+     */
+    public record Snapshot(Instant savedAt, List<String> services, Map<String, List<ServiceInstance>> instances) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.cu2mber.gatewayservice.common.cache;
+
+import com.cu2mber.gatewayservice.common.config.ResponseCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게이트웨이 응답 캐시 저장소입니다.
+ * <p>
+ * 응답 본문은 바이트 배열로 보관하며, Caffeine의 weigher로 전체 메모리 예산(max-size)을 넘지 않도록 제한합니다.
+ * 각 항목은 업스트림 Cache-Control(또는 라우트 기본 TTL)로 계산한 만료 시각까지만 유지됩니다.
+ * <p>
+ * Vary 헤더가 있는 응답은 기본 키(라우트, 경로, 쿼리, subject)에 Vary로 지정된 요청 헤더 값을 덧붙인 키로 저장하고,
+ * 기본 키 → Vary 헤더 이름 목록을 별도로 기억하여 조회 시 같은 방식으로 키를 만듭니다.
+ */
+@Component
+public class ResponseCache {
+
+    /** 키 구분자 */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    /** 캐시 키 → 캐시 항목 */
+    private final Cache<String, Entry> entries;
+
+    /** 기본 키 → 응답의 Vary 헤더 이름 목록(소문자) */
+    private final Cache<String, List<String>> varyIndex;
+
+    /** 304 Not Modified로 응답한 횟수 */
+    private final LongAdder notModifiedCount = new LongAdder();
+
+    /**
+     * ResponseCache 생성자
+     *
+     * @param properties 응답 캐시 설정
+     */
+    public ResponseCache(ResponseCacheProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.response().weight())
+                .expireAfter(Expiry.creating((String key, Entry entry) ->
+                        Duration.ofNanos(Math.max(0, entry.expiresAtNanos() - System.nanoTime()))))
+                .recordStats()
+                .build();
+        this.varyIndex = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize().toBytes() / 1024 + 1)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    /**
+     * 요청에 해당하는 유효한 캐시 항목을 조회합니다.
+     *
+     * @param primaryKey     기본 키
+     * @param requestHeaders 요청 헤더 (Vary 처리용)
+     * @return 캐시 항목, 없으면 null
+     */
+    public Entry get(String primaryKey, HttpHeaders requestHeaders) {
+        List<String> vary = varyIndex.getIfPresent(primaryKey);
+        Entry entry = entries.getIfPresent(vary == null ? primaryKey : variantKey(primaryKey, vary, requestHeaders));
+        if (entry != null && entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 응답을 캐시에 저장합니다.
+     *
+     * @param primaryKey     기본 키
+     * @param requestHeaders 요청 헤더 (Vary 처리용)
+     * @param response       응답 스냅샷
+     * @param etag           응답 ETag
+     * @param ttl            유지 시간
+     */
+    public void put(String primaryKey, HttpHeaders requestHeaders, CachedResponse response, String etag,
+                    Duration ttl) {
+        List<String> vary = response.headers().getVary().stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .sorted()
+                .toList();
+        String key = primaryKey;
+        if (vary.isEmpty()) {
+            varyIndex.invalidate(primaryKey);
+        } else {
+            varyIndex.put(primaryKey, vary);
+            key = variantKey(primaryKey, vary, requestHeaders);
+        }
+        long now = System.nanoTime();
+        entries.put(key, new Entry(response, etag, now + ttl.toNanos(), System.currentTimeMillis()));
+    }
+
+    /**
+     * 304 응답 횟수를 1 증가시킵니다.
+     */
+    public void recordNotModified() {
+        notModifiedCount.increment();
+    }
+
+    /**
+     * 304 응답 횟수를 반환합니다.
+     *
+     * @return 304 응답 횟수
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.sum();
+    }
+
+    /**
+     * 캐시 적중/미스 통계를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats getStats() {
+        return entries.stats();
+    }
+
+    /**
+     * 현재 캐시가 사용하는 메모리(바이트, weigher 기준)를 반환합니다.
+     *
+     * @return 사용 중인 바이트 수
+     */
+    public long getWeightedSize() {
+        return entries.policy().eviction()
+                .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                .orElse(0L);
+    }
+
+    /**
+     * Vary 헤더로 지정된 요청 헤더 값을 기본 키에 덧붙인 키를 만듭니다.
+     *
+     * @param primaryKey     기본 키
+     * @param vary           Vary 헤더 이름 목록
+     * @param requestHeaders 요청 헤더
+     * @return 변형 키
+     */
+    private static String variantKey(String primaryKey, List<String> vary, HttpHeaders requestHeaders) {
+        StringBuilder key = new StringBuilder(primaryKey);
+        for (String name : vary) {
+            List<String> values = requestHeaders.get(name);
+            key.append(KEY_SEPARATOR).append(name).append('=');
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시 항목.
+     *
+     * @param response       응답 스냅샷
+     * @param etag           ETag (따옴표 포함)
+     * @param expiresAtNanos 만료 시각(System.nanoTime 기준)
+     * @param storedAtMillis 저장 시각(epoch 밀리초), Age 헤더 계산용
+     */
+    public record Entry(CachedResponse response, String etag, long expiresAtNanos, long storedAtMillis) {
+    }
+}
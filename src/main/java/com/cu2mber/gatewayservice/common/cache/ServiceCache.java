@@ -1,66 +1,303 @@
 package com.cu2mber.gatewayservice.common.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import jakarta.annotation.PostConstruct;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
- * 서비스 이름 목록을 캐싱하여 Eureka(DiscoveryClient) 조회를 최소화하는 캐시 서비스 클래스입니다.
+ * 서비스 이름 목록과 서비스별 인스턴스 목록을 캐싱하여 Eureka(DiscoveryClient) 조회를 최소화하는 캐시 서비스 클래스입니다.
  * <p>
- * 서비스 리스트는 TTL(Time-To-Live) 기반으로 갱신되며, 지정된 시간 이후 캐시가 만료되면
- * 다음 조회 시 DiscoveryClient에서 새로운 데이터를 가져옵니다.
+ * 캐시는 refresh-after-write 방식으로 동작합니다. TTL이 지난 항목을 조회하면 기존 값을 즉시 반환하고
+ * 백그라운드(boundedElastic 스케줄러)에서 DiscoveryClient를 다시 조회합니다(stale-while-revalidate).
+ * 따라서 요청 스레드(Netty 이벤트 루프)에서 레지스트리 호출을 기다리는 일이 없으며,
+ * 레지스트리가 느리거나 응답하지 않으면 마지막으로 조회에 성공한 값을 계속 제공합니다.
+ * 캐시 적중/미스 통계와 레지스트리 조회 시간은 GatewayMetrics로 노출합니다.
+ * <p>
+ * {@link RegistrySnapshotStore}가 활성화되어 있으면 조회에 성공한 목록을 스냅샷 파일로 저장하고,
+ * 기동 시 스냅샷을 캐시에 먼저 채운 뒤 레지스트리를 다시 조회합니다. 레지스트리에서 서비스 목록을 한 번이라도
+ * 받기 전까지는(스냅샷 max-age 이내) 빈 조회 결과를 실패로 처리하여 스냅샷 값을 유지합니다.
  */
+@Slf4j
 @Service
 public class ServiceCache {
 
+    /** 서비스 목록 캐시 이름 (메트릭 태그) */
+    private static final String SERVICES_CACHE_NAME = "services";
+
+    /** 인스턴스 목록 캐시 이름 (메트릭 태그) */
+    private static final String INSTANCES_CACHE_NAME = "instances";
+
+    /** 서비스 목록 캐시 키 */
+    private static final String SERVICES_KEY = "services";
+
+    /** 인스턴스 목록을 조회하지 않은 서비스를 캐시에서 제거하기까지의 TTL 배수 */
+    private static final long INSTANCE_IDLE_TTL_MULTIPLIER = 10;
+
     /** Eureka DiscoveryClient */
     private final DiscoveryClient discoveryClient;
 
-    /** 캐시 만료 시간(초 단위) */
+    /** 캐시 갱신 주기(초 단위) */
     private final long ttlSeconds;
 
-    /** 서비스 이름 목록을 저장하는 Caffeine 캐시 */
-    private Cache<String, List<String>> cache;
+    /** 레지스트리 조회 타임아웃(밀리초) */
+    private final long loadTimeoutMillis;
+
+    /** 캐시 통계와 조회 시간을 기록할 메트릭 */
+    private final GatewayMetrics metrics;
+
+    /** 레지스트리 스냅샷 저장소 */
+    private final RegistrySnapshotStore snapshotStore;
+
+    /** 마지막으로 조회에 성공한 서비스 목록 (스냅샷 저장용) */
+    private volatile List<String> lastGoodServices = List.of();
+
+    /** 마지막으로 조회에 성공한 서비스별 인스턴스 목록 (스냅샷 저장용) */
+    private final Map<String, List<ServiceInstance>> lastGoodInstances = new ConcurrentHashMap<>();
+
+    /** 스냅샷 저장 예약 여부 (연속된 변경을 한 번에 저장) */
+    private final AtomicBoolean saveScheduled = new AtomicBoolean();
+
+    /** 레지스트리에서 서비스 목록을 받은 적이 있는지 여부 */
+    private volatile boolean reconciled;
+
+    /** 복원한 스냅샷을 빈 조회 결과 대신 유지할 수 있는 기한(epoch 밀리초) */
+    private volatile long snapshotValidUntilMillis;
+
+    /** 레지스트리 조회를 수행할 Executor (이벤트 루프가 아닌 boundedElastic 스케줄러) */
+    private final Executor loadExecutor = runnable -> Schedulers.boundedElastic().schedule(runnable);
+
+    /** 서비스 이름 목록을 저장하는 Caffeine 비동기 캐시 */
+    private AsyncLoadingCache<String, List<String>> servicesCache;
+
+    /** 서비스 이름 → 인스턴스 목록을 저장하는 Caffeine 비동기 캐시 */
+    private AsyncLoadingCache<String, List<ServiceInstance>> instancesCache;
 
     /**
      * ServiceCache 생성자
      *
-     * @param discoveryClient Eureka에서 서비스 목록을 조회하기 위한 DiscoveryClient
-     * @param ttlSeconds      캐시의 만료 시간(초 단위), properties에서 주입 가능
+     * @param discoveryClient   Eureka에서 서비스 목록을 조회하기 위한 DiscoveryClient
+     * @param ttlSeconds        캐시의 갱신 주기(초 단위), properties에서 주입 가능
+     * @param loadTimeoutMillis 레지스트리 조회 타임아웃(밀리초), properties에서 주입 가능
+     * @param metrics           게이트웨이 공통 메트릭
+     * @param snapshotStore     레지스트리 스냅샷 저장소
      */
     public ServiceCache(DiscoveryClient discoveryClient,
-                        @Value("${gateway.cache.ttl-seconds:60}") long ttlSeconds) {
+                        @Value("${gateway.cache.ttl-seconds:60}") long ttlSeconds,
+                        @Value("${gateway.cache.load-timeout-ms:3000}") long loadTimeoutMillis,
+                        GatewayMetrics metrics,
+                        RegistrySnapshotStore snapshotStore) {
         this.discoveryClient = discoveryClient;
         this.ttlSeconds = ttlSeconds;
+        this.loadTimeoutMillis = loadTimeoutMillis;
+        this.metrics = metrics;
+        this.snapshotStore = snapshotStore;
     }
 
     /**
      * PostConstruct 초기화 메서드.
      * <p>
-     * Caffeine 캐시를 TTL 기반으로 초기화합니다.
+     * Caffeine 비동기 캐시를 refresh-after-write 기반으로 초기화하고 캐시 통계를 메트릭으로 등록한 뒤,
+     * 레지스트리 스냅샷이 있으면 캐시에 복원합니다.
      */
     @PostConstruct
     public void init() {
-        this.cache = Caffeine.newBuilder()
-                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
-                .build();
+        this.servicesCache = Caffeine.newBuilder()
+                .refreshAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .executor(loadExecutor)
+                .recordStats()
+                .buildAsync((key, executor) -> load(SERVICES_CACHE_NAME, this::loadServices, executor));
+
+        this.instancesCache = Caffeine.newBuilder()
+                .refreshAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .expireAfterAccess(ttlSeconds * INSTANCE_IDLE_TTL_MULTIPLIER, TimeUnit.SECONDS)
+                .executor(loadExecutor)
+                .recordStats()
+                .buildAsync((serviceId, executor) ->
+                        load(INSTANCES_CACHE_NAME, () -> loadInstances(serviceId), executor));
+
+        metrics.monitorCache(servicesCache, "gateway.service-cache." + SERVICES_CACHE_NAME);
+        metrics.monitorCache(instancesCache, "gateway.service-cache." + INSTANCES_CACHE_NAME);
+
+        restoreSnapshot();
     }
 
     /**
      * 서비스 이름 목록을 조회합니다.
      * <p>
-     * 캐시에 존재하지 않으면 DiscoveryClient에서 가져와 캐시에 저장하고 반환합니다.
+     * 캐시에 값이 있으면 갱신 여부와 관계없이 즉시 반환하고, 최초 조회 시에만 비동기 로딩을 기다립니다.
+     * 최초 조회가 실패하면 빈 목록을 반환합니다.
      *
      * @return Eureka에 등록된 서비스 이름 목록
      */
-    public List<String> getServices() {
-        return cache.get("services", k -> discoveryClient.getServices());
+    public Mono<List<String>> getServices() {
+        return Mono.fromFuture(() -> servicesCache.get(SERVICES_KEY))
+                .onErrorResume(e -> {
+                    log.warn("서비스 목록 조회 실패, 빈 목록을 사용합니다: {}", e.toString());
+                    return Mono.just(List.of());
+                });
+    }
+
+    /**
+     * 서비스의 인스턴스 목록을 조회합니다.
+     *
+     * @param serviceId 서비스 이름
+     * @return 서비스 인스턴스 목록
+     */
+    public Mono<List<ServiceInstance>> getInstances(String serviceId) {
+        return Mono.fromFuture(() -> instancesCache.get(serviceId))
+                .onErrorResume(e -> {
+                    log.warn("서비스 인스턴스 조회 실패({}), 빈 목록을 사용합니다: {}", serviceId, e.toString());
+                    return Mono.just(List.of());
+                });
+    }
+
+    /**
+     * 서비스 목록을 즉시 다시 조회합니다. 조회에 실패하면 기존 값을 유지합니다.
+     *
+     * @return 갱신된 서비스 이름 목록
+     */
+    public Mono<List<String>> refresh() {
+        return Mono.fromFuture(() -> servicesCache.synchronous().refresh(SERVICES_KEY))
+                .onErrorResume(e -> getServices());
+    }
+
+    /**
+     * Eureka 레지스트리가 갱신될 때마다(HeartbeatEvent) 서비스 목록과 조회 중인 인스턴스 목록을
+     * 백그라운드에서 갱신합니다.
+     *
+     * @param event Eureka 클라이언트가 레지스트리를 갱신할 때 발행하는 이벤트
+     */
+    @EventListener(HeartbeatEvent.class)
+    public void onHeartbeat(HeartbeatEvent event) {
+        servicesCache.synchronous().refresh(SERVICES_KEY);
+        instancesCache.synchronous().refreshAll(instancesCache.asMap().keySet());
+    }
+
+    /**
+     * 스냅샷 파일을 읽어 캐시를 채우고, 레지스트리와 맞추기 위해 백그라운드 갱신을 시작합니다.
+     */
+    private void restoreSnapshot() {
+        snapshotStore.load().ifPresent(snapshot -> {
+            servicesCache.put(SERVICES_KEY, CompletableFuture.completedFuture(snapshot.services()));
+            snapshot.instances().forEach((serviceId, instances) ->
+                    instancesCache.put(serviceId, CompletableFuture.completedFuture(instances)));
+            lastGoodServices = snapshot.services();
+            lastGoodInstances.putAll(snapshot.instances());
+            snapshotValidUntilMillis =
+                    snapshot.savedAt().plus(snapshotStore.getProperties().getMaxAge()).toEpochMilli();
+            log.info("레지스트리 스냅샷 복원 - savedAt: {}, services: {}",
+                    snapshot.savedAt(), snapshot.services().size());
+
+            servicesCache.synchronous().refresh(SERVICES_KEY);
+            instancesCache.synchronous().refreshAll(snapshot.instances().keySet());
+        });
+    }
+
+    /**
+     * 레지스트리에서 서비스 목록을 조회합니다. 조회에 성공하면 등록 해제된 서비스의 인스턴스 목록을 버리고
+     * 스냅샷 저장을 예약합니다.
+     *
+     * @return 서비스 이름 목록
+     */
+    private List<String> loadServices() {
+        List<String> services = discoveryClient.getServices();
+        if (services.isEmpty()) {
+            keepSnapshotIfValid();
+            return services;
+        }
+        reconciled = true;
+        lastGoodServices = services;
+        lastGoodInstances.keySet().retainAll(services);
+        scheduleSnapshotSave();
+        return services;
+    }
+
+    /**
+     * 레지스트리에서 서비스의 인스턴스 목록을 조회합니다. 조회에 성공하면 스냅샷 저장을 예약하고,
+     * 레지스트리와 맞춘 뒤 인스턴스가 없어진 서비스는 스냅샷 대상에서 제외합니다.
+     *
+     * @param serviceId 서비스 이름
+     * @return 서비스 인스턴스 목록
+     */
+    private List<ServiceInstance> loadInstances(String serviceId) {
+        List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+        if (instances.isEmpty()) {
+            keepSnapshotIfValid();
+            if (lastGoodInstances.remove(serviceId) != null) {
+                scheduleSnapshotSave();
+            }
+        } else {
+            lastGoodInstances.put(serviceId, instances);
+            scheduleSnapshotSave();
+        }
+        return instances;
+    }
+
+    /**
+     * 아직 레지스트리와 맞추지 못했고 복원한 스냅샷이 유효하면, 빈 조회 결과를 실패로 처리하여
+     * 캐시가 스냅샷 값을 유지하도록 합니다.
+     */
+    private void keepSnapshotIfValid() {
+        if (!reconciled && System.currentTimeMillis() < snapshotValidUntilMillis) {
+            throw new IllegalStateException("레지스트리 조회 결과가 비어 있어 스냅샷을 유지합니다.");
+        }
+    }
+
+    /**
+     * save-delay 후 마지막으로 조회에 성공한 목록을 스냅샷 파일로 저장하도록 예약합니다. 이미 예약되어 있으면 무시합니다.
+     */
+    private void scheduleSnapshotSave() {
+        if (!snapshotStore.isEnabled() || !saveScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(this::saveSnapshot,
+                snapshotStore.getProperties().getSaveDelay().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 마지막으로 조회에 성공한 서비스 목록과 인스턴스 목록을 스냅샷 파일로 저장합니다.
+     */
+    private void saveSnapshot() {
+        saveScheduled.set(false);
+        List<String> services = lastGoodServices;
+        if (!services.isEmpty()) {
+            snapshotStore.save(services, lastGoodInstances);
+        }
+    }
+
+    /**
+     * DiscoveryClient 호출을 Executor에서 실행하고 타임아웃을 적용합니다. 조회 시간은 성공/실패별로 기록합니다.
+     *
+     * @param cacheName 캐시 이름 (메트릭 태그)
+     * @param loader   DiscoveryClient 조회 함수
+     * @param executor 실행할 Executor
+     * @param <T>      조회 결과 타입
+     * @return 조회 결과 Future
+     */
+    private <T> CompletableFuture<T> load(String cacheName, Supplier<T> loader, Executor executor) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(loader, executor)
+                .orTimeout(loadTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) ->
+                        metrics.recordServiceCacheLoad(cacheName, System.nanoTime() - start, error == null));
     }
 }
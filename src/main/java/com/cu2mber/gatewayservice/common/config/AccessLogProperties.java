@@ -0,0 +1,50 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 액세스 로그 설정입니다.
+ * <p>
+ * 요청 하나마다 라우트, 상태 코드, 업스트림 인스턴스, 인증 결과, 지연 시간을 JSON 한 줄로 {@code path}에 기록합니다.
+ * 기록은 이벤트 루프가 아닌 백그라운드 스레드가 {@code flush-interval}마다 모아서 수행하며,
+ * 버퍼({@code buffer-size})가 가득 차면 기록을 버립니다.
+ * 파일이 {@code max-file-size}를 넘으면 {@code access.log.1}, {@code access.log.2} 순서로 밀어내고
+ * {@code max-history}개까지만 보관합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    /** 액세스 로그 사용 여부 */
+    private boolean enabled = false;
+
+    /** 액세스 로그 파일 경로 */
+    private String path = "logs/access.log";
+
+    /** 기록할 요청 비율 (0.0 ~ 1.0) */
+    private double sampleRate = 1.0;
+
+    /** 샘플링과 관계없이 4xx, 5xx 응답을 항상 기록할지 여부 */
+    private boolean alwaysLogErrors = true;
+
+    /** 파일 하나의 최대 크기 */
+    private DataSize maxFileSize = DataSize.ofMegabytes(100);
+
+    /** 보관할 이전 파일 수 */
+    private int maxHistory = 5;
+
+    /** 기록 대기 버퍼 크기 (2의 거듭제곱으로 올림) */
+    private int bufferSize = 16384;
+
+    /** 백그라운드 스레드가 한 번에 꺼내는 최대 기록 수 */
+    private int batchSize = 512;
+
+    /** 대기 중인 기록이 없을 때 다음 확인까지 쉬는 시간 */
+    private Duration flushInterval = Duration.ofMillis(200);
+}
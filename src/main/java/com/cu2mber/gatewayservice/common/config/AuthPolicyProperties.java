@@ -0,0 +1,95 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트와 경로별 인증 정책 설정입니다.
+ * <p>
+ * {@code gateway.auth.default-policy}가 모든 라우트에 적용되며,
+ * {@code gateway.auth.routes.{서비스명}}으로 라우트 기본 정책과 경로 패턴별 규칙을 지정할 수 있습니다.
+ * 경로 패턴은 "/api/{서비스명}" 프리픽스를 제거한 서비스 기준 경로이며, 여러 규칙이 일치하면 더 구체적인 패턴이 우선합니다.
+ * <p>
+ * 예시:
+ * <pre>
+ * gateway.auth.routes.member-service.rules[0].paths=/auth/login,/auth/signup,/health
+ * gateway.auth.routes.member-service.rules[0].policy=public
+ * gateway.auth.routes.product-service.rules[0].paths=/products/**
+ * gateway.auth.routes.product-service.rules[0].methods=GET
+ * gateway.auth.routes.product-service.rules[0].policy=optional
+ * gateway.auth.routes.admin-service.policy=role
+ * gateway.auth.routes.admin-service.roles=ADMIN
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.auth")
+public class AuthPolicyProperties {
+
+    /** 라우트별 설정이 없을 때 적용할 정책 */
+    private Policy defaultPolicy = Policy.REQUIRED;
+
+    /** 라우트(서비스명, 소문자) → 라우트 인증 설정 */
+    private Map<String, RouteAuth> routes = new LinkedHashMap<>();
+
+    /**
+     * 인증 정책.
+     */
+    public enum Policy {
+
+        /** 인증하지 않음 (토큰이 있어도 검증하지 않음) */
+        PUBLIC,
+
+        /** 토큰이 있을 때만 검증 */
+        OPTIONAL,
+
+        /** 유효한 토큰 필요 */
+        REQUIRED,
+
+        /** 유효한 토큰과 지정된 역할 중 하나 필요 */
+        ROLE
+    }
+
+    /**
+     * 라우트 하나의 인증 설정.
+     */
+    @Getter
+    @Setter
+    public static class RouteAuth {
+
+        /** 일치하는 규칙이 없을 때 적용할 정책, 없으면 default-policy */
+        private Policy policy;
+
+        /** policy가 ROLE일 때 허용할 역할 목록 */
+        private List<String> roles = new ArrayList<>();
+
+        /** 경로 패턴별 규칙 */
+        private List<Rule> rules = new ArrayList<>();
+    }
+
+    /**
+     * 경로 패턴별 인증 규칙.
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /** 경로 패턴 목록 (PathPattern 문법) */
+        private List<String> paths = new ArrayList<>();
+
+        /** 적용할 HTTP 메서드 목록, 비어 있으면 모든 메서드 */
+        private List<String> methods = new ArrayList<>();
+
+        /** 적용할 정책 */
+        private Policy policy = Policy.REQUIRED;
+
+        /** policy가 ROLE일 때 허용할 역할 목록 */
+        private List<String> roles = new ArrayList<>();
+    }
+}
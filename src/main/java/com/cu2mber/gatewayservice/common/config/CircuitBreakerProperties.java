@@ -0,0 +1,45 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 라우트별 서킷 브레이커 설정입니다.
+ * <p>
+ * {@code gateway.circuit-breaker.default-policy}가 모든 라우트에 적용되며,
+ * {@code gateway.circuit-breaker.routes.{서비스명}}으로 라우트별 설정을 덮어쓸 수 있습니다.
+ * failure-threshold가 0 이하인 라우트는 서킷 브레이커를 적용하지 않습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    /** 서킷 브레이커 사용 여부 */
+    private boolean enabled = true;
+
+    /** 라우트별 설정이 없을 때 적용할 정책 */
+    private Policy defaultPolicy = new Policy();
+
+    /** 라우트(서비스명, 소문자) → 정책 */
+    private Map<String, Policy> routes = new LinkedHashMap<>();
+
+    /**
+     * 서킷 브레이커 정책.
+     */
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /** 서킷을 열기까지의 연속 실패(5xx 응답, 연결 실패, 타임아웃) 횟수 */
+        private int failureThreshold = 20;
+
+        /** 서킷이 열린 뒤 시험 요청을 허용하기까지의 시간 */
+        private Duration openDuration = Duration.ofSeconds(10);
+    }
+}
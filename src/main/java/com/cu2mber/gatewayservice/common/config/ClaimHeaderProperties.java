@@ -0,0 +1,42 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검증된 JWT 클레임을 다운스트림 서비스에 전달할 헤더 설정입니다.
+ * <p>
+ * {@code gateway.claim-headers.headers}로 클레임 이름과 헤더 이름의 매핑을 정의하고,
+ * {@code gateway.claim-headers.routes.{서비스명}}으로 라우트별로 전달할 클레임을 선택합니다.
+ * 라우트 설정이 없으면 {@code default-claims}가 적용됩니다.
+ * <p>
+ * 예시:
+ * <pre>
+ * gateway.claim-headers.default-claims=sub
+ * gateway.claim-headers.routes.order-service=sub,roles,tenant,exp
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.claim-headers")
+public class ClaimHeaderProperties {
+
+    /** 클레임 이름 → 다운스트림 헤더 이름 매핑 */
+    private Map<String, String> headers = new LinkedHashMap<>(Map.of(
+            "sub", "X-User-Id",
+            "roles", "X-User-Roles",
+            "tenant", "X-Tenant-Id",
+            "exp", "X-Token-Expires"
+    ));
+
+    /** 라우트별 설정이 없을 때 전달할 클레임 목록 */
+    private List<String> defaultClaims = List.of("sub", "roles", "tenant", "exp");
+
+    /** 라우트(서비스명, 소문자) → 전달할 클레임 목록 */
+    private Map<String, List<String>> routes = new LinkedHashMap<>();
+}
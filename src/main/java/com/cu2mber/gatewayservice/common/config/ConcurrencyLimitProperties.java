@@ -0,0 +1,53 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 라우트별 적응형 동시 요청 수 제한(load shedding) 설정입니다.
+ * <p>
+ * 각 라우트의 동시 요청 한도는 initial-limit에서 시작하여 측정된 업스트림 응답 시간에 따라
+ * min-limit과 max-limit 사이에서 자동으로 조정됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /** 동시 요청 수 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 초기 한도 */
+    private int initialLimit = 50;
+
+    /** 최소 한도 */
+    private int minLimit = 5;
+
+    /** 최대 한도 */
+    private int maxLimit = 1000;
+
+    /** 새 한도를 반영하는 비율 (0~1, 클수록 빠르게 변함) */
+    private double smoothing = 0.2;
+
+    /** 장기 평균 대비 허용하는 응답 시간 증가 배수 (이 안에서는 한도를 줄이지 않음) */
+    private double rttTolerance = 1.5;
+
+    /** 장기 평균 응답 시간을 계산하는 표본 수 */
+    private int longWindow = 600;
+
+    /** 업스트림 실패 시 한도에 곱하는 값 */
+    private double backoffRatio = 0.9;
+
+    /** 우선 요청만 사용할 수 있도록 남겨 두는 한도 비율 (0~1) */
+    private double priorityReservedRatio = 0.2;
+
+    /**
+     * 우선 요청으로 취급할 역할(JWT roles 클레임) 목록.
+     * 비어 있으면 인증된(JWT가 검증된) 모든 요청을 우선 요청으로 취급합니다.
+     */
+    private List<String> priorityRoles = new ArrayList<>();
+}
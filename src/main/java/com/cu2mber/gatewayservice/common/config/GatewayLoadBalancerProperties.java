@@ -0,0 +1,98 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * lb:// 라우트의 인스턴스 선택 전략 설정입니다.
+ * <p>
+ * {@code gateway.loadbalancer.default-strategy}가 모든 서비스에 적용되며,
+ * {@code gateway.loadbalancer.services.{서비스명}.strategy}로 서비스별 전략을 덮어쓸 수 있습니다.
+ * 연속으로 실패한 인스턴스는 {@code gateway.loadbalancer.outlier} 설정에 따라 일정 시간 선택 대상에서 제외됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.loadbalancer")
+public class GatewayLoadBalancerProperties {
+
+    /** 서비스별 설정이 없을 때 적용할 전략 */
+    private Strategy defaultStrategy = Strategy.PEAK_EWMA;
+
+    /** 서비스(서비스명, 소문자) → 설정 */
+    private Map<String, ServiceOptions> services = new LinkedHashMap<>();
+
+    /** 응답 시간 EWMA의 감쇠 시간 (이 시간이 지나면 이전 측정값의 가중치가 약 1/e로 줄어듦) */
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    /** 연속 실패 인스턴스 제외(outlier ejection) 설정 */
+    private Outlier outlier = new Outlier();
+
+    /**
+     * 서비스에 적용할 전략을 반환합니다.
+     *
+     * @param serviceId 서비스 이름
+     * @return 인스턴스 선택 전략
+     */
+    public Strategy strategyFor(String serviceId) {
+        ServiceOptions options = services.get(serviceId.toLowerCase(Locale.ROOT));
+        return options == null || options.getStrategy() == null ? defaultStrategy : options.getStrategy();
+    }
+
+    /**
+     * 인스턴스 선택 전략.
+     */
+    public enum Strategy {
+
+        /** 처리 중인 요청 수 × 응답 시간 peak-EWMA가 작은 인스턴스 (두 후보 중 선택) */
+        PEAK_EWMA,
+
+        /** 순서대로 선택 */
+        ROUND_ROBIN,
+
+        /** 무작위 선택 */
+        RANDOM
+    }
+
+    /**
+     * 서비스별 설정.
+     */
+    @Getter
+    @Setter
+    public static class ServiceOptions {
+
+        /** 인스턴스 선택 전략 */
+        private Strategy strategy;
+    }
+
+    /**
+     * 연속 실패 인스턴스 제외 설정.
+     * <p>
+     * 5xx 응답, 연결 실패, 타임아웃이 연속으로 consecutive-failures번 발생한 인스턴스를 base-ejection-time 동안 제외하며,
+     * 다시 제외될 때마다 제외 시간을 두 배로 늘립니다(최대 max-ejection-time).
+     */
+    @Getter
+    @Setter
+    public static class Outlier {
+
+        /** 제외 기능 사용 여부 */
+        private boolean enabled = true;
+
+        /** 인스턴스를 제외하기까지의 연속 실패 횟수 */
+        private int consecutiveFailures = 5;
+
+        /** 처음 제외할 때의 제외 시간 */
+        private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+        /** 최대 제외 시간 */
+        private Duration maxEjectionTime = Duration.ofMinutes(5);
+
+        /** 서비스 인스턴스 중 동시에 제외할 수 있는 최대 비율(%) */
+        private int maxEjectionPercent = 50;
+    }
+}
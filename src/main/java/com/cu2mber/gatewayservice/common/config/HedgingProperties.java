@@ -0,0 +1,41 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 멱등 GET 요청의 헤지(hedged request) 설정입니다.
+ * <p>
+ * 헤지는 라우트별 opt-in이며, {@code gateway.hedging.routes}에 서비스명(소문자)을 나열하여 활성화합니다.
+ * 헤지 요청은 응답 본문을 메모리에 모은 뒤 전달하므로, 응답이 작은 조회 API에만 사용하는 것을 권장합니다.
+ * 본문이 {@code max-buffer-size}를 넘으면 헤지 결과를 버리고 기본 라우팅으로 다시 요청합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.hedging")
+public class HedgingProperties {
+
+    /** 헤지를 적용할 라우트(서비스명, 소문자) 목록 */
+    private List<String> routes = new ArrayList<>();
+
+    /** 최근 응답 시간의 이 백분위수(0~1)가 지나도 응답이 없으면 헤지 요청을 보냄 */
+    private double percentile = 0.95;
+
+    /** 헤지 요청을 보내기까지의 최소 대기 시간 */
+    private Duration minDelay = Duration.ofMillis(10);
+
+    /** 백분위수를 계산하기 전에 필요한 최소 응답 시간 표본 수 (그 전에는 헤지하지 않음) */
+    private int minSamples = 100;
+
+    /** 전체 요청 대비 헤지 요청의 최대 비율(%) */
+    private int budgetPercent = 10;
+
+    /** 헤지 대상 요청에서 메모리에 모을 수 있는 최대 응답 본문 크기 */
+    private DataSize maxBufferSize = DataSize.ofKilobytes(256);
+}
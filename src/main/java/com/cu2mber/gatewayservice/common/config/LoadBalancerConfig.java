@@ -0,0 +1,15 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import com.cu2mber.gatewayservice.common.loadbalancer.ServiceLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * lb:// 라우트의 로드밸런서 구성을 등록하는 설정 클래스입니다.
+ * <p>
+ * 모든 서비스에 ServiceCache 기반 인스턴스 목록과 설정된 전략(기본 peak-EWMA)의 로드밸런서를 사용합니다.
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = ServiceLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,57 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자(JWT subject, 없으면 클라이언트 IP)별 요청 속도 제한 설정입니다.
+ * <p>
+ * {@code gateway.rate-limit.default-limit}가 모든 라우트에 적용되며,
+ * {@code gateway.rate-limit.routes.{서비스명}}으로 라우트별 제한을 덮어쓸 수 있습니다.
+ * replenish-rate가 0 이하인 라우트는 속도 제한을 적용하지 않습니다.
+ * <p>
+ * 로드밸런서 뒤에 배치된 경우 {@code gateway.rate-limit.trusted-proxies}에 앞단 프록시 수를 지정해야
+ * X-Forwarded-For에서 실제 클라이언트 IP를 꺼내 사용합니다. 0이면 소켓의 원격 주소를 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    /** 속도 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 라우트별 설정이 없을 때 적용할 제한 */
+    private Limit defaultLimit = new Limit();
+
+    /** 라우트(서비스명, 소문자) → 제한 */
+    private Map<String, Limit> routes = new LinkedHashMap<>();
+
+    /** X-Forwarded-For를 신뢰할 앞단 프록시 수 (0이면 헤더를 무시하고 소켓 원격 주소 사용) */
+    private int trustedProxies = 0;
+
+    /** 메모리에 유지할 최대 버킷 수 */
+    private long maxKeys = 1_000_000;
+
+    /** 이 시간 동안 요청이 없는 버킷은 제거 */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 토큰 버킷 제한 값.
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /** 초당 채워지는 토큰 수 (허용 요청 수/초) */
+        private long replenishRate = 100;
+
+        /** 버킷 최대 용량 (순간적으로 허용되는 최대 요청 수) */
+        private long burstCapacity = 200;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 서비스 레지스트리 스냅샷 파일 설정입니다.
+ * <p>
+ * {@code path}를 지정하면 ServiceCache가 마지막으로 조회에 성공한 서비스/인스턴스 목록을 이 파일에 저장하고,
+ * 기동 시 {@code max-age}보다 오래되지 않은 스냅샷을 먼저 읽어 Eureka 응답 전에도 라우트를 만들 수 있게 합니다.
+ * path가 비어 있으면 스냅샷을 사용하지 않습니다.
+ * 컨테이너에서는 재시작 후에도 파일이 남도록 볼륨으로 마운트한 경로(기본 설정은 /var/lib/gateway-service)를 사용해야 합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.cache.snapshot")
+public class RegistrySnapshotProperties {
+
+    /** 스냅샷 파일 경로 (비어 있으면 사용하지 않음) */
+    private String path = "";
+
+    /** 기동 시 사용할 수 있는 스냅샷의 최대 나이 */
+    private Duration maxAge = Duration.ofHours(24);
+
+    /** 레지스트리 변경 후 스냅샷을 저장하기까지 기다리는 시간 (연속된 변경을 한 번에 저장) */
+    private Duration saveDelay = Duration.ofSeconds(1);
+}
@@ -0,0 +1,35 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동시에 들어온 동일한 GET 요청을 하나의 업스트림 호출로 병합(single-flight)하는 설정입니다.
+ * <p>
+ * 병합은 라우트별 opt-in이며, {@code gateway.coalescing.routes}에 서비스명(소문자)을 나열하여 활성화합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.coalescing")
+public class RequestCoalescingProperties {
+
+    /** 병합을 적용할 라우트(서비스명, 소문자) 목록 */
+    private List<String> routes = new ArrayList<>();
+
+    /**
+     * 병합 키에 포함할 요청 헤더.
+     * 서로 다른 사용자의 응답이 섞이지 않도록 Authorization과 Cookie는 항상 포함하는 것을 권장합니다.
+     */
+    private List<String> keyHeaders = new ArrayList<>(List.of(
+            HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE,
+            HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE));
+
+    /** 대기 중인 요청에 복사해 줄 수 있는 최대 응답 크기 (초과하면 대기 요청이 각자 업스트림을 호출) */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
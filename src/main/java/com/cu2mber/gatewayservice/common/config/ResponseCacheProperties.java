@@ -0,0 +1,48 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 멱등 GET 요청에 대한 게이트웨이 응답 캐시 설정입니다.
+ * <p>
+ * 캐시는 라우트별 opt-in이며, {@code gateway.response-cache.routes.{서비스명}.enabled=true}로 활성화합니다.
+ * 전체 캐시는 {@code max-size} 메모리 예산 안에서 유지됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    /** 캐시 전체 메모리 예산 (본문 + 헤더) */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /** 캐시할 수 있는 응답 하나의 최대 크기 */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+    /** 라우트(서비스명, 소문자) → 캐시 정책 */
+    private Map<String, RoutePolicy> routes = new LinkedHashMap<>();
+
+    /**
+     * 라우트별 캐시 정책.
+     */
+    @Getter
+    @Setter
+    public static class RoutePolicy {
+
+        /** 캐시 사용 여부 */
+        private boolean enabled = false;
+
+        /** 업스트림이 max-age를 보내지 않았을 때 적용할 TTL (0이면 max-age가 있는 응답만 캐시) */
+        private Duration defaultTtl = Duration.ZERO;
+
+        /** 캐시 키에 JWT subject를 포함할지 여부 (true면 Cache-Control: private 응답도 사용자별로 캐시) */
+        private boolean keyBySubject = false;
+    }
+}
@@ -0,0 +1,39 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게이트웨이 응답 압축 설정입니다.
+ * <p>
+ * 클라이언트가 Accept-Encoding으로 gzip을 허용하고, 응답의 Content-Type이 {@code mime-types}에 포함되며,
+ * Content-Length가 {@code min-response-size} 이상(또는 알 수 없음)인 응답을 압축합니다.
+ * {@code excluded-routes}에 포함된 라우트는 압축하지 않습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.compression")
+public class ResponseCompressionProperties {
+
+    /** 응답 압축 사용 여부 */
+    private boolean enabled = true;
+
+    /** 압축할 최소 응답 크기 (Content-Length 기준) */
+    private DataSize minResponseSize = DataSize.ofKilobytes(1);
+
+    /** 압축 수준 (1: 빠름 ~ 9: 높은 압축률) */
+    private int level = 6;
+
+    /** 압축할 Content-Type 목록 */
+    private List<String> mimeTypes = new ArrayList<>(List.of(
+            "application/json", "application/*+json", "application/xml", "application/javascript",
+            "text/html", "text/plain", "text/css", "text/xml"));
+
+    /** 압축하지 않을 라우트(서비스명, 소문자) 목록 */
+    private List<String> excludedRoutes = new ArrayList<>();
+}
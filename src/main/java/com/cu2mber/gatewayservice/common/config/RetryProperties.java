@@ -0,0 +1,51 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 업스트림 호출 재시도 설정입니다.
+ * <p>
+ * {@code gateway.retry.default-policy}가 모든 라우트에 적용되며,
+ * {@code gateway.retry.routes.{서비스명}}으로 라우트별 설정을 덮어쓸 수 있습니다.
+ * max-retries가 0 이하인 라우트는 재시도하지 않습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.retry")
+public class RetryProperties {
+
+    /** 재시도 사용 여부 */
+    private boolean enabled = true;
+
+    /** 성공한 요청 대비 재시도의 최대 비율(%), 게이트웨이 전체에 적용 */
+    private int budgetPercent = 20;
+
+    /** 라우트별 설정이 없을 때 적용할 정책 */
+    private Policy defaultPolicy = new Policy();
+
+    /** 라우트(서비스명, 소문자) → 정책 */
+    private Map<String, Policy> routes = new LinkedHashMap<>();
+
+    /**
+     * 재시도 정책.
+     */
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /** 요청 하나의 최대 재시도 횟수 */
+        private int maxRetries = 2;
+
+        /** 첫 재시도 전 대기 시간 (재시도마다 두 배로 늘어남) */
+        private Duration firstBackoff = Duration.ofMillis(50);
+
+        /** 재시도 전 최대 대기 시간 */
+        private Duration maxBackoff = Duration.ofSeconds(1);
+    }
+}
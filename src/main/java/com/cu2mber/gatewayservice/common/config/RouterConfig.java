@@ -1,12 +1,28 @@
 package com.cu2mber.gatewayservice.common.config;
 
 import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.filter.AdaptiveConcurrencyFilter;
+import com.cu2mber.gatewayservice.common.filter.CircuitBreakerFilter;
+import com.cu2mber.gatewayservice.common.filter.HedgingFilter;
 import com.cu2mber.gatewayservice.common.filter.JwtAuthorizationFilter;
+import com.cu2mber.gatewayservice.common.filter.RateLimitFilter;
+import com.cu2mber.gatewayservice.common.filter.RequestCoalescingFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCacheFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCompressionFilter;
+import com.cu2mber.gatewayservice.common.filter.RetryFilter;
+import com.cu2mber.gatewayservice.common.route.ServiceRouteLocator;
+import com.cu2mber.gatewayservice.common.route.ServiceRouteMatcher;
+import com.cu2mber.gatewayservice.common.route.ServiceRoutePredicateHandlerMapping;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.filter.factory.StripPrefixGatewayFilterFactory;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
 import org.springframework.cloud.gateway.route.RouteLocator;
-import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * Spring Cloud Gateway의 동적 라우팅 설정을 담당하는 구성 클래스입니다.
@@ -21,32 +37,84 @@ public class RouterConfig {
     /** JWT 인증 필터 */
     private final JwtAuthorizationFilter jwtAuthorizationFilter;
 
+    /** 사용자별 속도 제한 필터 */
+    private final RateLimitFilter rateLimitFilter;
+
+    /** 응답 압축 필터 */
+    private final ResponseCompressionFilter responseCompressionFilter;
+
+    /** 응답 캐시 필터 */
+    private final ResponseCacheFilter responseCacheFilter;
+
+    /** 동일 요청 병합 필터 */
+    private final RequestCoalescingFilter requestCoalescingFilter;
+
+    /** 적응형 동시 요청 수 제한 필터 */
+    private final AdaptiveConcurrencyFilter adaptiveConcurrencyFilter;
+
+    /** 라우트별 서킷 브레이커 필터 */
+    private final CircuitBreakerFilter circuitBreakerFilter;
+
+    /** 업스트림 호출 재시도 필터 */
+    private final RetryFilter retryFilter;
+
+    /** 헤지 요청 필터 */
+    private final HedgingFilter hedgingFilter;
+
     /** Eureka에서 가져온 서비스 리스트 캐시 */
     private final ServiceCache serviceCache;
 
     /**
-     * Eureka에서 조회한 서비스 리스트를 기반으로 동적 라우트를 생성합니다.
+     * Eureka에서 조회한 서비스 리스트를 기반으로 동적 라우트를 제공하는 RouteLocator를 생성합니다.
      * <p>
      * 각 서비스에 대해 "/api/{서비스명}/**" 경로로 들어오는 요청을 처리하며,
-     * JWT 인증 필터를 적용하고, 경로 프리픽스 2단계를 제거(stripPrefix(2)) 후
-     * 서비스명으로 로드밸런싱(lb://{서비스명})합니다.
+     * JWT 인증 필터와 속도 제한 필터, 응답 압축 필터, (opt-in) 응답 캐시 및 동일 요청 병합 필터,
+     * 동시 요청 수 제한 및 서킷 브레이커 필터, 재시도 필터, (opt-in) 헤지 요청 필터를 적용하고,
+     * 경로 프리픽스 2단계를 제거(stripPrefix(2)) 후 서비스명으로 로드밸런싱(lb://{서비스명})합니다.
+     * 라우트 목록은 RefreshRoutesEvent마다 ServiceCache 기준으로 갱신되므로,
+     * 게이트웨이 기동 이후 등록된 서비스도 재배포 없이 라우팅됩니다.
      *
-     * @param builder RouteLocatorBuilder 인스턴스
+     * @param stripPrefixFactory   StripPrefix 필터 팩토리
+     * @param pathPredicateFactory Path predicate 팩토리
      * @return 구성된 RouteLocator
      */
     @Bean
-    public RouteLocator dynamicRoutes(RouteLocatorBuilder builder) {
-        RouteLocatorBuilder.Builder routes = builder.routes();
-
-        // Eureka에서 가져온 서비스 리스트 기반 동적 라우트
-        serviceCache.getServices().forEach(serviceName -> {
-            routes.route(serviceName, r -> r
-                    .path("/api/" + serviceName.toLowerCase() + "/**")
-                    .filters(f -> f.stripPrefix(2).filter(jwtAuthorizationFilter))
-                    .uri("lb://" + serviceName)
-            );
-        });
-
-        return routes.build();
+    public RouteLocator dynamicRoutes(StripPrefixGatewayFilterFactory stripPrefixFactory,
+                                      PathRoutePredicateFactory pathPredicateFactory) {
+        return new ServiceRouteLocator(serviceCache, jwtAuthorizationFilter, rateLimitFilter,
+                responseCompressionFilter, responseCacheFilter, requestCoalescingFilter, adaptiveConcurrencyFilter,
+                circuitBreakerFilter, retryFilter, hedgingFilter, stripPrefixFactory, pathPredicateFactory);
+    }
+
+    /**
+     * 서비스 라우트를 경로 세그먼트 해시 조회로 찾는 매처를 생성합니다.
+     *
+     * @return ServiceRouteMatcher
+     */
+    @Bean
+    public ServiceRouteMatcher serviceRouteMatcher() {
+        return new ServiceRouteMatcher();
+    }
+
+    /**
+     * 기본 RoutePredicateHandlerMapping 대신 서비스 라우트를 해시 조회로 먼저 찾는 HandlerMapping을 등록합니다.
+     * <p>
+     * "/api/{서비스명}/**" 요청의 라우트 조회 비용이 등록된 서비스 수와 무관하게 일정해집니다.
+     *
+     * @param webHandler           Gateway FilteringWebHandler
+     * @param routeLocator         라우트 목록 (CachingRouteLocator)
+     * @param globalCorsProperties 전역 CORS 설정
+     * @param environment          Spring Environment
+     * @param serviceRouteMatcher  서비스 라우트 매처
+     * @return RoutePredicateHandlerMapping
+     */
+    @Bean
+    public RoutePredicateHandlerMapping serviceRoutePredicateHandlerMapping(FilteringWebHandler webHandler,
+                                                                            RouteLocator routeLocator,
+                                                                            GlobalCorsProperties globalCorsProperties,
+                                                                            Environment environment,
+                                                                            ServiceRouteMatcher serviceRouteMatcher) {
+        return new ServiceRoutePredicateHandlerMapping(webHandler, routeLocator, globalCorsProperties, environment,
+                serviceRouteMatcher);
     }
 }
@@ -0,0 +1,27 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Server-Timing 응답 헤더 설정입니다.
+ * <p>
+ * 요청에 {@code opt-in-header}가 있거나 {@code sample-rate} 비율로 선택된 요청의 응답에
+ * 단계별 처리 시간(route, auth, lb, connect, upstream, total)을 Server-Timing 헤더로 붙입니다.
+ * 단계별 시간 측정과 메트릭, 액세스 로그 기록은 이 설정과 관계없이 항상 수행됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.server-timing")
+public class ServerTimingProperties {
+
+    /** Server-Timing 헤더 사용 여부 */
+    private boolean enabled = true;
+
+    /** 헤더를 요청하는 요청 헤더 이름 (값과 관계없이 있으면 헤더를 붙임) */
+    private String optInHeader = "X-Gateway-Timing";
+
+    /** 요청하지 않아도 헤더를 붙일 요청 비율 (0.0 ~ 1.0) */
+    private double sampleRate = 0.0;
+}
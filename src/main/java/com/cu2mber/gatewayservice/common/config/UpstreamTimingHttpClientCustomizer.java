@@ -0,0 +1,35 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientInfos;
+
+/**
+ * 게이트웨이 HttpClient에 업스트림 요청 전송 시각과 응답 헤더 수신 시각을 기록하는 훅을 붙이는 설정 클래스입니다.
+ * <p>
+ * HttpClient 훅에서는 exchange를 받을 수 없으므로, RequestTimingFilter가 Reactor Context에 넣어 둔
+ * {@link RequestTiming}을 찾아 기록합니다. 게이트웨이 요청이 아닌 호출(예열 등)은 Context에 없으므로 기록하지 않습니다.
+ */
+@Component
+public class UpstreamTimingHttpClientCustomizer implements HttpClientCustomizer {
+
+    /**
+     * 요청 전송(커넥션 획득 이후)과 응답 헤더 수신 시점에 시각을 기록하도록 HttpClient를 설정합니다.
+     *
+     * @param httpClient 게이트웨이 HttpClient
+     * @return 훅이 추가된 HttpClient
+     */
+    @Override
+    public HttpClient customize(HttpClient httpClient) {
+        return httpClient
+                .doOnRequest((request, connection) -> mark(request, RequestTiming.Mark.REQUEST_SENT))
+                .doOnResponse((response, connection) -> mark(response, RequestTiming.Mark.RESPONSE_RECEIVED));
+    }
+
+    private static void mark(HttpClientInfos infos, RequestTiming.Mark mark) {
+        infos.currentContextView().<RequestTiming>getOrEmpty(RequestTiming.class)
+                .ifPresent(timing -> timing.mark(mark));
+    }
+}
@@ -0,0 +1,37 @@
+package com.cu2mber.gatewayservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 기동 직후 예열(warm-up) 단계 설정입니다.
+ * <p>
+ * 예열은 Eureka 등록과 readiness 전환 이전에 실행되며, 각 단계는 {@code step-timeout} 안에 끝나지 않으면
+ * 건너뛰고 다음 단계로 진행합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.warmup")
+public class WarmupProperties {
+
+    /** 예열 사용 여부 */
+    private boolean enabled = true;
+
+    /** 단계 하나의 최대 실행 시간 */
+    private Duration stepTimeout = Duration.ofSeconds(10);
+
+    /** 업스트림 인스턴스마다 미리 열어 둘 커넥션 수 (0이면 커넥션 예열을 하지 않음) */
+    private int connectionsPerInstance = 4;
+
+    /** 커넥션 예열 요청을 보낼 업스트림 경로 */
+    private String connectionPath = "/actuator/health";
+
+    /** JWT 검증 예열 반복 횟수 */
+    private int jwtIterations = 2000;
+
+    /** 에러 응답 렌더링 예열 반복 횟수 */
+    private int errorRenderIterations = 5000;
+}
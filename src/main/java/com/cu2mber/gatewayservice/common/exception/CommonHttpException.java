@@ -36,4 +36,19 @@ public class CommonHttpException extends RuntimeException{
         super(message, cause);
         this.statusCode = statusCode;
     }
+
+    /**
+     * 스택 트레이스 기록 여부를 지정하여 예외를 생성합니다.
+     * <p>
+     * 인증 실패처럼 빈번하게 발생하고 발생 위치가 명확한 예외는 스택 트레이스를 기록하지 않아
+     * 예외 생성 비용을 줄일 수 있습니다. 스택 트레이스를 기록하지 않는 경우 suppressed 예외도 비활성화됩니다.
+     *
+     * @param statusCode         HTTP 상태 코드
+     * @param message            예외 메시지
+     * @param writableStackTrace 스택 트레이스 기록 여부
+     */
+    protected CommonHttpException(final int statusCode, final String message, final boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.statusCode = statusCode;
+    }
 }
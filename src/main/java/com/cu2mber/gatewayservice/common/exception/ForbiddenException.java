@@ -0,0 +1,23 @@
+package com.cu2mber.gatewayservice.common.exception;
+
+/**
+ * 인증은 되었지만 요청한 자원에 접근할 권한이 없을 때 발생하는 예외 클래스입니다.
+ * <p>
+ * HTTP 상태 코드 403(Forbidden)과 함께 메시지를 전달하며,
+ * 주로 라우트 인증 정책이 요구하는 역할이 토큰에 없을 때 사용됩니다.
+ * 원인이 메시지로 충분히 표현되므로 스택 트레이스를 기록하지 않습니다.
+ */
+public class ForbiddenException extends CommonHttpException {
+
+    /** 고정된 HTTP 상태 코드 403 */
+    private static final int HTTP_STATUS_CODE = 403;
+
+    /**
+     * 예외 메시지를 지정하여 ForbiddenException을 생성합니다.
+     *
+     * @param message 예외 메시지
+     */
+    public ForbiddenException(String message) {
+        super(HTTP_STATUS_CODE, message, false);
+    }
+}
@@ -0,0 +1,31 @@
+package com.cu2mber.gatewayservice.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 속도 제한을 초과했을 때 발생하는 예외 클래스입니다.
+ * <p>
+ * HTTP 상태 코드 429(Too Many Requests)와 함께 다시 시도할 수 있을 때까지의 시간(초)을 전달하며,
+ * GlobalExceptionHandler가 이를 Retry-After 헤더로 응답합니다.
+ * 속도 제한 초과는 대량으로 발생할 수 있으므로 스택 트레이스를 기록하지 않습니다.
+ */
+@Getter
+public class TooManyRequestsException extends CommonHttpException {
+
+    /** 고정된 HTTP 상태 코드 429 */
+    private static final int HTTP_STATUS_CODE = 429;
+
+    /** 다시 시도할 수 있을 때까지의 시간(초) */
+    private final long retryAfterSeconds;
+
+    /**
+     * 예외 메시지와 재시도 대기 시간을 지정하여 TooManyRequestsException을 생성합니다.
+     *
+     * @param message           예외 메시지
+     * @param retryAfterSeconds 다시 시도할 수 있을 때까지의 시간(초)
+     */
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(HTTP_STATUS_CODE, message, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
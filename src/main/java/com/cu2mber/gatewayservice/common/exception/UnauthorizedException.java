@@ -7,6 +7,8 @@ package com.cu2mber.gatewayservice.common.exception;
  * 주로 인증 실패나 토큰 검증 실패 시 사용됩니다.
  * <p>
  * CommonHttpException을 상속하여 HTTP 상태 코드와 메시지를 함께 제공.
+ * <p>
+ * 인증 실패는 대량으로 발생할 수 있고 원인이 메시지로 충분히 표현되므로 스택 트레이스를 기록하지 않습니다.
  */
 public class UnauthorizedException extends CommonHttpException{
 
@@ -19,6 +21,6 @@ public class UnauthorizedException extends CommonHttpException{
      * @param message 예외 메시지
      */
     public UnauthorizedException(String message) {
-        super(HTTP_STATUS_CODE, message);
+        super(HTTP_STATUS_CODE, message, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.accesslog.AccessLogWriter;
+import com.cu2mber.gatewayservice.common.config.AccessLogProperties;
+import com.cu2mber.gatewayservice.common.exception.CommonHttpException;
+import com.cu2mber.gatewayservice.common.filter.JwtAuthorizationFilter.AuthOutcome;
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 라우팅된 요청마다 액세스 로그 기록을 {@link AccessLogWriter}에 넘기는 글로벌 필터 클래스입니다.
+ * <p>
+ * 라우트, 메서드, 경로(쿼리 문자열 제외), 상태 코드, 업스트림 인스턴스, 인증 결과,
+ * 응답 헤더 전송까지의 시간, 전체 처리 시간, {@link RequestTiming}의 구간별 처리 시간을 기록합니다.
+ * 요청 헤더와 쿼리 문자열은 기록하지 않으므로 토큰이 로그에 남지 않습니다.
+ * <p>
+ * {@code sample-rate} 비율의 요청만 기록하며, {@code always-log-errors}가 켜져 있으면 4xx, 5xx 응답은 항상 기록합니다.
+ * 클라이언트가 연결을 끊은 요청은 상태 코드 499로 기록합니다.
+ */
+@Component
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    /** 필터 순서 (RouteMetricsFilter 다음, 모든 라우트 필터 이전) */
+    public static final int ORDER = RouteMetricsFilter.ORDER + 1;
+
+    /** 클라이언트가 연결을 끊은 요청의 상태 코드 */
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    /** 라우트가 없는 요청의 라우트 ID */
+    private static final String UNKNOWN_ROUTE = "unknown";
+
+    /** 액세스 로그 설정 */
+    private final AccessLogProperties properties;
+
+    /** 액세스 로그 기록기 */
+    private final AccessLogWriter writer;
+
+    /**
+     * AccessLogFilter 생성자
+     *
+     * @param properties 액세스 로그 설정
+     * @param writer     액세스 로그 기록기
+     */
+    public AccessLogFilter(AccessLogProperties properties, AccessLogWriter writer) {
+        this.properties = properties;
+        this.writer = writer;
+    }
+
+    /**
+     * 요청 처리가 끝나면 결과를 액세스 로그에 기록합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!writer.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        long[] committedAt = {-1};
+        exchange.getResponse().beforeCommit(() -> {
+            committedAt[0] = System.nanoTime();
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .doOnSuccess(v -> record(exchange, status(exchange.getResponse().getStatusCode()),
+                        start, committedAt[0]))
+                .doOnError(e -> record(exchange, status(e), start, committedAt[0]))
+                .doOnCancel(() -> record(exchange, CLIENT_CLOSED_REQUEST, start, committedAt[0]));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private void record(ServerWebExchange exchange, int status, long start, long committedAt) {
+        long now = System.nanoTime();
+        if (!sampled(status)) {
+            return;
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        AuthOutcome auth = exchange.getAttribute(JwtAuthorizationFilter.AUTH_OUTCOME_ATTR);
+        writer.offer(route == null ? UNKNOWN_ROUTE : route.getId().toLowerCase(Locale.ROOT),
+                request.getMethod().name(),
+                request.getPath().value(),
+                status,
+                requestUrl == null || "lb".equals(requestUrl.getScheme()) ? null : requestUrl,
+                auth == null ? null : auth.value(),
+                committedAt < 0 ? -1 : committedAt - start,
+                now - start,
+                exchange.getAttribute(RequestTiming.ATTR));
+    }
+
+    private boolean sampled(int status) {
+        if (properties.isAlwaysLogErrors() && status >= 400) {
+            return true;
+        }
+        double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static int status(HttpStatusCode status) {
+        return status == null ? HttpStatus.OK.value() : status.value();
+    }
+
+    private static int status(Throwable error) {
+        if (error instanceof CommonHttpException commonEx) {
+            return commonEx.getStatusCode();
+        }
+        if (error instanceof ResponseStatusException responseStatusEx) {
+            return responseStatusEx.getStatusCode().value();
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+}
@@ -0,0 +1,263 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.ConcurrencyLimitProperties;
+import com.cu2mber.gatewayservice.common.exception.CommonHttpException;
+import com.cu2mber.gatewayservice.common.exception.ServiceUnavailableException;
+import io.jsonwebtoken.Claims;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트별 동시 요청 수를 업스트림 응답 시간에 맞춰 자동으로 조정하고, 한도를 넘는 요청을 즉시 거절하는 필터 클래스입니다.
+ * <p>
+ * 한도는 gradient 방식으로 조정합니다. 장기 평균 응답 시간과 방금 측정한 응답 시간의 비율(gradient)이
+ * 1보다 작아지면(업스트림이 느려지면) 한도를 그 비율만큼 줄이고, 응답 시간이 안정적이면 조금씩 늘립니다.
+ * 연결 실패, 타임아웃, 5xx 응답은 한도에 backoff-ratio를 곱해 빠르게 줄입니다.
+ * <p>
+ * 한도에 도달하면 대기열에 넣지 않고 ServiceUnavailableException(503)으로 즉시 거절하며,
+ * GlobalExceptionHandler는 미리 직렬화된 본문으로 응답하므로 거절 비용이 작습니다.
+ * 한도의 priority-reserved-ratio만큼은 우선 요청(인증된 요청 또는 priority-roles 역할을 가진 요청)만 사용할 수 있습니다.
+ * <p>
+ * 응답 캐시 적중이나 병합된 요청은 업스트림을 호출하지 않으므로 세지 않으며, 거절이 서킷 브레이커의 실패로
+ * 집계되지 않도록 서킷 브레이커보다 먼저({@link #ORDER}) 실행됩니다. 따라서 중첩 순서는
+ * 동시 요청 수 제한 → 서킷 브레이커 → 재시도 → 로드밸런서이며, 서킷 브레이커와 재시도는 한도 안에서 실행됩니다.
+ */
+@Component
+public class AdaptiveConcurrencyFilter implements GatewayFilter, Ordered {
+
+    /** 필터 순서 (NettyWriteResponseFilter 다음, 서킷 브레이커 바로 앞) */
+    public static final int ORDER = CircuitBreakerFilter.ORDER - 1;
+
+    /** 한도 초과 시 응답 메시지 */
+    private static final String OVERLOADED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    /** 역할 클레임 이름 */
+    private static final String ROLES_CLAIM = "roles";
+
+    /** 동시 요청 수 제한 설정 */
+    private final ConcurrencyLimitProperties properties;
+
+    /** 라우트 ID → 한도 */
+    private final Map<String, RouteLimiter> limiters = new ConcurrentHashMap<>();
+
+    /** 한도 초과로 거절한 요청 수 */
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * AdaptiveConcurrencyFilter 생성자
+     *
+     * @param properties 동시 요청 수 제한 설정
+     */
+    public AdaptiveConcurrencyFilter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 라우트의 동시 요청 한도 안이면 요청을 전달하고 응답 시간을 한도 조정에 반영하며, 한도를 넘으면 503으로 거절합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        RouteLimiter limiter = limiters.computeIfAbsent(routeId, id -> new RouteLimiter(properties));
+
+        if (!limiter.tryAcquire(isPriority(exchange))) {
+            rejectedCount.increment();
+            return Mono.error(new ServiceUnavailableException(OVERLOADED_MESSAGE, 1));
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(v -> limiter.release(System.nanoTime() - start,
+                        isServerError(exchange.getResponse().getStatusCode())))
+                .doOnError(e -> {
+                    if (e instanceof CommonHttpException) {
+                        limiter.releaseWithoutSample();
+                    } else {
+                        limiter.release(System.nanoTime() - start, true);
+                    }
+                })
+                .doOnCancel(limiter::releaseWithoutSample);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * 라우트의 현재 동시 요청 한도를 반환합니다.
+     *
+     * @param routeId 라우트 ID
+     * @return 한도, 아직 요청이 없던 라우트는 초기 한도
+     */
+    public int getLimit(String routeId) {
+        RouteLimiter limiter = limiters.get(routeId.toLowerCase(Locale.ROOT));
+        return limiter == null ? properties.getInitialLimit() : limiter.limit;
+    }
+
+    /**
+     * 한도 초과로 거절한 요청 수를 반환합니다.
+     *
+     * @return 거절한 요청 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 우선 요청인지 확인합니다. priority-roles가 비어 있으면 인증된 요청 전체가 우선 요청입니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @return 우선 요청 여부
+     */
+    private boolean isPriority(ServerWebExchange exchange) {
+        Claims claims = exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR);
+        if (claims == null) {
+            return false;
+        }
+        List<String> priorityRoles = properties.getPriorityRoles();
+        if (priorityRoles.isEmpty()) {
+            return true;
+        }
+        Object roles = claims.get(ROLES_CLAIM);
+        if (roles instanceof Collection<?> collection) {
+            return collection.stream().anyMatch(role -> priorityRoles.contains(String.valueOf(role)));
+        }
+        if (roles instanceof String value) {
+            for (String role : value.split(",")) {
+                if (priorityRoles.contains(role.trim())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isServerError(HttpStatusCode status) {
+        return status != null && status.is5xxServerError();
+    }
+
+    /**
+     * 라우트 하나의 적응형 동시 요청 한도.
+     */
+    static final class RouteLimiter {
+
+        private final ConcurrencyLimitProperties properties;
+
+        /** 처리 중인 요청 수 */
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /** 현재 한도 (정수, 요청 경로에서 락 없이 읽음) */
+        private volatile int limit;
+
+        /** 조정 중인 한도 (소수) */
+        private double estimatedLimit;
+
+        /** 장기 평균 응답 시간(나노초), 0이면 측정 전 */
+        private double longRttNanos;
+
+        RouteLimiter(ConcurrencyLimitProperties properties) {
+            this.properties = properties;
+            this.estimatedLimit = properties.getInitialLimit();
+            this.limit = properties.getInitialLimit();
+        }
+
+        /**
+         * 한도 안이면 처리 중인 요청 수를 늘리고 허용합니다.
+         * 일반 요청은 우선 요청용으로 남겨 둔 몫을 제외한 한도까지만 사용할 수 있습니다.
+         *
+         * @param priority 우선 요청 여부
+         * @return 허용 여부
+         */
+        boolean tryAcquire(boolean priority) {
+            int currentLimit = limit;
+            int capacity = priority
+                    ? currentLimit
+                    : Math.max(1, (int) (currentLimit * (1 - properties.getPriorityReservedRatio())));
+            while (true) {
+                int current = inFlight.get();
+                if (current >= capacity) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 요청 완료를 기록하고 응답 시간으로 한도를 조정합니다.
+         *
+         * @param rttNanos 응답 시간(나노초)
+         * @param dropped  업스트림 실패 여부
+         */
+        void release(long rttNanos, boolean dropped) {
+            int current = inFlight.getAndDecrement();
+            onSample(rttNanos, current, dropped);
+        }
+
+        /**
+         * 한도 조정 없이 요청 완료만 기록합니다 (게이트웨이에서 거절되었거나 취소된 요청).
+         */
+        void releaseWithoutSample() {
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * 응답 시간 표본으로 한도를 조정합니다.
+         *
+         * @param rttNanos 응답 시간(나노초)
+         * @param inFlightAtCompletion 완료 시점의 처리 중인 요청 수
+         * @param dropped  업스트림 실패 여부
+         */
+        synchronized void onSample(long rttNanos, int inFlightAtCompletion, boolean dropped) {
+            double newLimit;
+            if (dropped) {
+                newLimit = estimatedLimit * properties.getBackoffRatio();
+            } else {
+                double rtt = Math.max(1, rttNanos);
+                if (longRttNanos == 0) {
+                    longRttNanos = rtt;
+                } else {
+                    longRttNanos += (rtt - longRttNanos) / properties.getLongWindow();
+                }
+                if (longRttNanos / rtt > 2) {
+                    // 응답 시간이 크게 줄어든 경우 장기 평균이 빨리 따라오도록 감쇠
+                    longRttNanos *= 0.95;
+                }
+                if (inFlightAtCompletion * 2 < estimatedLimit) {
+                    // 한도의 절반도 쓰지 않는 동안에는 측정값이 한도를 반영하지 않으므로 늘리지 않음
+                    return;
+                }
+                double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / rtt));
+                double queueSize = Math.sqrt(estimatedLimit);
+                newLimit = estimatedLimit * gradient + queueSize;
+                newLimit = estimatedLimit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+            }
+            estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+            limit = (int) estimatedLimit;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 응답 본문을 클라이언트로 스트리밍하면서 동시에 바이트 배열로 복사하는 응답 데코레이터입니다.
+ * <p>
+ * 본문 전체가 최대 크기 이하로 끝까지 전달되면 {@link #onCaptured(HttpHeaders, byte[])}를 호출하고,
+ * 크기를 넘거나 복사 대상이 아니면 {@link #onSkipped()}를 호출합니다.
+ * <p>
+ * 헤더는 writeWith 시점에 복사해 두므로, 바깥쪽 데코레이터(응답 압축 등)가 이후에 바꾼
+ * Content-Encoding, Vary, ETag 등은 복사한 본문과 섞이지 않습니다.
+ * 응답 캐시와 동일 요청 병합처럼 업스트림 응답을 재사용하는 필터가 공통으로 사용합니다.
+ */
+abstract class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    /** 복사할 수 있는 최대 본문 크기 */
+    private final long maxBytes;
+
+    /**
+     * CapturingResponseDecorator 생성자
+     *
+     * @param delegate 원본 응답
+     * @param maxBytes 복사할 수 있는 최대 본문 크기
+     */
+    CapturingResponseDecorator(ServerHttpResponse delegate, long maxBytes) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 상태 코드와 헤더가 정해진 시점에 본문을 복사할지 결정합니다.
+     *
+     * @return 복사 여부
+     */
+    protected abstract boolean shouldCapture();
+
+    /**
+     * 본문 전체가 복사되었을 때 호출됩니다.
+     *
+     * @param headers 본문 쓰기를 시작한 시점의 응답 헤더 복사본
+     * @param body    응답 본문
+     */
+    protected abstract void onCaptured(HttpHeaders headers, byte[] body);
+
+    /**
+     * 본문을 복사하지 않기로 했거나 최대 크기를 넘었을 때 호출됩니다.
+     */
+    protected void onSkipped() {
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (!shouldCapture() || getHeaders().getContentLength() > maxBytes) {
+            onSkipped();
+            return super.writeWith(body);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(getHeaders());
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        boolean[] overflow = new boolean[1];
+        Flux<? extends DataBuffer> tee = Flux.from(body)
+                .doOnNext(buffer -> {
+                    int readable = buffer.readableByteCount();
+                    if (overflow[0] || captured.size() + readable > maxBytes) {
+                        overflow[0] = true;
+                        return;
+                    }
+                    int position = buffer.readPosition();
+                    byte[] bytes = new byte[readable];
+                    buffer.read(bytes);
+                    buffer.readPosition(position);
+                    captured.write(bytes, 0, readable);
+                })
+                .doOnComplete(() -> {
+                    if (overflow[0]) {
+                        onSkipped();
+                    } else {
+                        onCaptured(headers, captured.toByteArray());
+                    }
+                });
+        return super.writeWith(tee);
+    }
+}
@@ -0,0 +1,248 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.CircuitBreakerProperties;
+import com.cu2mber.gatewayservice.common.exception.CommonHttpException;
+import com.cu2mber.gatewayservice.common.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라우트별 서킷 브레이커 필터 클래스입니다.
+ * <p>
+ * 라우트의 업스트림 호출이 연속으로 실패(5xx 응답, 연결 실패, 타임아웃)하면 서킷을 열고,
+ * 열린 동안에는 업스트림을 호출하지 않고 ServiceUnavailableException(503, Retry-After)으로 즉시 거절합니다.
+ * open-duration이 지나면 요청 하나만 시험 삼아 통과시키고(half-open), 성공하면 서킷을 닫고 실패하면 다시 엽니다.
+ * <p>
+ * 상태는 라우트마다 원자 변수로만 관리하므로 정상 상태(closed)의 요청 경로에는 락이 없습니다.
+ * 응답 캐시 적중이나 병합된 요청은 업스트림을 호출하지 않으므로, 그 필터들 다음({@link #ORDER})에 실행합니다.
+ */
+@Slf4j
+@Component
+public class CircuitBreakerFilter implements GatewayFilter, Ordered {
+
+    /** 필터 순서 (응답 캐시, 요청 병합, NettyWriteResponseFilter, 동시 요청 수 제한 다음, 로드밸런서 이전) */
+    public static final int ORDER = 1;
+
+    /** 서킷이 열렸을 때 응답 메시지 */
+    private static final String CIRCUIT_OPEN_MESSAGE = "서비스를 일시적으로 사용할 수 없습니다.";
+
+    /** 1초(나노초) */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** 서킷 브레이커 설정 */
+    private final CircuitBreakerProperties properties;
+
+    /** 라우트 ID → 서킷 */
+    private final Map<String, RouteCircuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * CircuitBreakerFilter 생성자
+     *
+     * @param properties 서킷 브레이커 설정
+     */
+    public CircuitBreakerFilter(CircuitBreakerProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 서킷이 열려 있으면 503으로 거절하고, 아니면 요청을 전달한 뒤 결과를 서킷에 반영합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        RouteCircuit circuit = circuits.computeIfAbsent(routeId, this::createCircuit);
+        if (circuit == RouteCircuit.DISABLED) {
+            return chain.filter(exchange);
+        }
+
+        long now = System.nanoTime();
+        Permit permit = circuit.tryAcquire(now);
+        if (permit == Permit.REJECTED) {
+            long retryAfterSeconds = Math.max(1, (circuit.remainingOpenNanos(now) + NANOS_PER_SECOND - 1)
+                    / NANOS_PER_SECOND);
+            return Mono.error(new ServiceUnavailableException(CIRCUIT_OPEN_MESSAGE, retryAfterSeconds));
+        }
+        boolean trial = permit == Permit.TRIAL;
+        return chain.filter(exchange)
+                .doOnSuccess(v -> circuit.onResult(isServerError(exchange.getResponse().getStatusCode()), trial,
+                        System.nanoTime(), routeId))
+                .doOnError(e -> circuit.onResult(isUpstreamFailure(e), trial, System.nanoTime(), routeId))
+                .doOnCancel(() -> circuit.onCancel(trial));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * 라우트의 서킷이 열려 있는지 확인합니다 (half-open 포함).
+     *
+     * @param routeId 라우트 ID
+     * @return 열림 여부
+     */
+    public boolean isOpen(String routeId) {
+        RouteCircuit circuit = circuits.get(routeId.toLowerCase(Locale.ROOT));
+        return circuit != null && circuit.state.get() != RouteCircuit.CLOSED;
+    }
+
+    private RouteCircuit createCircuit(String routeId) {
+        CircuitBreakerProperties.Policy policy = properties.getRoutes()
+                .getOrDefault(routeId, properties.getDefaultPolicy());
+        if (policy.getFailureThreshold() <= 0) {
+            return RouteCircuit.DISABLED;
+        }
+        return new RouteCircuit(policy.getFailureThreshold(), policy.getOpenDuration().toNanos());
+    }
+
+    private static boolean isServerError(HttpStatusCode status) {
+        return status != null && status.is5xxServerError();
+    }
+
+    /**
+     * 예외가 업스트림 장애에 해당하는지 확인합니다. 게이트웨이가 발생시킨 4xx 예외는 제외합니다.
+     *
+     * @param error 예외
+     * @return 업스트림 장애 여부
+     */
+    private static boolean isUpstreamFailure(Throwable error) {
+        return !(error instanceof CommonHttpException commonEx) || commonEx.getStatusCode() >= 500;
+    }
+
+    /**
+     * 요청 허용 결과.
+     */
+    enum Permit {
+
+        /** 서킷이 닫혀 있어 허용 */
+        ALLOWED,
+
+        /** half-open 상태의 시험 요청으로 허용 */
+        TRIAL,
+
+        /** 서킷이 열려 있어 거절 */
+        REJECTED
+    }
+
+    /**
+     * 라우트 하나의 서킷 상태.
+     */
+    static final class RouteCircuit {
+
+        static final int CLOSED = 0;
+        static final int OPEN = 1;
+        static final int HALF_OPEN = 2;
+
+        /** 서킷 브레이커를 적용하지 않는 라우트 */
+        static final RouteCircuit DISABLED = new RouteCircuit(0, 0);
+
+        private final int failureThreshold;
+        private final long openDurationNanos;
+        private final AtomicInteger state = new AtomicInteger(CLOSED);
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicBoolean trialInFlight = new AtomicBoolean();
+        private volatile long openUntilNanos;
+
+        RouteCircuit(int failureThreshold, long openDurationNanos) {
+            this.failureThreshold = failureThreshold;
+            this.openDurationNanos = openDurationNanos;
+        }
+
+        /**
+         * 요청을 허용할지 결정합니다. 열린 시간이 지났으면 half-open으로 전환하고 시험 요청 하나만 허용합니다.
+         *
+         * @param now 현재 시각(System.nanoTime)
+         * @return 허용 결과
+         */
+        Permit tryAcquire(long now) {
+            int current = state.get();
+            if (current == CLOSED) {
+                return Permit.ALLOWED;
+            }
+            if (current == OPEN) {
+                if (openUntilNanos - now > 0) {
+                    return Permit.REJECTED;
+                }
+                state.compareAndSet(OPEN, HALF_OPEN);
+            }
+            return trialInFlight.compareAndSet(false, true) ? Permit.TRIAL : Permit.REJECTED;
+        }
+
+        /**
+         * 요청 결과를 반영합니다.
+         *
+         * @param failure 실패 여부
+         * @param trial   시험 요청 여부
+         * @param now     현재 시각(System.nanoTime)
+         * @param routeId 라우트 ID (로그용)
+         */
+        void onResult(boolean failure, boolean trial, long now, String routeId) {
+            if (trial) {
+                if (failure) {
+                    open(now);
+                    log.warn("서킷 시험 요청 실패, 다시 엽니다: {}", routeId);
+                } else {
+                    consecutiveFailures.set(0);
+                    state.set(CLOSED);
+                    log.info("서킷을 닫습니다: {}", routeId);
+                }
+                trialInFlight.set(false);
+                return;
+            }
+            if (!failure) {
+                if (consecutiveFailures.get() != 0) {
+                    consecutiveFailures.set(0);
+                }
+                return;
+            }
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == CLOSED) {
+                openUntilNanos = now + openDurationNanos;
+                if (state.compareAndSet(CLOSED, OPEN)) {
+                    log.warn("연속 {}회 실패로 서킷을 엽니다: {}", failureThreshold, routeId);
+                }
+            }
+        }
+
+        /**
+         * 요청이 취소되었을 때 시험 요청 슬롯을 반환합니다.
+         *
+         * @param trial 시험 요청 여부
+         */
+        void onCancel(boolean trial) {
+            if (trial) {
+                trialInFlight.set(false);
+            }
+        }
+
+        long remainingOpenNanos(long now) {
+            return Math.max(0, openUntilNanos - now);
+        }
+
+        private void open(long now) {
+            openUntilNanos = now + openDurationNanos;
+            state.set(OPEN);
+        }
+    }
+}
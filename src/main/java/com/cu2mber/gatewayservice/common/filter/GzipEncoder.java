@@ -0,0 +1,187 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 본문 청크를 gzip 형식으로 스트리밍 압축하는 인코더입니다.
+ * <p>
+ * 입력 청크를 바이트 배열로 복사하지 않고 {@link Deflater}에 ByteBuffer로 직접 넘기며,
+ * 출력은 응답의 {@link DataBufferFactory}(Netty 환경에서는 풀링된 버퍼)에서 할당한 버퍼에 바로 씁니다.
+ * 출력 버퍼가 가득 찰 때마다 내보내므로 본문 전체를 모으지 않습니다.
+ * <p>
+ * 응답 하나에 인스턴스 하나를 사용하며, 취소와 완료가 다른 스레드에서 겹칠 수 있어 메서드를 동기화합니다.
+ * 사용이 끝나면 반드시 {@link #close()}로 네이티브 메모리와 남은 버퍼를 해제해야 합니다.
+ */
+final class GzipEncoder {
+
+    /** gzip 헤더 (deflate, 플래그 없음, 수정 시각 없음, OS 알 수 없음) */
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    /** gzip 트레일러 크기 (CRC32 + 원본 크기) */
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    /** 출력 버퍼 하나의 크기 */
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    /** 출력 버퍼 팩토리 */
+    private final DataBufferFactory bufferFactory;
+
+    /** deflate 압축기 (gzip 헤더와 트레일러는 직접 기록) */
+    private final Deflater deflater;
+
+    /** 원본 데이터의 CRC32 */
+    private final CRC32 crc = new CRC32();
+
+    /** 아직 내보내지 않은 출력 버퍼 */
+    private DataBuffer current;
+
+    /** 압축 전 크기(바이트) */
+    private long inputBytes;
+
+    /** 압축 후 크기(바이트, 헤더와 트레일러 포함) */
+    private long outputBytes;
+
+    /** 압축에 사용한 시간(나노초) */
+    private long elapsedNanos;
+
+    /** 해제 여부 */
+    private boolean closed;
+
+    /**
+     * GzipEncoder 생성자
+     *
+     * @param bufferFactory 출력 버퍼 팩토리
+     * @param level         압축 수준 (1 ~ 9)
+     */
+    GzipEncoder(DataBufferFactory bufferFactory, int level) {
+        this.bufferFactory = bufferFactory;
+        this.deflater = new Deflater(level, true);
+    }
+
+    /**
+     * 입력 청크를 압축하고, 가득 찬 출력 버퍼를 반환합니다. 입력 청크는 해제됩니다.
+     *
+     * @param input 입력 청크
+     * @return 내보낼 출력 버퍼 목록 (대부분 비어 있음)
+     */
+    synchronized List<DataBuffer> encode(DataBuffer input) {
+        try {
+            if (closed) {
+                return List.of();
+            }
+            long start = System.nanoTime();
+            List<DataBuffer> out = new ArrayList<>(1);
+            inputBytes += input.readableByteCount();
+            try (DataBuffer.ByteBufferIterator iterator = input.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    crc.update(chunk.duplicate());
+                    deflater.setInput(chunk);
+                    while (!deflater.needsInput()) {
+                        deflate(out);
+                    }
+                }
+            }
+            elapsedNanos += System.nanoTime() - start;
+            return out;
+        } finally {
+            DataBufferUtils.release(input);
+        }
+    }
+
+    /**
+     * 남은 데이터와 gzip 트레일러를 기록하고, 마지막 출력 버퍼들을 반환합니다.
+     *
+     * @return 내보낼 출력 버퍼 목록
+     */
+    synchronized List<DataBuffer> finish() {
+        if (closed) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        List<DataBuffer> out = new ArrayList<>(2);
+        deflater.finish();
+        while (!deflater.finished()) {
+            deflate(out);
+        }
+        if (current().writableByteCount() < GZIP_TRAILER_SIZE) {
+            emit(out);
+        }
+        writeIntLe(current(), (int) crc.getValue());
+        writeIntLe(current(), (int) inputBytes);
+        emit(out);
+        elapsedNanos += System.nanoTime() - start;
+        return out;
+    }
+
+    /**
+     * 압축기와 내보내지 않은 출력 버퍼를 해제합니다. 여러 번 호출해도 안전합니다.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        deflater.end();
+        if (current != null) {
+            DataBufferUtils.release(current);
+            current = null;
+        }
+    }
+
+    synchronized long getInputBytes() {
+        return inputBytes;
+    }
+
+    synchronized long getOutputBytes() {
+        return outputBytes;
+    }
+
+    synchronized long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    private void deflate(List<DataBuffer> out) {
+        DataBuffer buffer = current();
+        if (buffer.writableByteCount() == 0) {
+            emit(out);
+            buffer = current();
+        }
+        int written;
+        try (DataBuffer.ByteBufferIterator iterator = buffer.writableByteBuffers()) {
+            written = deflater.deflate(iterator.next());
+        }
+        buffer.writePosition(buffer.writePosition() + written);
+    }
+
+    private DataBuffer current() {
+        if (current == null) {
+            current = bufferFactory.allocateBuffer(OUTPUT_BUFFER_SIZE);
+            if (outputBytes == 0) {
+                current.write(GZIP_HEADER);
+            }
+        }
+        return current;
+    }
+
+    private void emit(List<DataBuffer> out) {
+        outputBytes += current.readableByteCount();
+        out.add(current);
+        current = null;
+    }
+
+    private static void writeIntLe(DataBuffer buffer, int value) {
+        buffer.write((byte) value);
+        buffer.write((byte) (value >>> 8));
+        buffer.write((byte) (value >>> 16));
+        buffer.write((byte) (value >>> 24));
+    }
+}
@@ -0,0 +1,445 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.cache.CachedResponse;
+import com.cu2mber.gatewayservice.common.config.HedgingProperties;
+import com.cu2mber.gatewayservice.common.loadbalancer.ExcludedInstances;
+import com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 멱등 GET 요청이 최근 응답 시간의 백분위수 안에 응답하지 않으면 같은 서비스의 다른 인스턴스로
+ * 두 번째 요청(헤지)을 보내고, 먼저 도착한 응답을 사용하는 필터 클래스입니다.
+ * <p>
+ * 로드밸런서가 인스턴스를 고른 뒤({@link #ORDER})에 실행되며, 헤지 대상 요청은 NettyRoutingFilter 대신
+ * 이 필터가 게이트웨이 HttpClient로 직접 업스트림을 호출합니다. 먼저 응답한 쪽의 상태 코드, 헤더, 본문을
+ * 클라이언트로 보내고 나머지 요청은 취소합니다. 첫 요청이 실패해도 이미 보낸 헤지 요청이 성공하면 그 응답을 사용합니다.
+ * 응답 본문은 max-buffer-size까지만 모으며, 이를 넘으면 본문을 버리고 NettyRoutingFilter로 다시 요청합니다.
+ * 헤지 인스턴스는 {@link ExcludedInstances}로 첫 인스턴스를 제외하고
+ * 같은 로드밸런서에서 다시 선택합니다.
+ * <p>
+ * 헤지 요청 수는 라우트별 예산(전체 요청의 budget-percent)으로 제한하여, 업스트림 전체가 느려졌을 때
+ * 헤지가 부하를 두 배로 늘리지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class HedgingFilter implements GatewayFilter, Ordered {
+
+    /** 필터 순서 (ReactiveLoadBalancerClientFilter, LoadBalancerCancellationFilter 다음, NettyRoutingFilter 이전) */
+    public static final int ORDER = LoadBalancerCancellationFilter.ORDER + 1;
+
+    /** 헤지 설정 */
+    private final HedgingProperties properties;
+
+    /** 게이트웨이 HttpClient */
+    private final HttpClient httpClient;
+
+    /** 게이트웨이 HttpClient 설정 (응답 타임아웃) */
+    private final HttpClientProperties httpClientProperties;
+
+    /** 요청/응답 헤더 필터 (NettyRoutingFilter와 동일) */
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider;
+
+    /** 서비스별 로드밸런서 */
+    private final LoadBalancerClientFactory clientFactory;
+
+    /** 인스턴스별 부하 통계 */
+    private final InstanceStatsRegistry statsRegistry;
+
+    /** 라우트 ID → 헤지 상태 */
+    private final Map<String, RouteHedging> routes = new ConcurrentHashMap<>();
+
+    /** 보낸 헤지 요청 수 */
+    private final LongAdder hedgedCount = new LongAdder();
+
+    /** 헤지 요청이 먼저 응답한 횟수 */
+    private final LongAdder hedgeWinCount = new LongAdder();
+
+    /**
+     * HedgingFilter 생성자
+     *
+     * @param properties             헤지 설정
+     * @param httpClient             게이트웨이 HttpClient
+     * @param httpClientProperties   게이트웨이 HttpClient 설정
+     * @param headersFiltersProvider 요청/응답 헤더 필터
+     * @param clientFactory          서비스별 로드밸런서
+     * @param statsRegistry          인스턴스별 부하 통계
+     */
+    public HedgingFilter(HedgingProperties properties, HttpClient httpClient,
+                         HttpClientProperties httpClientProperties,
+                         ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                         LoadBalancerClientFactory clientFactory, InstanceStatsRegistry statsRegistry) {
+        this.properties = properties;
+        this.httpClient = httpClient;
+        this.httpClientProperties = httpClientProperties;
+        this.headersFiltersProvider = headersFiltersProvider;
+        this.clientFactory = clientFactory;
+        this.statsRegistry = statsRegistry;
+    }
+
+    /**
+     * 헤지 대상 요청이면 첫 인스턴스로 요청을 보내고, 지연 기준 시간이 지나면 다른 인스턴스로 헤지 요청을 보냅니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        Response<ServiceInstance> lbResponse =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        URI primaryUri = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (!properties.getRoutes().contains(routeId) || lbResponse == null || !lbResponse.hasServer()
+                || primaryUri == null) {
+            return chain.filter(exchange);
+        }
+
+        RouteHedging hedging = routes.computeIfAbsent(routeId, id -> new RouteHedging(properties));
+        hedging.deposit();
+        long hedgeDelayNanos = hedging.hedgeDelayNanos();
+        if (hedgeDelayNanos < 0) {
+            long start = System.nanoTime();
+            return chain.filter(exchange).doOnSuccess(v -> hedging.record(System.nanoTime() - start));
+        }
+
+        ServiceInstance primary = lbResponse.getServer();
+        HttpHeaders requestHeaders = HttpHeadersFilter.filterRequest(headersFiltersProvider.getIfAvailable(), exchange);
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        Sinks.One<Throwable> primaryFailed = Sinks.one();
+        Mono<Attempt> primaryAttempt = send(primaryUri, requestHeaders, hedging, null)
+                .doOnError(e -> {
+                    primaryError.set(e);
+                    primaryFailed.tryEmitValue(e);
+                });
+        Mono<Attempt> hedgeAttempt = Mono.delay(Duration.ofNanos(hedgeDelayNanos))
+                .takeUntilOther(primaryFailed.asMono())
+                .filter(tick -> hedging.tryWithdraw())
+                .flatMap(tick -> chooseOther(exchange, primary))
+                .flatMap(instance -> {
+                    hedgedCount.increment();
+                    return send(hedgeUri(primaryUri, instance), requestHeaders, hedging, instance);
+                })
+                .onErrorResume(e -> {
+                    log.debug("헤지 요청 실패: {}", e.toString());
+                    return Mono.empty();
+                });
+
+        // 첫 요청이 실패해도 이미 보낸 헤지 요청이 성공하면 그 응답을 사용하고, 둘 다 실패하면 첫 요청의 오류를 전달
+        return Mono.firstWithValue(primaryAttempt, hedgeAttempt)
+                .onErrorMap(NoSuchElementException.class, e -> primaryError.get() == null ? e : primaryError.get())
+                .flatMap(attempt -> {
+                    if (attempt.hedged()) {
+                        hedgeWinCount.increment();
+                    }
+                    ServerWebExchangeUtils.setAlreadyRouted(exchange);
+                    HttpHeaders filtered = HttpHeadersFilter.filter(headersFiltersProvider.getIfAvailable(),
+                            attempt.headers(), exchange, HttpHeadersFilter.Type.RESPONSE);
+                    return CachedResponse.of(attempt.status(), filtered, attempt.body())
+                            .writeTo(exchange.getResponse());
+                })
+                .onErrorResume(ResponseTooLargeException.class, e -> Mono.empty())
+                .then(chain.filter(exchange));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * 보낸 헤지 요청 수를 반환합니다.
+     *
+     * @return 헤지 요청 수
+     */
+    public long getHedgedCount() {
+        return hedgedCount.sum();
+    }
+
+    /**
+     * 헤지 요청이 먼저 응답한 횟수를 반환합니다.
+     *
+     * @return 헤지 요청 승리 횟수
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    /**
+     * 업스트림에 GET 요청을 보내고 응답 전체를 받습니다.
+     * <p>
+     * 응답 본문이 max-buffer-size를 넘으면 {@link ResponseTooLargeException}으로 실패합니다.
+     * 상태 코드와 헤더는 결과에만 담고, 클라이언트 응답에는 먼저 도착한 쪽만 반영합니다.
+     *
+     * @param uri            요청 URI
+     * @param requestHeaders 전달할 요청 헤더
+     * @param hedging        라우트 헤지 상태 (응답 시간 기록)
+     * @param hedgeInstance  헤지 요청이면 대상 인스턴스, 첫 요청이면 null
+     * @return 응답
+     */
+    private Mono<Attempt> send(URI uri, HttpHeaders requestHeaders, RouteHedging hedging,
+                               ServiceInstance hedgeInstance) {
+        long maxBytes = properties.getMaxBufferSize().toBytes();
+        Mono<Attempt> attempt = Mono.defer(() -> {
+            long start = System.nanoTime();
+            if (hedgeInstance != null) {
+                statsRegistry.requestStarted(hedgeInstance);
+            }
+            boolean[] completed = new boolean[1];
+            return httpClient
+                    .headers(headers -> {
+                        requestHeaders.forEach(headers::set);
+                        headers.remove(HttpHeaders.HOST);
+                    })
+                    .get()
+                    .uri(uri.toASCIIString())
+                    .response((response, body) -> {
+                        String contentLength = response.responseHeaders().get(HttpHeaders.CONTENT_LENGTH);
+                        if (contentLength != null && parseLength(contentLength) > maxBytes) {
+                            return Mono.error(new ResponseTooLargeException());
+                        }
+                        HttpHeaders headers = new HttpHeaders();
+                        response.responseHeaders().forEach(entry -> headers.add(entry.getKey(), entry.getValue()));
+                        HttpStatusCode status = HttpStatusCode.valueOf(response.status().code());
+                        return body.asByteArray()
+                                .reduce(new ByteArrayOutputStream(), (out, chunk) -> {
+                                    if (out.size() + chunk.length > maxBytes) {
+                                        throw new ResponseTooLargeException();
+                                    }
+                                    out.write(chunk, 0, chunk.length);
+                                    return out;
+                                })
+                                .map(out -> new Attempt(status, headers, out.toByteArray(), hedgeInstance != null));
+                    })
+                    .single()
+                    .doOnSuccess(result -> {
+                        completed[0] = true;
+                        long elapsed = System.nanoTime() - start;
+                        hedging.record(elapsed);
+                        if (hedgeInstance != null) {
+                            statsRegistry.requestCompleted(hedgeInstance, elapsed,
+                                    result.status().is5xxServerError()
+                                            ? InstanceStatsRegistry.Outcome.SERVER_ERROR
+                                            : InstanceStatsRegistry.Outcome.SUCCESS);
+                        }
+                    })
+                    .doOnError(e -> {
+                        completed[0] = true;
+                        if (hedgeInstance != null) {
+                            statsRegistry.requestCompleted(hedgeInstance, System.nanoTime() - start,
+                                    InstanceStatsRegistry.Outcome.FAILED);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (hedgeInstance != null && !completed[0]) {
+                            statsRegistry.requestCancelled(hedgeInstance);
+                        }
+                    });
+        });
+        Duration responseTimeout = httpClientProperties.getResponseTimeout();
+        if (responseTimeout != null) {
+            attempt = attempt.timeout(responseTimeout, Mono.error(() -> new ResponseStatusException(
+                    HttpStatus.GATEWAY_TIMEOUT, "Response took longer than timeout: " + responseTimeout)));
+        }
+        return attempt;
+    }
+
+    /**
+     * 첫 인스턴스를 제외하고 같은 서비스의 로드밸런서로 헤지 인스턴스를 선택합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param primary  첫 인스턴스
+     * @return 헤지 인스턴스, 다른 인스턴스가 없으면 빈 Mono
+     */
+    private Mono<ServiceInstance> chooseOther(ServerWebExchange exchange, ServiceInstance primary) {
+        ReactorServiceInstanceLoadBalancer loadBalancer =
+                clientFactory.getInstance(primary.getServiceId(), ReactorServiceInstanceLoadBalancer.class);
+        if (loadBalancer == null) {
+            return Mono.empty();
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        ExcludedInstances.add(attributes, primary);
+        DefaultRequest<RequestDataContext> request = new DefaultRequest<>(
+                new RequestDataContext(new RequestData(exchange.getRequest(), attributes), "default"));
+        return loadBalancer.choose(request)
+                .filter(Response::hasServer)
+                .map(Response::getServer)
+                .filter(instance -> !ExcludedInstances.contains(attributes, instance));
+    }
+
+    /**
+     * 첫 요청 URI의 호스트와 포트를 헤지 인스턴스로 바꿉니다.
+     *
+     * @param primaryUri 첫 요청 URI
+     * @param instance   헤지 인스턴스
+     * @return 헤지 요청 URI
+     */
+    private static URI hedgeUri(URI primaryUri, ServiceInstance instance) {
+        return UriComponentsBuilder.fromUri(primaryUri)
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+    }
+
+    private static long parseLength(String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 업스트림 응답.
+     *
+     * @param status  응답 상태 코드
+     * @param headers 업스트림 응답 헤더 (헤더 필터 적용 전)
+     * @param body    응답 본문
+     * @param hedged  헤지 요청의 응답인지 여부
+     */
+    private record Attempt(HttpStatusCode status, HttpHeaders headers, byte[] body, boolean hedged) {
+    }
+
+    /**
+     * 응답 본문이 헤지 버퍼 최대 크기를 넘었음을 알리는 예외. 이 경우 기본 라우팅(NettyRoutingFilter)으로 다시 요청합니다.
+     */
+    static final class ResponseTooLargeException extends RuntimeException {
+
+        ResponseTooLargeException() {
+            super("헤지 응답이 버퍼 최대 크기를 넘었습니다.", null, false, false);
+        }
+    }
+
+    /**
+     * 라우트 하나의 최근 응답 시간과 헤지 예산.
+     * <p>
+     * 최근 응답 시간은 고정 크기 링 버퍼에 기록하고, 일정 표본마다 백분위수를 다시 계산해 둡니다.
+     * 예산은 요청마다 budget-percent 만큼 적립하고 헤지 요청마다 100씩 차감하는 정수 토큰으로 관리합니다.
+     */
+    static final class RouteHedging {
+
+        /** 링 버퍼 크기 (2의 거듭제곱) */
+        private static final int WINDOW_SIZE = 1024;
+
+        /** 백분위수를 다시 계산하는 표본 간격 */
+        private static final int RECOMPUTE_INTERVAL = 64;
+
+        /** 헤지 요청 하나의 예산 비용 */
+        private static final long HEDGE_COST = 100;
+
+        /** 적립할 수 있는 최대 예산 (헤지 요청 10개 분량) */
+        private static final long MAX_BUDGET = HEDGE_COST * 10;
+
+        private final HedgingProperties properties;
+        private final long[] samples = new long[WINDOW_SIZE];
+        private final AtomicLong sampleCount = new AtomicLong();
+        private final AtomicLong budget = new AtomicLong();
+        private volatile long hedgeDelayNanos = -1;
+
+        RouteHedging(HedgingProperties properties) {
+            this.properties = properties;
+        }
+
+        /**
+         * 응답 시간을 기록하고, 일정 표본마다 헤지 지연 시간을 다시 계산합니다.
+         *
+         * @param elapsedNanos 응답 시간(나노초)
+         */
+        void record(long elapsedNanos) {
+            long count = sampleCount.incrementAndGet();
+            samples[(int) ((count - 1) & (WINDOW_SIZE - 1))] = elapsedNanos;
+            if (count >= properties.getMinSamples() && count % RECOMPUTE_INTERVAL == 0) {
+                int filled = (int) Math.min(count, WINDOW_SIZE);
+                long[] sorted = Arrays.copyOf(samples, filled);
+                Arrays.sort(sorted);
+                int index = (int) Math.min(filled - 1, Math.ceil(properties.getPercentile() * filled) - 1);
+                hedgeDelayNanos = Math.max(properties.getMinDelay().toNanos(), sorted[Math.max(0, index)]);
+            }
+        }
+
+        /**
+         * 헤지 요청을 보내기까지의 대기 시간을 반환합니다.
+         *
+         * @return 대기 시간(나노초), 표본이 부족하면 -1
+         */
+        long hedgeDelayNanos() {
+            return hedgeDelayNanos;
+        }
+
+        /**
+         * 요청 하나만큼 예산을 적립합니다.
+         */
+        void deposit() {
+            long deposit = properties.getBudgetPercent();
+            while (true) {
+                long current = budget.get();
+                long next = Math.min(MAX_BUDGET, current + deposit);
+                if (current == next || budget.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 예산이 있으면 헤지 요청 하나만큼 차감합니다.
+         *
+         * @return 차감 성공 여부
+         */
+        boolean tryWithdraw() {
+            while (true) {
+                long current = budget.get();
+                if (current < HEDGE_COST) {
+                    return false;
+                }
+                if (budget.compareAndSet(current, current - HEDGE_COST)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -1,28 +1,75 @@
 package com.cu2mber.gatewayservice.common.filter;
 
+import com.cu2mber.gatewayservice.common.config.AuthPolicyProperties.Policy;
+import com.cu2mber.gatewayservice.common.config.ClaimHeaderProperties;
+import com.cu2mber.gatewayservice.common.exception.ForbiddenException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
 import com.cu2mber.gatewayservice.common.provider.JwtProvider;
+import com.cu2mber.gatewayservice.common.route.AuthPolicyMatcher;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * JWT 토큰 기반 인증을 수행하는 Spring Cloud Gateway 필터 클래스입니다.
  * <p>
  * 요청 헤더의 Authorization 값을 확인하고, "Bearer "로 시작하는 JWT 토큰을 추출하여
  * JwtProvider를 통해 검증합니다. 검증 실패 시 HTTP 401(Unauthorized)을 반환합니다.
  * <p>
+ * 검증에 성공하면 라우트별로 선택된 클레임을 게이트웨이가 보증하는 헤더(예: X-User-Id)로
+ * 다운스트림에 전달하여, 하위 서비스가 JWT를 다시 파싱/검증하지 않아도 되도록 합니다.
+ * 클라이언트가 보낸 같은 이름의 헤더는 항상 제거됩니다.
+ * <p>
+ * 적용할 인증 방식은 {@link AuthPolicyMatcher}가 라우트와 경로별로 결정합니다.
+ * PUBLIC 경로는 토큰을 보지 않고, OPTIONAL 경로는 토큰이 있을 때만 검증하며,
+ * ROLE 경로는 토큰의 roles 클레임에 허용된 역할이 없으면 HTTP 403(Forbidden)을 반환합니다.
+ * <p>
  * 이 필터는 각 Gateway 라우트에 적용되어 보호된 API 요청을 인증합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter implements GatewayFilter {
 
+    /** 검증된 Claims를 저장하는 exchange 속성 이름 */
+    public static final String CLAIMS_ATTR = JwtAuthorizationFilter.class.getName() + ".claims";
+
+    /** 인증 결과({@link AuthOutcome})를 저장하는 exchange 속성 이름 (액세스 로그용) */
+    public static final String AUTH_OUTCOME_ATTR = JwtAuthorizationFilter.class.getName() + ".authOutcome";
+
+    /** 역할 목록을 담은 클레임 이름 */
+    private static final String ROLES_CLAIM = "roles";
+
     /** JWT 검증 및 토큰 관련 로직 제공 */
     private final JwtProvider jwtProvider;
 
+    /** 클레임 전달 헤더 설정 */
+    private final ClaimHeaderProperties claimHeaderProperties;
+
+    /** 인증 실패 사유를 기록할 메트릭 */
+    private final GatewayMetrics metrics;
+
+    /** 라우트와 경로별 인증 정책 매처 */
+    private final AuthPolicyMatcher authPolicyMatcher;
+
+    /** 라우트 ID → 전달할 (클레임, 헤더) 목록 */
+    private final Map<String, List<ClaimHeader>> routeClaimHeaders = new ConcurrentHashMap<>();
+
     /**
      * 요청을 필터링하고 JWT 인증을 수행합니다.
      *
@@ -32,17 +79,208 @@ public class JwtAuthorizationFilter implements GatewayFilter {
      */
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        AuthPolicyMatcher.Decision decision = authPolicyMatcher.match(routeId, exchange.getRequest());
+
         // JWT 토큰 검증 로직
         String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        boolean hasToken = authHeader != null && authHeader.startsWith("Bearer ");
+        if (decision.policy() == Policy.PUBLIC || (decision.policy() == Policy.OPTIONAL && !hasToken)) {
+            exchange.getAttributes().put(AUTH_OUTCOME_ATTR,
+                    decision.policy() == Policy.PUBLIC ? AuthOutcome.PUBLIC : AuthOutcome.ANONYMOUS);
+            return chain.filter(withoutTrustedHeaders(exchange));
+        }
+        if (!hasToken) {
+            exchange.getAttributes().put(AUTH_OUTCOME_ATTR, AuthOutcome.MISSING);
+            metrics.recordJwtFailure(GatewayMetrics.JwtFailure.MISSING);
             exchange.getResponse().setStatusCode(org.springframework.http.HttpStatus.UNAUTHORIZED);
             return exchange.getResponse().setComplete();
         }
 
         String token = authHeader.substring(7);  // "Bearer "제거
 
-        jwtProvider.validateToken(token);
+        // 검증 실패 시 예외가 전파되므로 미리 REJECTED로 기록해 두고, 통과하면 덮어씀
+        exchange.getAttributes().put(AUTH_OUTCOME_ATTR, AuthOutcome.REJECTED);
+        Claims claims;
+        RequestTiming.mark(exchange, RequestTiming.Mark.AUTH_START);
+        try {
+            claims = jwtProvider.validateAndGetClaims(token);
+        } finally {
+            RequestTiming.mark(exchange, RequestTiming.Mark.AUTH_END);
+        }
+        if (decision.policy() == Policy.ROLE && !hasAnyRole(claims, decision.roles())) {
+            exchange.getAttributes().put(AUTH_OUTCOME_ATTR, AuthOutcome.FORBIDDEN);
+            metrics.recordJwtFailure(GatewayMetrics.JwtFailure.FORBIDDEN);
+            return Mono.error(new ForbiddenException("접근 권한이 없습니다."));
+        }
+        exchange.getAttributes().put(AUTH_OUTCOME_ATTR, AuthOutcome.AUTHENTICATED);
+        exchange.getAttributes().put(CLAIMS_ATTR, claims);
+
+        List<ClaimHeader> claimHeaders = resolveClaimHeaders(routeId);
+        ServerWebExchange mutated = exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    stripTrustedHeaders(headers);
+                    for (ClaimHeader claimHeader : claimHeaders) {
+                        String value = claimValue(claims, claimHeader.claim());
+                        if (value != null) {
+                            headers.set(claimHeader.header(), value);
+                        }
+                    }
+                }))
+                .build();
+
+        return chain.filter(mutated);
+    }
+
+    /**
+     * 인증하지 않고 전달하는 요청에서 클라이언트가 보낸 게이트웨이 신뢰 헤더를 제거합니다.
+     * 신뢰 헤더가 없으면 요청을 복사하지 않고 그대로 반환합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @return 신뢰 헤더가 제거된 exchange
+     */
+    private ServerWebExchange withoutTrustedHeaders(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        for (String header : claimHeaderProperties.getHeaders().values()) {
+            if (headers.containsKey(header)) {
+                return exchange.mutate()
+                        .request(request -> request.headers(this::stripTrustedHeaders))
+                        .build();
+            }
+        }
+        return exchange;
+    }
+
+    /**
+     * 클라이언트가 보낸 게이트웨이 신뢰 헤더를 제거합니다.
+     *
+     * @param headers 요청 헤더
+     */
+    private void stripTrustedHeaders(HttpHeaders headers) {
+        for (String header : claimHeaderProperties.getHeaders().values()) {
+            headers.remove(header);
+        }
+    }
+
+    /**
+     * 현재 라우트에 전달할 (클레임, 헤더) 목록을 반환합니다. 라우트별로 한 번만 계산됩니다.
+     *
+     * @param routeId 라우트 ID (서비스명, 소문자)
+     * @return 전달할 클레임 헤더 목록
+     */
+    private List<ClaimHeader> resolveClaimHeaders(String routeId) {
+        return routeClaimHeaders.computeIfAbsent(routeId, id -> {
+            List<String> claimNames = claimHeaderProperties.getRoutes()
+                    .getOrDefault(id, claimHeaderProperties.getDefaultClaims());
+            List<ClaimHeader> resolved = new ArrayList<>(claimNames.size());
+            for (String claimName : claimNames) {
+                String header = claimHeaderProperties.getHeaders().get(claimName);
+                if (header != null) {
+                    resolved.add(new ClaimHeader(claimName, header));
+                }
+            }
+            return List.copyOf(resolved);
+        });
+    }
+
+    /**
+     * 토큰의 roles 클레임(컬렉션 또는 쉼표로 구분된 문자열)에 허용된 역할이 하나라도 있는지 확인합니다.
+     *
+     * @param claims       검증된 Claims
+     * @param allowedRoles 허용된 역할 목록
+     * @return 허용된 역할이 있으면 true
+     */
+    private static boolean hasAnyRole(Claims claims, Set<String> allowedRoles) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (roles instanceof Collection<?> collection) {
+            return collection.stream().anyMatch(role -> allowedRoles.contains(String.valueOf(role)));
+        }
+        if (roles instanceof String value) {
+            for (String role : value.split(",")) {
+                if (allowedRoles.contains(role.trim())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 클레임 값을 헤더 값 문자열로 변환합니다.
+     * <p>
+     * exp는 epoch 초, 컬렉션은 쉼표로 연결한 문자열로 변환하며,
+     * 헤더에 넣을 수 없는 제어 문자가 포함된 값은 전달하지 않습니다.
+     *
+     * @param claims    검증된 Claims
+     * @param claimName 클레임 이름
+     * @return 헤더 값, 클레임이 없거나 전달할 수 없으면 null
+     */
+    private static String claimValue(Claims claims, String claimName) {
+        Object value = Claims.EXPIRATION.equals(claimName) && claims.getExpiration() != null
+                ? claims.getExpiration().getTime() / 1000
+                : claims.get(claimName);
+        if (value == null) {
+            return null;
+        }
+
+        String text = value instanceof Collection<?> collection
+                ? String.join(",", collection.stream().map(String::valueOf).toList())
+                : value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x20 || text.charAt(i) == 0x7f) {
+                return null;
+            }
+        }
+        return text;
+    }
+
+    /**
+     * 다운스트림으로 전달할 클레임과 헤더 이름의 쌍.
+     *
+     * @param claim  클레임 이름
+     * @param header 헤더 이름
+     */
+    private record ClaimHeader(String claim, String header) {
+    }
+
+    /**
+     * 요청 하나의 인증 결과.
+     */
+    public enum AuthOutcome {
+
+        /** PUBLIC 경로 (토큰을 보지 않음) */
+        PUBLIC("public"),
+
+        /** OPTIONAL 경로에 토큰 없이 들어온 요청 */
+        ANONYMOUS("anonymous"),
 
-        return chain.filter(exchange);
+        /** 토큰 검증 통과 */
+        AUTHENTICATED("authenticated"),
+
+        /** 토큰 없음 (401) */
+        MISSING("missing"),
+
+        /** 토큰 검증 실패 (401) */
+        REJECTED("rejected"),
+
+        /** 허용된 역할 없음 (403) */
+        FORBIDDEN("forbidden");
+
+        /** 로그에 기록할 값 */
+        private final String value;
+
+        AuthOutcome(String value) {
+            this.value = value;
+        }
+
+        /**
+         * 로그에 기록할 값을 반환합니다.
+         *
+         * @return 소문자 인증 결과
+         */
+        public String value() {
+            return value;
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로드밸런서가 고른 인스턴스로의 요청이 취소되면 {@link InstanceStatsRegistry}의 처리 중인 요청 수를 되돌리는 글로벌 필터 클래스입니다.
+ * <p>
+ * ReactiveLoadBalancerClientFilter는 요청이 성공하거나 실패할 때만 LoadBalancerLifecycle의 onComplete를 호출하므로,
+ * 클라이언트가 연결을 끊거나 업스트림 호출이 취소된 요청은 처리 중으로 남습니다.
+ * 이 필터는 로드밸런서 직후({@link #ORDER})에 실행되어 취소 신호를 받으면 아직 완료 처리되지 않은 요청만 취소로 기록합니다.
+ */
+@Component
+public class LoadBalancerCancellationFilter implements GlobalFilter, Ordered {
+
+    /** 필터 순서 (ReactiveLoadBalancerClientFilter 직후, HedgingFilter 이전) */
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    /** 인스턴스별 부하 통계 */
+    private final InstanceStatsRegistry statsRegistry;
+
+    /**
+     * LoadBalancerCancellationFilter 생성자
+     *
+     * @param statsRegistry 인스턴스별 부하 통계
+     */
+    public LoadBalancerCancellationFilter(InstanceStatsRegistry statsRegistry) {
+        this.statsRegistry = statsRegistry;
+    }
+
+    /**
+     * 로드밸런서가 인스턴스를 고른 요청이 취소되면 처리 중인 요청 수를 줄입니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> lbResponse =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .doOnCancel(() -> statsRegistry.requestAbandoned(exchange.getAttributes(), lbResponse.getServer()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,206 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.RateLimitProperties;
+import com.cu2mber.gatewayservice.common.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 토큰 버킷 방식으로 요청 속도를 제한하는 Spring Cloud Gateway 필터 클래스입니다.
+ * <p>
+ * JwtAuthorizationFilter 다음에 적용되어 검증된 JWT subject를 키로 사용하며,
+ * subject가 없으면 클라이언트 IP를 키로 사용합니다. 클라이언트 IP는 설정된 신뢰 프록시 수만큼
+ * X-Forwarded-For를 거슬러 올라가 결정하므로, 로드밸런서 뒤에서도 익명 요청이 하나의 버킷을 공유하지 않습니다. 버킷은 라우트와 키 조합마다 하나씩 생성됩니다.
+ * <p>
+ * 버킷 상태는 GCRA(Generic Cell Rate Algorithm)로 표현한 하나의 AtomicLong(다음 요청의 이론적 도착 시각)이며,
+ * CAS로 갱신하므로 락 없이 여러 코어에서 동시에 처리할 수 있습니다.
+ * 버킷은 Caffeine 캐시에 최대 개수와 유휴 만료 시간을 두고 보관하여 메모리 사용량을 제한합니다.
+ * <p>
+ * 제한을 초과하면 TooManyRequestsException을 발생시키며, GlobalExceptionHandler가 429와 Retry-After 헤더로 응답합니다.
+ */
+@Component
+public class RateLimitFilter implements GatewayFilter {
+
+    /** 제한 초과 시 응답 메시지 */
+    private static final String RATE_LIMITED_MESSAGE = "요청 한도를 초과했습니다.";
+
+    /** 1초(나노초) */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** 속도 제한 설정 */
+    private final RateLimitProperties rateLimitProperties;
+
+    /** (라우트, 사용자) → 버킷 */
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    /** 익명 요청의 클라이언트 주소 결정기 */
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    /** 라우트 ID → 나노초 단위로 변환한 제한 값 */
+    private final Map<String, BucketLimit> routeLimits = new ConcurrentHashMap<>();
+
+    /**
+     * RateLimitFilter 생성자
+     *
+     * @param rateLimitProperties 속도 제한 설정
+     */
+    public RateLimitFilter(RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaxKeys())
+                .expireAfterAccess(rateLimitProperties.getIdleTimeout())
+                .build();
+        this.remoteAddressResolver = rateLimitProperties.getTrustedProxies() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(rateLimitProperties.getTrustedProxies())
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    /**
+     * 요청 키의 버킷에서 토큰을 하나 소비하고, 토큰이 없으면 429로 거절합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!rateLimitProperties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        BucketLimit limit = routeLimits.computeIfAbsent(routeId, this::resolveLimit);
+        if (limit == BucketLimit.UNLIMITED) {
+            return chain.filter(exchange);
+        }
+
+        TokenBucket bucket = buckets.get(new BucketKey(routeId, principal(exchange)), key -> new TokenBucket());
+        long waitNanos = bucket.tryAcquire(System.nanoTime(), limit);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+            return Mono.error(new TooManyRequestsException(RATE_LIMITED_MESSAGE, retryAfterSeconds));
+        }
+        return chain.filter(exchange);
+    }
+
+    /**
+     * 현재 유지 중인 버킷 수를 반환합니다.
+     *
+     * @return 버킷 수(추정치)
+     */
+    public long getBucketCount() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 요청을 보낸 사용자를 식별합니다. 검증된 JWT subject가 있으면 사용하고, 없으면 클라이언트 IP를 사용합니다.
+     * 클라이언트 IP는 신뢰 프록시 수 설정에 따라 X-Forwarded-For 또는 소켓 원격 주소에서 가져옵니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @return 사용자 식별 키
+     */
+    private String principal(ServerWebExchange exchange) {
+        Claims claims = exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR);
+        if (claims != null && claims.getSubject() != null) {
+            return claims.getSubject();
+        }
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        // X-Forwarded-For에서 가져온 주소는 미해석(unresolved) 상태이므로 호스트 문자열을 그대로 사용
+        return remoteAddress.getAddress() == null
+                ? remoteAddress.getHostString()
+                : remoteAddress.getAddress().getHostAddress();
+    }
+
+    /**
+     * 라우트에 적용할 제한을 설정에서 찾아 GCRA 파라미터로 변환합니다.
+     *
+     * @param routeId 라우트 ID(소문자)
+     * @return 버킷 제한
+     */
+    private BucketLimit resolveLimit(String routeId) {
+        RateLimitProperties.Limit limit = rateLimitProperties.getRoutes()
+                .getOrDefault(routeId, rateLimitProperties.getDefaultLimit());
+        if (limit.getReplenishRate() <= 0) {
+            return BucketLimit.UNLIMITED;
+        }
+        long emissionIntervalNanos = NANOS_PER_SECOND / limit.getReplenishRate();
+        long burst = Math.max(1, limit.getBurstCapacity());
+        return new BucketLimit(emissionIntervalNanos, emissionIntervalNanos * (burst - 1));
+    }
+
+    /**
+     * 버킷 캐시 키.
+     *
+     * @param routeId   라우트 ID
+     * @param principal 사용자 식별 키
+     */
+    private record BucketKey(String routeId, String principal) {
+    }
+
+    /**
+     * GCRA 파라미터.
+     *
+     * @param emissionIntervalNanos 토큰 하나가 채워지는 간격(나노초)
+     * @param burstToleranceNanos   버스트 허용량((용량 - 1) × 간격)
+     */
+    record BucketLimit(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        /** 제한 없음 */
+        static final BucketLimit UNLIMITED = new BucketLimit(0, 0);
+    }
+
+    /**
+     * GCRA로 구현한 락 없는 토큰 버킷.
+     * <p>
+     * 다음 요청의 이론적 도착 시각(TAT)만 저장합니다. 요청 시점 now에 대해 TAT - now가 버스트 허용량 이하이면
+     * 허용하고 TAT를 한 간격만큼 늘리며, 초과하면 거절합니다. 이는 용량이 burstCapacity이고
+     * 초당 replenishRate개씩 채워지는 토큰 버킷과 동일하게 동작합니다.
+     */
+    static final class TokenBucket {
+
+        /** 이론적 도착 시각(나노초), 최초에는 모든 시각보다 작은 값 */
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * 토큰 하나를 소비합니다.
+         *
+         * @param now   현재 시각(System.nanoTime)
+         * @param limit 제한 값
+         * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(나노초)
+         */
+        long tryAcquire(long now, BucketLimit limit) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = tat == Long.MIN_VALUE ? now : Math.max(tat, now);
+                long wait = base - now - limit.burstToleranceNanos();
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrival.compareAndSet(tat, base + limit.emissionIntervalNanos())) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
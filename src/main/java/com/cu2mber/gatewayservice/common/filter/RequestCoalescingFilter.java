@@ -0,0 +1,197 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.cache.CachedResponse;
+import com.cu2mber.gatewayservice.common.config.RequestCoalescingProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 들어온 동일한 GET 요청을 하나의 업스트림 호출로 병합하는 필터 클래스입니다(single-flight).
+ * <p>
+ * 라우트, 경로, 쿼리와 설정된 요청 헤더가 같은 요청이 처리 중이면, 뒤에 들어온 요청은 업스트림을 호출하지 않고
+ * 먼저 들어온 요청(leader)의 응답을 기다렸다가 상태 코드, 헤더, 본문 복사본으로 응답합니다.
+ * 병합은 처리 중인 요청에만 적용되고 응답이 끝나면 즉시 해제되므로, 응답 캐시와 달리 오래된 응답을 제공하지 않습니다.
+ * <p>
+ * leader가 실패하거나 취소되거나, 응답이 최대 크기를 넘거나 Set-Cookie를 포함하면
+ * 대기 중인 요청은 각자 업스트림을 호출합니다.
+ */
+@Component
+public class RequestCoalescingFilter implements GatewayFilter, Ordered {
+
+    /** 필터 순서 (ResponseCacheFilter 다음, NettyWriteResponseFilter 직전) */
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    /** 병합 설정 */
+    private final RequestCoalescingProperties properties;
+
+    /** 병합 키 → 처리 중인 업스트림 호출 */
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    /** 다른 요청의 응답을 공유받은 요청 수 */
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * RequestCoalescingFilter 생성자
+     *
+     * @param properties 병합 설정
+     */
+    public RequestCoalescingFilter(RequestCoalescingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 같은 요청이 처리 중이면 그 응답을 기다려 공유하고, 아니면 leader로서 업스트림을 호출합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        if (!properties.getRoutes().contains(routeId)) {
+            return chain.filter(exchange);
+        }
+
+        String key = coalescingKey(routeId, request);
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return existing.result.asMono().flatMap(shared -> {
+                if (shared.isEmpty()) {
+                    return chain.filter(exchange);
+                }
+                coalescedCount.increment();
+                ServerWebExchangeUtils.setAlreadyRouted(exchange);
+                return shared.get().writeTo(exchange.getResponse());
+            });
+        }
+
+        LeaderResponseDecorator decorated = new LeaderResponseDecorator(exchange.getResponse(), key, flight);
+        return chain.filter(exchange.mutate().response(decorated).build())
+                .doFinally(signal -> complete(key, flight, Optional.empty()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * 다른 요청의 응답을 공유받은 요청 수를 반환합니다.
+     *
+     * @return 병합된 요청 수
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * 처리 중인 업스트림 호출 수를 반환합니다.
+     *
+     * @return 처리 중인 호출 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 처리 중인 호출을 해제하고 대기 중인 요청에 결과를 전달합니다. 이미 결과를 전달했다면 무시합니다.
+     *
+     * @param key    병합 키
+     * @param flight 처리 중인 호출
+     * @param result 공유할 응답 (없으면 대기 요청이 각자 업스트림을 호출)
+     */
+    private void complete(String key, Flight flight, Optional<CachedResponse> result) {
+        inFlight.remove(key, flight);
+        flight.result.tryEmitValue(result);
+    }
+
+    /**
+     * 병합 키를 만듭니다.
+     *
+     * @param routeId 라우트 ID(소문자)
+     * @param request 요청
+     * @return 병합 키
+     */
+    private String coalescingKey(String routeId, ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(routeId).append(' ').append(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        HttpHeaders headers = request.getHeaders();
+        for (String name : properties.getKeyHeaders()) {
+            List<String> values = headers.get(name);
+            key.append('\u0000');
+            if (values != null) {
+                key.append(String.join(",", values));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 처리 중인 업스트림 호출. 결과는 한 번만 전달되며, 이후 구독한 요청에도 같은 결과가 전달됩니다.
+     */
+    private static final class Flight {
+
+        private final Sinks.One<Optional<CachedResponse>> result = Sinks.one();
+    }
+
+    /**
+     * leader의 응답을 클라이언트로 보내면서 복사하여 대기 중인 요청에 전달하는 응답 데코레이터.
+     */
+    private final class LeaderResponseDecorator extends CapturingResponseDecorator {
+
+        private final String key;
+        private final Flight flight;
+
+        LeaderResponseDecorator(ServerHttpResponse delegate, String key, Flight flight) {
+            super(delegate, properties.getMaxBodySize().toBytes());
+            this.key = key;
+            this.flight = flight;
+        }
+
+        @Override
+        protected boolean shouldCapture() {
+            return getStatusCode() != null && !getHeaders().containsKey(HttpHeaders.SET_COOKIE);
+        }
+
+        @Override
+        protected void onCaptured(HttpHeaders headers, byte[] body) {
+            HttpStatusCode status = getStatusCode();
+            complete(key, flight, Optional.of(CachedResponse.of(status, headers, body)));
+        }
+
+        @Override
+        protected void onSkipped() {
+            complete(key, flight, Optional.empty());
+        }
+    }
+}
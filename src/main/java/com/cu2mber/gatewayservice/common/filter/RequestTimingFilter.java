@@ -0,0 +1,97 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.ServerTimingProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 {@link RequestTiming}을 만들고, 응답 커밋 시점에 단계별 처리 시간을 메트릭과 Server-Timing 헤더로 내보내는 웹 필터 클래스입니다.
+ * <p>
+ * 라우트 조회보다 먼저 실행되어야 하므로 게이트웨이 필터가 아닌 WebFilter로 가장 먼저({@link #ORDER}) 실행됩니다.
+ * RequestTiming은 exchange 속성과 Reactor Context 양쪽에 넣어, exchange를 받지 못하는 업스트림 HttpClient 훅에서도
+ * 시각을 기록할 수 있게 합니다.
+ * <p>
+ * 라우팅된 요청의 구간별 시간은 {@code gateway.route.phase} 타이머로 기록하고,
+ * 요청에 opt-in 헤더가 있거나 sample-rate로 선택된 요청에만 Server-Timing 헤더를 붙입니다.
+ */
+@Component
+public class RequestTimingFilter implements WebFilter, Ordered {
+
+    /** 필터 순서 (모든 웹 필터 이전) */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    /** Server-Timing 응답 헤더 이름 */
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    /** Server-Timing 설정 */
+    private final ServerTimingProperties properties;
+
+    /** 단계별 처리 시간 메트릭 */
+    private final GatewayMetrics metrics;
+
+    /**
+     * RequestTimingFilter 생성자
+     *
+     * @param properties Server-Timing 설정
+     * @param metrics    게이트웨이 공통 메트릭
+     */
+    public RequestTimingFilter(ServerTimingProperties properties, GatewayMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * RequestTiming을 등록하고, 응답 커밋 직전에 처리 시간을 기록합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 웹 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        exchange.getAttributes().put(RequestTiming.ATTR, timing);
+        boolean serverTiming = shouldAddServerTiming(exchange);
+        exchange.getResponse().beforeCommit(() -> {
+            timing.mark(RequestTiming.Mark.COMMITTED);
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route != null) {
+                metrics.recordRequestPhases(route.getId().toLowerCase(Locale.ROOT), timing);
+            }
+            if (serverTiming) {
+                exchange.getResponse().getHeaders().set(SERVER_TIMING, timing.toServerTiming());
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .contextWrite(Context.of(RequestTiming.class, timing));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private boolean shouldAddServerTiming(ServerWebExchange exchange) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (exchange.getRequest().getHeaders().containsKey(properties.getOptInHeader())) {
+            return true;
+        }
+        double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
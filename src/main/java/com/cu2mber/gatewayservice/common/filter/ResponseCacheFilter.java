@@ -0,0 +1,323 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.cache.CachedResponse;
+import com.cu2mber.gatewayservice.common.cache.ResponseCache;
+import com.cu2mber.gatewayservice.common.config.ResponseCacheProperties;
+import io.jsonwebtoken.Claims;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 멱등 GET 요청의 업스트림 응답을 게이트웨이에서 캐시하는 필터 클래스입니다.
+ * <p>
+ * 라우트별 opt-in({@code gateway.response-cache.routes.{서비스명}.enabled})이며,
+ * 캐시 키는 라우트, 경로, 쿼리와 (설정 시) JWT subject로 구성합니다.
+ * 업스트림 응답의 Cache-Control(no-store, private, s-maxage, max-age)과 Vary를 따르고,
+ * subject별 캐시가 아니면 Authorization 요청의 응답은 public, s-maxage, must-revalidate가 있을 때만 저장하며,
+ * Set-Cookie가 있는 응답이나 최대 크기를 넘는 응답은 저장하지 않습니다.
+ * <p>
+ * 캐시 미스 시에는 응답 본문을 클라이언트로 스트리밍하면서 동시에 복사하므로({@link CapturingResponseDecorator})
+ * 응답 지연이 늘지 않습니다.
+ * 캐시 적중 시에는 업스트림을 호출하지 않으며, If-None-Match가 캐시된 ETag와 일치하면 304로 응답합니다.
+ * <p>
+ * 응답을 가공하기 위해 NettyWriteResponseFilter보다 먼저 실행되어야 하므로 {@link #ORDER}를 사용합니다.
+ */
+@Component
+public class ResponseCacheFilter implements GatewayFilter, Ordered {
+
+    /** 필터 순서 (NettyWriteResponseFilter, RequestCoalescingFilter 이전) */
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+
+    /** 캐시 적중 여부를 알려주는 응답 헤더 */
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    /** ETag 계산 시 사용하는 해시 바이트 수 */
+    private static final int ETAG_HASH_BYTES = 16;
+
+    /** 응답 캐시 설정 */
+    private final ResponseCacheProperties properties;
+
+    /** 응답 캐시 저장소 */
+    private final ResponseCache responseCache;
+
+    /**
+     * ResponseCacheFilter 생성자
+     *
+     * @param properties    응답 캐시 설정
+     * @param responseCache 응답 캐시 저장소
+     */
+    public ResponseCacheFilter(ResponseCacheProperties properties, ResponseCache responseCache) {
+        this.properties = properties;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * 캐시가 활성화된 라우트의 GET 요청이면 캐시에서 응답하거나, 업스트림 응답을 캐시에 저장합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        ResponseCacheProperties.RoutePolicy policy = properties.getRoutes().get(routeId);
+        if (policy == null || !policy.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        String requestCacheControl = cacheControl(request.getHeaders());
+        if (requestCacheControl.contains("no-store")) {
+            return chain.filter(exchange);
+        }
+        String key = cacheKey(routeId, exchange, policy);
+        if (key == null) {
+            return chain.filter(exchange);
+        }
+
+        if (!requestCacheControl.contains("no-cache")) {
+            ResponseCache.Entry entry = responseCache.get(key, request.getHeaders());
+            if (entry != null) {
+                return writeFromCache(exchange, entry);
+            }
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        CachingResponseDecorator decorated = new CachingResponseDecorator(response, key, request.getHeaders(), policy);
+        return chain.filter(exchange.mutate().response(decorated).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * 캐시 항목으로 응답합니다. If-None-Match가 ETag와 일치하면 본문 없이 304로 응답합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param entry    캐시 항목
+     * @return 응답 완료 신호
+     */
+    private Mono<Void> writeFromCache(ServerWebExchange exchange, ResponseCache.Entry entry) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        long ageSeconds = Math.max(0, (System.currentTimeMillis() - entry.storedAtMillis()) / 1000);
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+        if (etagMatches(exchange.getRequest().getHeaders().getIfNoneMatch(), entry.etag())) {
+            responseCache.recordNotModified();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.setETag(entry.etag());
+            copyIfPresent(entry.response().headers(), headers, HttpHeaders.CACHE_CONTROL);
+            copyIfPresent(entry.response().headers(), headers, HttpHeaders.VARY);
+            headers.set(HttpHeaders.AGE, Long.toString(ageSeconds));
+            headers.set(CACHE_STATUS_HEADER, "HIT");
+            return response.setComplete();
+        }
+
+        headers.set(HttpHeaders.AGE, Long.toString(ageSeconds));
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        return entry.response().writeTo(response);
+    }
+
+    /**
+     * 캐시 키를 만듭니다. subject별 캐시인데 인증 정보가 없으면 null을 반환합니다.
+     *
+     * @param routeId  라우트 ID(소문자)
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param policy   라우트 캐시 정책
+     * @return 캐시 기본 키
+     */
+    private static String cacheKey(String routeId, ServerWebExchange exchange,
+                                   ResponseCacheProperties.RoutePolicy policy) {
+        StringBuilder key = new StringBuilder(routeId).append(' ')
+                .append(exchange.getRequest().getURI().getRawPath());
+        String query = exchange.getRequest().getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        if (policy.isKeyBySubject()) {
+            Claims claims = exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR);
+            if (claims == null || claims.getSubject() == null) {
+                return null;
+            }
+            key.append(" sub=").append(claims.getSubject());
+        }
+        return key.toString();
+    }
+
+    /**
+     * 업스트림 응답 헤더로 캐시 유지 시간을 계산합니다. 캐시할 수 없으면 null을 반환합니다.
+     * <p>
+     * Authorization이 있는 요청의 응답을 subject 없는 키로 공유하려면 RFC 9111 3.5절에 따라
+     * 응답에 public, s-maxage, must-revalidate 중 하나가 있어야 합니다.
+     *
+     * @param headers    응답 헤더
+     * @param authorized 요청에 Authorization 헤더가 있는지 여부
+     * @param policy     라우트 캐시 정책
+     * @return 캐시 유지 시간
+     */
+    static Duration cacheTtl(HttpHeaders headers, boolean authorized, ResponseCacheProperties.RoutePolicy policy) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.getVary().contains("*")) {
+            return null;
+        }
+        String cacheControl = cacheControl(headers);
+        if (cacheControl.contains("no-store") || cacheControl.contains("no-cache")) {
+            return null;
+        }
+        if (cacheControl.contains("private") && !policy.isKeyBySubject()) {
+            return null;
+        }
+        long sMaxAge = directiveSeconds(cacheControl, "s-maxage=");
+        if (authorized && !policy.isKeyBySubject() && sMaxAge < 0
+                && !cacheControl.contains("public") && !cacheControl.contains("must-revalidate")) {
+            return null;
+        }
+        long maxAge = sMaxAge >= 0 ? sMaxAge : directiveSeconds(cacheControl, "max-age=");
+        Duration ttl = maxAge >= 0 ? Duration.ofSeconds(maxAge) : policy.getDefaultTtl();
+        return ttl.isZero() || ttl.isNegative() ? null : ttl;
+    }
+
+    /**
+     * Cache-Control 헤더를 소문자 한 줄로 합칩니다.
+     *
+     * @param headers HTTP 헤더
+     * @return Cache-Control 값 (없으면 빈 문자열)
+     */
+    private static String cacheControl(HttpHeaders headers) {
+        List<String> values = headers.get(HttpHeaders.CACHE_CONTROL);
+        return values == null ? "" : String.join(",", values).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Cache-Control에서 초 단위 지시어 값을 읽습니다.
+     *
+     * @param cacheControl Cache-Control 값(소문자)
+     * @param directive    지시어 ("max-age=" 등)
+     * @return 초, 없거나 잘못된 값이면 -1
+     */
+    private static long directiveSeconds(String cacheControl, String directive) {
+        int start = cacheControl.indexOf(directive);
+        if (start < 0 || start > 0 && cacheControl.charAt(start - 1) != ',' && cacheControl.charAt(start - 1) != ' ') {
+            return -1;
+        }
+        int index = start + directive.length();
+        long seconds = 0;
+        int digits = 0;
+        while (index < cacheControl.length() && Character.isDigit(cacheControl.charAt(index)) && digits < 10) {
+            seconds = seconds * 10 + (cacheControl.charAt(index++) - '0');
+            digits++;
+        }
+        return digits == 0 ? -1 : seconds;
+    }
+
+    /**
+     * If-None-Match 값 중 하나가 ETag와 약한 비교(W/ 무시)로 일치하는지 확인합니다.
+     *
+     * @param ifNoneMatch If-None-Match 값 목록
+     * @param etag        캐시된 ETag
+     * @return 일치 여부
+     */
+    private static boolean etagMatches(List<String> ifNoneMatch, String etag) {
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static void copyIfPresent(HttpHeaders source, HttpHeaders target, String name) {
+        List<String> values = source.get(name);
+        if (values != null) {
+            target.put(name, values);
+        }
+    }
+
+    /**
+     * 응답 본문의 SHA-256 앞부분으로 강한 ETag를 만듭니다.
+     * <p>
+     * 업스트림이 ETag를 보내지 않은 경우 캐시 미스 응답은 이미 헤더가 전송된 뒤이므로,
+     * 계산한 ETag는 캐시 적중 응답부터 전달됩니다.
+     *
+     * @param body 응답 본문
+     * @return ETag (따옴표 포함)
+     */
+    private static String computeEtag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + HexFormat.of().formatHex(hash, 0, ETAG_HASH_BYTES) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 응답 본문을 클라이언트로 보내면서 복사하고, 캐시 가능한 응답이면 완료 시 저장하는 응답 데코레이터.
+     */
+    private final class CachingResponseDecorator extends CapturingResponseDecorator {
+
+        private final String key;
+        private final HttpHeaders requestHeaders;
+        private final ResponseCacheProperties.RoutePolicy policy;
+        private Duration ttl;
+
+        CachingResponseDecorator(ServerHttpResponse delegate, String key, HttpHeaders requestHeaders,
+                                 ResponseCacheProperties.RoutePolicy policy) {
+            super(delegate, properties.getMaxEntrySize().toBytes());
+            this.key = key;
+            this.requestHeaders = requestHeaders;
+            this.policy = policy;
+        }
+
+        @Override
+        protected boolean shouldCapture() {
+            ttl = HttpStatus.OK.equals(getStatusCode()) ? cacheTtl(getHeaders(), requestHeaders.containsKey(HttpHeaders.AUTHORIZATION), policy) : null;
+            return ttl != null;
+        }
+
+        @Override
+        protected void onCaptured(HttpHeaders headers, byte[] body) {
+            String etag = headers.getETag();
+            if (etag == null) {
+                etag = computeEtag(body);
+            }
+            HttpHeaders stored = new HttpHeaders();
+            stored.putAll(headers);
+            stored.remove(CACHE_STATUS_HEADER);
+            stored.setETag(etag);
+            responseCache.put(key, requestHeaders, CachedResponse.of(HttpStatus.OK, stored, body), etag, ttl);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.ResponseCompressionProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 클라이언트가 허용하면 업스트림 응답을 gzip으로 압축하여 전달하는 필터 클래스입니다.
+ * <p>
+ * Accept-Encoding으로 gzip을 협상하고, Content-Type이 허용 목록에 있으며 최소 크기 이상인 응답만
+ * {@link GzipEncoder}로 청크 단위 스트리밍 압축합니다. 이미 Content-Encoding이 있는 응답,
+ * Cache-Control: no-transform 응답, 본문이 없는 응답은 그대로 전달합니다.
+ * 압축 대상 Content-Type 응답에는 Vary: Accept-Encoding을 붙이고, 압축한 응답의 강한 ETag는 약한 ETag로 바꿉니다.
+ * <p>
+ * 응답 캐시가 압축 전 본문을 저장하고 캐시 적중 응답도 압축되도록 {@link ResponseCacheFilter}보다 먼저({@link #ORDER}) 실행됩니다.
+ * 캐시는 압축 데코레이터가 헤더를 바꾸기 전에 헤더를 복사하므로({@link CapturingResponseDecorator}),
+ * 캐시 항목에는 압축 전 본문과 압축 전 헤더가 함께 저장됩니다.
+ * 라우트별 압축률과 압축 시간은 {@link GatewayMetrics#recordCompression}으로 기록합니다.
+ */
+@Component
+public class ResponseCompressionFilter implements GatewayFilter, Ordered {
+
+    /** 필터 순서 (ResponseCacheFilter 이전) */
+    public static final int ORDER = ResponseCacheFilter.ORDER - 1;
+
+    /** gzip 인코딩 이름 */
+    private static final String GZIP = "gzip";
+
+    /** 응답 압축 설정 */
+    private final ResponseCompressionProperties properties;
+
+    /** 압축 메트릭 */
+    private final GatewayMetrics metrics;
+
+    /** 압축할 Content-Type 목록 */
+    private final List<MediaType> mimeTypes;
+
+    /**
+     * ResponseCompressionFilter 생성자
+     *
+     * @param properties 응답 압축 설정
+     * @param metrics    압축 메트릭
+     */
+    public ResponseCompressionFilter(ResponseCompressionProperties properties, GatewayMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.mimeTypes = MediaType.parseMediaTypes(properties.getMimeTypes());
+    }
+
+    /**
+     * 압축을 사용하는 라우트의 응답을 압축 데코레이터로 감쌉니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || exchange.getRequest().getMethod() == HttpMethod.HEAD) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        if (properties.getExcludedRoutes().contains(routeId)) {
+            return chain.filter(exchange);
+        }
+
+        boolean acceptsGzip = acceptsGzip(exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+        CompressingResponseDecorator decorated =
+                new CompressingResponseDecorator(exchange.getResponse(), routeId, acceptsGzip);
+        return chain.filter(exchange.mutate().response(decorated).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Accept-Encoding 값이 gzip을 허용하는지 확인합니다. gzip(또는 x-gzip)이나 *의 q 값이 0보다 커야 하며,
+     * gzip이 명시되어 있으면 *보다 우선합니다.
+     *
+     * @param acceptEncoding Accept-Encoding 헤더 값 목록
+     * @return gzip 허용 여부
+     */
+    static boolean acceptsGzip(List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String value : acceptEncoding) {
+            for (String token : value.split(",")) {
+                int semicolon = token.indexOf(';');
+                String coding = (semicolon < 0 ? token : token.substring(0, semicolon)).trim();
+                boolean allowed = semicolon < 0 || quality(token.substring(semicolon + 1)) > 0;
+                if (GZIP.equalsIgnoreCase(coding) || "x-gzip".equalsIgnoreCase(coding)) {
+                    return allowed;
+                }
+                if ("*".equals(coding)) {
+                    wildcard = allowed;
+                }
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 상태 코드와 헤더가 정해진 시점(writeWith)에 압축 여부를 결정하고 본문을 압축하는 응답 데코레이터.
+     */
+    private class CompressingResponseDecorator extends ServerHttpResponseDecorator {
+
+        /** 라우트 ID (메트릭 태그) */
+        private final String routeId;
+
+        /** 클라이언트의 gzip 허용 여부 */
+        private final boolean acceptsGzip;
+
+        CompressingResponseDecorator(ServerHttpResponse delegate, String routeId, boolean acceptsGzip) {
+            super(delegate);
+            this.routeId = routeId;
+            this.acceptsGzip = acceptsGzip;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (!isCompressibleType(headers)) {
+                return super.writeWith(body);
+            }
+            addVary(headers);
+            if (!acceptsGzip || !shouldCompress(headers)) {
+                return super.writeWith(body);
+            }
+
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            String etag = headers.getETag();
+            if (etag != null && !etag.startsWith("W/")) {
+                headers.setETag("W/" + etag);
+            }
+
+            GzipEncoder encoder = new GzipEncoder(bufferFactory(), properties.getLevel());
+            Flux<DataBuffer> compressed = Flux.from(body)
+                    .concatMapIterable(encoder::encode)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(encoder.finish())))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .doOnComplete(() -> metrics.recordCompression(routeId, encoder.getInputBytes(),
+                            encoder.getOutputBytes(), encoder.getElapsedNanos()))
+                    .doFinally(signal -> encoder.close());
+            return super.writeWith(compressed);
+        }
+
+        private boolean isCompressibleType(HttpHeaders headers) {
+            MediaType contentType = headers.getContentType();
+            if (contentType == null) {
+                return false;
+            }
+            for (MediaType mimeType : mimeTypes) {
+                if (mimeType.isCompatibleWith(contentType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean shouldCompress(HttpHeaders headers) {
+            HttpStatusCode status = getStatusCode();
+            if (status != null && (status.is1xxInformational() || status.isSameCodeAs(HttpStatus.NO_CONTENT)
+                    || status.isSameCodeAs(HttpStatus.NOT_MODIFIED))) {
+                return false;
+            }
+            String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+            if (contentEncoding != null && !"identity".equalsIgnoreCase(contentEncoding)) {
+                return false;
+            }
+            String cacheControl = headers.getCacheControl();
+            if (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-transform")) {
+                return false;
+            }
+            long contentLength = headers.getContentLength();
+            return contentLength < 0 || contentLength >= properties.getMinResponseSize().toBytes();
+        }
+
+        private void addVary(HttpHeaders headers) {
+            for (String vary : headers.getVary()) {
+                if ("*".equals(vary) || HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase(vary)) {
+                    return;
+                }
+            }
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+}
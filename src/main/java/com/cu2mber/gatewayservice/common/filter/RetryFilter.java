@@ -0,0 +1,236 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.RetryProperties;
+import com.cu2mber.gatewayservice.common.loadbalancer.ExcludedInstances;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일시적인 업스트림 연결 실패를 다른 인스턴스로 재시도하는 필터 클래스입니다.
+ * <p>
+ * 연결 단계의 실패(연결 거부, 연결 타임아웃, 호스트 없음)는 요청이 업스트림에 전달되지 않았으므로 모든 메서드를 재시도하고,
+ * 본문이 없는 멱등 메서드(GET, HEAD, OPTIONS, DELETE)는 연결이 끊긴 경우(I/O 오류)도 재시도합니다.
+ * 응답 타임아웃이나 5xx 응답, 이미 응답을 쓰기 시작한 요청은 재시도하지 않습니다.
+ * 재시도 전에는 지수 백오프에 지터를 더한 시간만큼 기다리고, 실패한 인스턴스를 {@link ExcludedInstances}에 추가하여
+ * 로드밸런서가 다른 인스턴스를 고르도록 합니다.
+ * <p>
+ * 재시도 수는 게이트웨이 전체 예산(성공한 요청의 budget-percent)으로 제한하여,
+ * 업스트림 장애 중에 재시도가 부하를 몇 배로 늘리지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class RetryFilter implements GatewayFilter, Ordered {
+
+    /** 필터 순서 (서킷 브레이커 다음, 로드밸런서 이전) */
+    public static final int ORDER = CircuitBreakerFilter.ORDER + 1;
+
+    /** 연결이 끊긴 경우에도 재시도하는 메서드 */
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS =
+            Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.DELETE);
+
+    /** 재시도 설정 */
+    private final RetryProperties properties;
+
+    /** 게이트웨이 전체 재시도 예산 */
+    private final RetryBudget budget = new RetryBudget();
+
+    /** 라우트 ID → 재시도 정책 */
+    private final Map<String, RetryProperties.Policy> policies = new ConcurrentHashMap<>();
+
+    /** 라우트 ID → 재시도 횟수 */
+    private final Map<String, LongAdder> retryCounts = new ConcurrentHashMap<>();
+
+    /** 예산 부족으로 재시도하지 않은 횟수 */
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+
+    /**
+     * RetryFilter 생성자
+     *
+     * @param properties 재시도 설정
+     */
+    public RetryFilter(RetryProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 요청을 전달하고, 재시도 가능한 실패이면 백오프 후 다른 인스턴스로 다시 전달합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId().toLowerCase(Locale.ROOT);
+        RetryProperties.Policy policy = policies.computeIfAbsent(routeId,
+                id -> properties.getRoutes().getOrDefault(id, properties.getDefaultPolicy()));
+        if (policy.getMaxRetries() <= 0) {
+            return chain.filter(exchange);
+        }
+        boolean idempotent = IDEMPOTENT_METHODS.contains(exchange.getRequest().getMethod());
+        return attempt(exchange, chain, policy, routeId, idempotent, 0)
+                .doOnSuccess(v -> budget.deposit(properties.getBudgetPercent()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * 라우트의 재시도 횟수를 반환합니다.
+     *
+     * @param routeId 라우트 ID
+     * @return 재시도 횟수
+     */
+    public long getRetryCount(String routeId) {
+        LongAdder count = retryCounts.get(routeId.toLowerCase(Locale.ROOT));
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * 예산 부족으로 재시도하지 않은 횟수를 반환합니다.
+     *
+     * @return 예산 부족 횟수
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    private Mono<Void> attempt(ServerWebExchange exchange, GatewayFilterChain chain, RetryProperties.Policy policy,
+                               String routeId, boolean idempotent, int retries) {
+        return chain.filter(exchange)
+                .onErrorResume(e -> {
+                    if (retries >= policy.getMaxRetries() || exchange.getResponse().isCommitted()
+                            || !isRetryable(e, idempotent)) {
+                        return Mono.error(e);
+                    }
+                    if (!budget.tryWithdraw()) {
+                        budgetExhaustedCount.increment();
+                        return Mono.error(e);
+                    }
+                    Response<ServiceInstance> lbResponse =
+                            exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+                    if (lbResponse != null && lbResponse.hasServer()) {
+                        ExcludedInstances.add(exchange.getAttributes(), lbResponse.getServer());
+                    }
+                    ServerWebExchangeUtils.reset(exchange);
+                    retryCounts.computeIfAbsent(routeId, id -> new LongAdder()).increment();
+                    log.debug("업스트림 호출 재시도 {}/{}: {} ({})", retries + 1, policy.getMaxRetries(), routeId,
+                            e.toString());
+                    return Mono.delay(backoff(policy, retries))
+                            .then(attempt(exchange, chain, policy, routeId, idempotent, retries + 1));
+                });
+    }
+
+    /**
+     * 예외가 재시도 가능한 실패인지 확인합니다.
+     *
+     * @param error      예외
+     * @param idempotent 본문이 없는 멱등 메서드 여부
+     * @return 재시도 가능 여부
+     */
+    static boolean isRetryable(Throwable error, boolean idempotent) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+                    || cause instanceof UnknownHostException) {
+                return true;
+            }
+            if (idempotent && cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재시도 전 대기 시간을 계산합니다. first-backoff부터 재시도마다 두 배로 늘리되 max-backoff를 넘지 않으며,
+     * 여러 요청의 재시도가 한꺼번에 몰리지 않도록 절반은 무작위(equal jitter)로 정합니다.
+     *
+     * @param policy  재시도 정책
+     * @param retries 지금까지의 재시도 횟수
+     * @return 대기 시간
+     */
+    static Duration backoff(RetryProperties.Policy policy, int retries) {
+        long maxNanos = policy.getMaxBackoff().toNanos();
+        long baseNanos = Math.min(maxNanos, policy.getFirstBackoff().toNanos() << Math.min(retries, 30));
+        long half = Math.max(0, baseNanos / 2);
+        return Duration.ofNanos(half + (half == 0 ? 0 : ThreadLocalRandom.current().nextLong(half + 1)));
+    }
+
+    /**
+     * 게이트웨이 전체 재시도 예산.
+     * <p>
+     * 성공한 요청마다 budget-percent 만큼 적립하고 재시도마다 100씩 차감하는 정수 토큰으로 관리합니다.
+     * 기동 직후에도 재시도할 수 있도록 최대 예산으로 시작합니다.
+     */
+    static final class RetryBudget {
+
+        /** 재시도 하나의 예산 비용 */
+        private static final long RETRY_COST = 100;
+
+        /** 적립할 수 있는 최대 예산 (재시도 10개 분량) */
+        private static final long MAX_BUDGET = RETRY_COST * 10;
+
+        private final AtomicLong budget = new AtomicLong(MAX_BUDGET);
+
+        /**
+         * 성공한 요청 하나만큼 예산을 적립합니다.
+         *
+         * @param percent 적립할 비율(%)
+         */
+        void deposit(long percent) {
+            while (true) {
+                long current = budget.get();
+                long next = Math.min(MAX_BUDGET, current + percent);
+                if (current == next || budget.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 예산이 있으면 재시도 하나만큼 차감합니다.
+         *
+         * @return 차감 성공 여부
+         */
+        boolean tryWithdraw() {
+            while (true) {
+                long current = budget.get();
+                if (current < RETRY_COST) {
+                    return false;
+                }
+                if (budget.compareAndSet(current, current - RETRY_COST)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
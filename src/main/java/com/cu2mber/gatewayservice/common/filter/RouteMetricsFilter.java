@@ -0,0 +1,176 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.exception.CommonHttpException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 요청 처리 시간과 상태를 메트릭으로 기록하는 글로벌 필터 클래스입니다.
+ * <p>
+ * 모든 라우트 필터보다 먼저({@link #ORDER}) 실행되어 인증, 속도 제한, 업스트림 호출을 포함한 전체 처리 시간을
+ * {@code gateway.route.requests} 타이머(라우트, 결과별 히스토그램)로 기록합니다.
+ * 라우트별 재시도 횟수, 동시 요청 수 제한값, 서킷 상태도 라우트를 처음 처리할 때 함께 등록합니다.
+ * <p>
+ * 라우트마다 결과별 Timer를 한 번만 만들어 두므로, 요청마다 태그나 Meter를 생성하지 않습니다.
+ */
+@Component
+public class RouteMetricsFilter implements GlobalFilter, Ordered {
+
+    /** 필터 순서 (모든 라우트 필터 이전) */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    /** 라우트가 없는 요청의 태그 값 */
+    private static final String UNKNOWN_ROUTE = "unknown";
+
+    /** 메트릭 레지스트리 */
+    private final MeterRegistry registry;
+
+    /** 업스트림 호출 재시도 필터 (재시도 횟수) */
+    private final RetryFilter retryFilter;
+
+    /** 적응형 동시 요청 수 제한 필터 (현재 제한값) */
+    private final AdaptiveConcurrencyFilter adaptiveConcurrencyFilter;
+
+    /** 서킷 브레이커 필터 (서킷 상태) */
+    private final CircuitBreakerFilter circuitBreakerFilter;
+
+    /** 라우트 ID → 라우트 메트릭 */
+    private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+
+    /**
+     * RouteMetricsFilter 생성자
+     *
+     * @param metrics                   게이트웨이 공통 메트릭
+     * @param retryFilter               업스트림 호출 재시도 필터
+     * @param adaptiveConcurrencyFilter 적응형 동시 요청 수 제한 필터
+     * @param circuitBreakerFilter      서킷 브레이커 필터
+     */
+    public RouteMetricsFilter(GatewayMetrics metrics, RetryFilter retryFilter,
+                              AdaptiveConcurrencyFilter adaptiveConcurrencyFilter,
+                              CircuitBreakerFilter circuitBreakerFilter) {
+        this.registry = metrics.getRegistry();
+        this.retryFilter = retryFilter;
+        this.adaptiveConcurrencyFilter = adaptiveConcurrencyFilter;
+        this.circuitBreakerFilter = circuitBreakerFilter;
+    }
+
+    /**
+     * 요청 처리 시간을 측정하여 라우트와 결과별 타이머에 기록합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param chain    다음 필터 체인
+     * @return Mono<Void> 필터 체인의 완료 신호
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? UNKNOWN_ROUTE : route.getId().toLowerCase(Locale.ROOT);
+        RouteMeters meters = routeMeters.computeIfAbsent(routeId, this::register);
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(v -> meters.record(outcome(exchange.getResponse().getStatusCode()), start))
+                .doOnError(e -> meters.record(outcome(e), start))
+                .doOnCancel(() -> meters.record(Outcome.CANCELLED, start));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private RouteMeters register(String routeId) {
+        Timer[] timers = new Timer[Outcome.values().length];
+        for (Outcome outcome : Outcome.values()) {
+            timers[outcome.ordinal()] = Timer.builder("gateway.route.requests")
+                    .description("라우트별 요청 처리 시간")
+                    .tag("route", routeId)
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(GatewayMetrics.MIN_EXPECTED_LATENCY)
+                    .maximumExpectedValue(GatewayMetrics.MAX_EXPECTED_LATENCY)
+                    .register(registry);
+        }
+        if (!UNKNOWN_ROUTE.equals(routeId)) {
+            FunctionCounter.builder("gateway.route.retries", retryFilter, filter -> filter.getRetryCount(routeId))
+                    .description("라우트별 업스트림 호출 재시도 수")
+                    .tag("route", routeId)
+                    .register(registry);
+            Gauge.builder("gateway.route.concurrency.limit", adaptiveConcurrencyFilter,
+                            filter -> filter.getLimit(routeId))
+                    .description("라우트별 동시 요청 수 제한값")
+                    .tag("route", routeId)
+                    .register(registry);
+            Gauge.builder("gateway.route.circuit.open", circuitBreakerFilter,
+                            filter -> filter.isOpen(routeId) ? 1 : 0)
+                    .description("라우트별 서킷 열림 여부 (1: 열림)")
+                    .tag("route", routeId)
+                    .register(registry);
+        }
+        return new RouteMeters(timers);
+    }
+
+    private static Outcome outcome(HttpStatusCode status) {
+        if (status == null || status.is2xxSuccessful() || status.is3xxRedirection()) {
+            return Outcome.SUCCESS;
+        }
+        return status.is4xxClientError() ? Outcome.CLIENT_ERROR : Outcome.SERVER_ERROR;
+    }
+
+    private static Outcome outcome(Throwable error) {
+        if (error instanceof CommonHttpException commonEx) {
+            return commonEx.getStatusCode() < 500 ? Outcome.CLIENT_ERROR : Outcome.SERVER_ERROR;
+        }
+        if (error instanceof ResponseStatusException responseStatusEx) {
+            return outcome(responseStatusEx.getStatusCode());
+        }
+        return Outcome.SERVER_ERROR;
+    }
+
+    /**
+     * 요청 처리 결과.
+     */
+    enum Outcome {
+
+        /** 2xx, 3xx 응답 */
+        SUCCESS,
+
+        /** 4xx 응답 (인증 실패, 속도 제한 포함) */
+        CLIENT_ERROR,
+
+        /** 5xx 응답 또는 업스트림 호출 실패 */
+        SERVER_ERROR,
+
+        /** 클라이언트가 연결을 끊어 취소된 요청 */
+        CANCELLED
+    }
+
+    /**
+     * 라우트 하나의 결과별 타이머.
+     *
+     * @param timers Outcome 순서의 타이머 배열
+     */
+    private record RouteMeters(Timer[] timers) {
+
+        void record(Outcome outcome, long startNanos) {
+            timers[outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.cu2mber.gatewayservice.common.handler;
 
 import com.cu2mber.gatewayservice.common.exception.CommonHttpException;
-import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import com.cu2mber.gatewayservice.common.exception.ServiceUnavailableException;
+import com.cu2mber.gatewayservice.common.exception.TooManyRequestsException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics.ErrorType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -15,9 +21,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 /**
  * 글로벌 예외 처리 핸들러 클래스.
@@ -29,14 +37,16 @@ import java.util.Map;
  * 반환 JSON 구조:
  * <pre>
  * {
- *   "timestamp": ISO-8601 형식 시간,
+ *   "timestamp": ISO-8601 형식 시간(초 단위),
  *   "status": HTTP 상태 코드,
  *   "error": 상태 코드 설명,
  *   "message": 오류 메시지,
  *   "path": 요청 URI
  * }
  * </pre>
- * 로그에는 발생한 예외와 메시지를 기록합니다.
+ * 상태 코드/메시지 조합별로 응답 본문을 미리 직렬화해 두고, 요청마다 timestamp와 path만 채워 넣습니다.
+ * 4xx 등 처리된 예외는 로그 대신 상태 코드별 카운터(GatewayMetrics의 gateway.errors 포함)로 집계하고,
+ * 처리되지 않은 예외만 ERROR 로그로 기록합니다.
  */
 @Slf4j
 @Order(-1)
@@ -47,9 +57,32 @@ public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
     /** JSON 직렬화를 위한 ObjectMapper */
     private final ObjectMapper objectMapper;
 
+    /** 상태 코드와 예외 종류별 에러 응답 메트릭 */
+    private final GatewayMetrics metrics;
+
     /** 기본 서버 내부 오류 메시지 */
     private static final String ERROR_MESSAGE = "서버 내부 오류가 발생했습니다.";
 
+    /** 미리 직렬화해 둘 응답 템플릿의 최대 개수 (동적 메시지로 인한 무한 증가 방지) */
+    private static final int MAX_TEMPLATES = 256;
+
+    /** timestamp 포맷 (초 단위) */
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /** 응답 본문 시작 부분 */
+    private static final byte[] BODY_PREFIX = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+
+    /** 응답 본문 끝 부분 */
+    private static final byte[] BODY_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+
+    /** "상태코드:메시지" → timestamp와 path 사이에 들어갈 미리 직렬화된 본문 조각 */
+    private final Cache<String, byte[]> templates = Caffeine.newBuilder()
+            .maximumSize(MAX_TEMPLATES)
+            .build();
+
+    /** 초 단위로 재사용하는 직렬화된 timestamp */
+    private volatile RenderedTimestamp renderedTimestamp = new RenderedTimestamp(Long.MIN_VALUE, new byte[0]);
+
     /**
      * 모든 예외를 처리하고, 적절한 HTTP 상태 코드와 JSON 응답을 반환합니다.
      *
@@ -62,50 +95,150 @@ public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
 
         HttpStatus httpStatus;
         String errorMessage;
-        Map<String, Object> errorAttributes = new HashMap<>();
+        ErrorType errorType;
 
-        if (ex instanceof CommonHttpException) {
-            CommonHttpException commonEx = (CommonHttpException) ex;
+        if (ex instanceof CommonHttpException commonEx) {
             httpStatus = HttpStatus.valueOf(commonEx.getStatusCode());
             errorMessage = commonEx.getMessage();
-            log.error("요청 처리 중 CommonHttpException 발생: {}", errorMessage);
-        } else if (ex instanceof UnauthorizedException) {
-            httpStatus = HttpStatus.UNAUTHORIZED;
-            errorMessage = ex.getMessage();
-            log.error("요청 처리 중 UnauthorizedException 발생: {}", errorMessage);
-        } else if (ex instanceof ResponseStatusException) {
-            ResponseStatusException responseStatusEx = (ResponseStatusException) ex;
+            errorType = ErrorType.GATEWAY;
+            log.debug("요청 처리 중 {} 발생: {}", ex.getClass().getSimpleName(), errorMessage);
+        } else if (ex instanceof ResponseStatusException responseStatusEx) {
             httpStatus = (HttpStatus) responseStatusEx.getStatusCode();
             errorMessage = responseStatusEx.getReason();
-            log.error("요청 처리 중 ResponseStatusException 발생: {}", errorMessage);
+            errorType = ErrorType.RESPONSE_STATUS;
+            log.debug("요청 처리 중 ResponseStatusException 발생: {}", errorMessage);
         } else {
             httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
             errorMessage = ERROR_MESSAGE;
+            errorType = ErrorType.UNHANDLED;
             log.error("서버 내부에서 처리되지 않은 예외 발생: ", ex);
         }
 
+        metrics.recordError(httpStatus.value(), errorType);
+
         exchange.getResponse().setStatusCode(httpStatus);
         exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
-
-        errorAttributes.put("timestamp", LocalDateTime.now());
-        errorAttributes.put("status", httpStatus.value());
-        errorAttributes.put("error", httpStatus.getReasonPhrase());
-        errorAttributes.put("message", errorMessage);
-        errorAttributes.put("path", exchange.getRequest().getPath().value());
+        if (ex instanceof TooManyRequestsException tooManyRequestsEx) {
+            exchange.getResponse().getHeaders()
+                    .set(HttpHeaders.RETRY_AFTER, Long.toString(tooManyRequestsEx.getRetryAfterSeconds()));
+        } else if (ex instanceof ServiceUnavailableException serviceUnavailableEx) {
+            exchange.getResponse().getHeaders()
+                    .set(HttpHeaders.RETRY_AFTER, Long.toString(serviceUnavailableEx.getRetryAfterSeconds()));
+        }
 
         DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+        byte[] jsonBytes = renderErrorBody(httpStatus, errorMessage, exchange.getRequest().getPath().value());
+
+        return exchange.getResponse().writeWith(Mono.just(bufferFactory.wrap(jsonBytes)));
+    }
+
+    /**
+     * 에러 응답 JSON 본문을 생성합니다.
+     * <p>
+     * 상태 코드와 메시지에 해당하는 템플릿을 재사용하고, timestamp와 path만 바이트 배열로 이어 붙입니다.
+     *
+     * @param httpStatus   HTTP 상태
+     * @param errorMessage 오류 메시지
+     * @param path         요청 경로
+     * @return 직렬화된 JSON 바이트 배열
+     */
+    public byte[] renderErrorBody(HttpStatus httpStatus, String errorMessage, String path) {
+        byte[] timestamp = currentTimestamp();
+        byte[] template = templates.get(httpStatus.value() + ":" + errorMessage,
+                key -> renderTemplate(httpStatus, errorMessage));
+        byte[] pathJson = toJsonString(path);
+
+        byte[] body = new byte[BODY_PREFIX.length + timestamp.length + template.length
+                + pathJson.length + BODY_SUFFIX.length];
+        int offset = 0;
+        System.arraycopy(BODY_PREFIX, 0, body, offset, BODY_PREFIX.length);
+        offset += BODY_PREFIX.length;
+        System.arraycopy(timestamp, 0, body, offset, timestamp.length);
+        offset += timestamp.length;
+        System.arraycopy(template, 0, body, offset, template.length);
+        offset += template.length;
+        System.arraycopy(pathJson, 0, body, offset, pathJson.length);
+        offset += pathJson.length;
+        System.arraycopy(BODY_SUFFIX, 0, body, offset, BODY_SUFFIX.length);
+        return body;
+    }
+
+    /**
+     * timestamp 뒤부터 path 값 앞까지의 본문 조각을 직렬화합니다.
+     *
+     * @param httpStatus   HTTP 상태
+     * @param errorMessage 오류 메시지
+     * @return {@code ","status":...,"error":...,"message":...,"path":} 형태의 바이트 배열
+     */
+    private byte[] renderTemplate(HttpStatus httpStatus, String errorMessage) {
+        try {
+            String template = "\",\"status\":" + httpStatus.value()
+                    + ",\"error\":" + objectMapper.writeValueAsString(httpStatus.getReasonPhrase())
+                    + ",\"message\":" + objectMapper.writeValueAsString(errorMessage)
+                    + ",\"path\":";
+            return template.getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            log.error("에러 응답 JSON 직렬화 실패", e);
+
+            return ("\",\"status\":" + httpStatus.value() + ",\"message\":\"응답 처리 중 오류 발생\",\"path\":")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
 
-        return exchange.getResponse().writeWith(
-                Mono.defer(() -> {
-                    try {
-                        byte[] jsonBytes = objectMapper.writeValueAsBytes(errorAttributes);
-                        return Mono.just(bufferFactory.wrap(jsonBytes));
-                    } catch (JsonProcessingException e) {
-                        log.error("에러 응답 JSON 직렬화 실패", e);
-
-                        return Mono.just(bufferFactory.wrap("{\"message\": \"응답 처리 중 오류 발생\"}".getBytes()));
-                    }
-                })
-        );
+    /**
+     * 요청 경로를 JSON 문자열로 변환합니다.
+     * <p>
+     * 일반적인 경로는 이스케이프가 필요 없으므로 그대로 따옴표만 붙이고,
+     * 이스케이프가 필요한 문자가 있을 때만 ObjectMapper를 사용합니다.
+     *
+     * @param path 요청 경로
+     * @return JSON 문자열 바이트 배열
+     */
+    private byte[] toJsonString(String path) {
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\' || c > 0x7e) {
+                try {
+                    return objectMapper.writeValueAsBytes(path);
+                } catch (JsonProcessingException e) {
+                    return "null".getBytes(StandardCharsets.UTF_8);
+                }
+            }
+        }
+
+        byte[] json = new byte[path.length() + 2];
+        json[0] = '"';
+        for (int i = 0; i < path.length(); i++) {
+            json[i + 1] = (byte) path.charAt(i);
+        }
+        json[json.length - 1] = '"';
+        return json;
+    }
+
+    /**
+     * 현재 시각(초 단위)의 직렬화된 timestamp를 반환합니다.
+     * <p>
+     * 같은 초 안에서는 이전에 포맷한 결과를 재사용합니다.
+     *
+     * @return timestamp 바이트 배열
+     */
+    private byte[] currentTimestamp() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        RenderedTimestamp current = renderedTimestamp;
+        if (current.epochSecond() != epochSecond) {
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+            current = new RenderedTimestamp(epochSecond, TIMESTAMP_FORMAT.format(now).getBytes(StandardCharsets.UTF_8));
+            renderedTimestamp = current;
+        }
+        return current.bytes();
+    }
+
+    /**
+     * 초 단위로 캐싱되는 직렬화된 timestamp.
+     *
+     * @param epochSecond 기준 epoch 초
+     * @param bytes       직렬화된 timestamp
+     */
+    private record RenderedTimestamp(long epochSecond, byte[] bytes) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,297 @@
+package com.cu2mber.gatewayservice.common.lifecycle;
+
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.config.WarmupProperties;
+import com.cu2mber.gatewayservice.common.exception.CommonHttpException;
+import com.cu2mber.gatewayservice.common.handler.GlobalExceptionHandler;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.provider.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 게이트웨이가 트래픽을 받기 전에 요청 경로의 주요 구성 요소를 미리 데워 두는 예열 단계입니다.
+ * <p>
+ * 배포 직후에는 서비스 목록 캐시와 라우트가 비어 있고, 업스트림 커넥션 풀이 비어 있으며,
+ * JWT 검증과 에러 응답 렌더링 코드가 아직 JIT 컴파일되지 않아 첫 요청들이 느립니다.
+ * 이 컴포넌트는 다음 단계를 순서대로 실행합니다.
+ * <ol>
+ *     <li>service-cache: 서비스 목록과 서비스별 인스턴스 목록을 ServiceCache에 적재</li>
+ *     <li>routes: 라우트 목록을 생성</li>
+ *     <li>connections: 인스턴스마다 설정된 수만큼 동시에 요청을 보내 게이트웨이 HttpClient 풀에 커넥션을 열어 둠</li>
+ *     <li>jwt: 합성 토큰(유효/잘못된 서명)으로 JwtProvider 검증 경로를 반복 실행</li>
+ *     <li>error-render: 검증 실패 예외와 주요 상태 코드로 에러 응답 본문을 반복 렌더링</li>
+ * </ol>
+ * <p>
+ * {@link SmartLifecycle} 단계({@link #PHASE})가 EurekaAutoServiceRegistration(0)과 웹 서버 시작보다 앞서므로,
+ * 예열이 끝나기 전에는 Eureka에 등록되지 않고 readiness도 전환되지 않습니다.
+ * 각 단계는 실패하거나 시간 초과되어도 기동을 막지 않으며, 단계별 실행 시간은 로그와
+ * {@code gateway.warmup.duration} 메트릭으로 보고합니다. 합성 토큰 검증은 {@link JwtProvider#detached(String)}로
+ * 만든 별도 인스턴스에서 실행하므로 운영 JWT 메트릭과 검증 캐시에 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class GatewayWarmup implements SmartLifecycle {
+
+    /** 라이프사이클 단계 (Eureka 등록, 웹 서버 시작 이전) */
+    public static final int PHASE = -100;
+
+    /** 합성 토큰의 유효 시간 (검증 캐시에 오래 남지 않도록 짧게) */
+    private static final Duration SYNTHETIC_TOKEN_TTL = Duration.ofSeconds(5);
+
+    /** 에러 응답 렌더링 예열에 사용할 요청 경로 */
+    private static final String SYNTHETIC_PATH = "/api/warmup-service/warmup";
+
+    /** 예열 설정 */
+    private final WarmupProperties properties;
+
+    /** 서비스 목록 캐시 */
+    private final ServiceCache serviceCache;
+
+    /** 라우트 로케이터 */
+    private final RouteLocator routeLocator;
+
+    /** 게이트웨이가 업스트림 호출에 사용하는 HttpClient */
+    private final HttpClient httpClient;
+
+    /** 예열 전용 JWT 검증기 (운영 메트릭·캐시와 분리) */
+    private final JwtProvider jwtProvider;
+
+    /** 전역 예외 처리기 (에러 응답 렌더링) */
+    private final GlobalExceptionHandler exceptionHandler;
+
+    /** 단계별 실행 시간 메트릭 */
+    private final GatewayMetrics metrics;
+
+    /** 합성 토큰 서명 키 */
+    private final Key signingKey;
+
+    /** 단계 이름 → 실행 시간 (마지막 예열 결과) */
+    private final Map<String, Duration> stepDurations = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /** 실행 여부 */
+    private volatile boolean running;
+
+    /**
+     * GatewayWarmup 생성자
+     *
+     * @param properties       예열 설정
+     * @param serviceCache     서비스 목록 캐시
+     * @param routeLocator     라우트 로케이터
+     * @param httpClient       게이트웨이 HttpClient
+     * @param exceptionHandler 전역 예외 처리기
+     * @param metrics          게이트웨이 공통 메트릭
+     * @param secret           JWT 서명 키 (Base64)
+     */
+    public GatewayWarmup(WarmupProperties properties, ServiceCache serviceCache, RouteLocator routeLocator,
+                         HttpClient httpClient, GlobalExceptionHandler exceptionHandler,
+                         GatewayMetrics metrics, @Value("${jwt.secret}") String secret) {
+        this.properties = properties;
+        this.serviceCache = serviceCache;
+        this.routeLocator = routeLocator;
+        this.httpClient = httpClient;
+        this.jwtProvider = JwtProvider.detached(secret);
+        this.exceptionHandler = exceptionHandler;
+        this.metrics = metrics;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    /**
+     * 예열 단계를 순서대로 실행합니다. 모든 단계가 끝난 뒤에 반환됩니다.
+     */
+    @Override
+    public void start() {
+        if (properties.isEnabled()) {
+            long start = System.nanoTime();
+            Map<String, List<ServiceInstance>> instances = step("service-cache", this::loadServiceCache);
+            step("routes", () -> routeLocator.getRoutes().count().block(properties.getStepTimeout()));
+            step("connections", () -> openConnections(instances == null ? Map.of() : instances));
+            List<CommonHttpException> failures = step("jwt", this::validateSyntheticTokens);
+            step("error-render", () -> renderErrors(failures == null ? List.of() : failures));
+            log.info("게이트웨이 예열 완료 - {}ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 마지막 예열의 단계별 실행 시간을 반환합니다.
+     *
+     * @return 단계 이름 → 실행 시간
+     */
+    public Map<String, Duration> getStepDurations() {
+        synchronized (stepDurations) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(stepDurations));
+        }
+    }
+
+    /**
+     * 단계 하나를 실행하고 실행 시간을 기록합니다. 실패해도 예외를 던지지 않습니다.
+     *
+     * @param name 단계 이름
+     * @param body 단계 본문
+     * @return 단계 결과, 실패하면 null
+     */
+    private <T> T step(String name, Callable<T> body) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = body.call();
+            success = true;
+            return result;
+        } catch (Exception e) {
+            log.warn("게이트웨이 예열 단계 실패 - step: {}, message: {}", name, e.getMessage());
+            return null;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            stepDurations.put(name, Duration.ofNanos(elapsed));
+            metrics.recordWarmupStep(name, elapsed, success);
+            log.info("게이트웨이 예열 단계 - step: {}, {}ms, success: {}",
+                    name, Duration.ofNanos(elapsed).toMillis(), success);
+        }
+    }
+
+    /**
+     * 서비스 목록과 서비스별 인스턴스 목록을 ServiceCache에 적재합니다.
+     *
+     * @return 서비스명 → 인스턴스 목록
+     */
+    private Map<String, List<ServiceInstance>> loadServiceCache() {
+        return serviceCache.getServices()
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(service -> serviceCache.getInstances(service).map(list -> Map.entry(service, list)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block(properties.getStepTimeout());
+    }
+
+    /**
+     * 인스턴스마다 connections-per-instance개의 요청을 동시에 보내 커넥션 풀을 채웁니다.
+     * 응답 상태와 관계없이 커넥션이 열리면 성공으로 봅니다.
+     *
+     * @param instances 서비스명 → 인스턴스 목록
+     * @return 성공한 요청 수
+     */
+    private Long openConnections(Map<String, List<ServiceInstance>> instances) {
+        httpClient.warmup().block(properties.getStepTimeout());
+        int perInstance = properties.getConnectionsPerInstance();
+        if (perInstance <= 0) {
+            return 0L;
+        }
+        return Flux.fromIterable(instances.values())
+                .flatMapIterable(list -> list)
+                .flatMap(instance -> Flux.range(0, perInstance)
+                        .flatMap(i -> connect(instance), perInstance))
+                .count()
+                .block(properties.getStepTimeout());
+    }
+
+    private Mono<Integer> connect(ServiceInstance instance) {
+        String uri = UriComponentsBuilder.fromUri(instance.getUri())
+                .path(properties.getConnectionPath())
+                .toUriString();
+        return httpClient.get()
+                .uri(uri)
+                .responseSingle((response, body) -> body.asByteArray()
+                        .then(Mono.just(response.status().code())))
+                .timeout(properties.getStepTimeout())
+                .onErrorResume(e -> {
+                    log.debug("커넥션 예열 실패 - uri: {}, message: {}", uri, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 합성 토큰으로 JWT 검증 경로(서명 검증 성공, 서명 불일치)를 반복 실행합니다.
+     * 예열 전용 검증기는 캐시 크기가 0이므로 매번 서명 검증까지 수행합니다.
+     *
+     * @return 검증 실패 시 발생한 예외 (에러 응답 렌더링 예열에 사용)
+     */
+    private List<CommonHttpException> validateSyntheticTokens() {
+        Key otherKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        List<CommonHttpException> failures = new ArrayList<>();
+        for (int i = 0; i < properties.getJwtIterations(); i++) {
+            Date expiration = new Date(System.currentTimeMillis() + SYNTHETIC_TOKEN_TTL.toMillis());
+            jwtProvider.validateAndGetClaims(syntheticToken("warmup-" + i, expiration, signingKey));
+            if (i % 10 == 0) {
+                try {
+                    jwtProvider.validateAndGetClaims(syntheticToken("warmup-" + i, expiration, otherKey));
+                } catch (CommonHttpException e) {
+                    if (failures.isEmpty()) {
+                        failures.add(e);
+                    }
+                }
+            }
+        }
+        return failures;
+    }
+
+    private static String syntheticToken(String subject, Date expiration, Key key) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("roles", List.of("USER"))
+                .setExpiration(expiration)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 검증 실패 예외와 주요 상태 코드로 에러 응답 본문을 반복 렌더링합니다.
+     *
+     * @param failures JWT 검증 단계에서 발생한 예외
+     * @return 렌더링한 본문의 총 크기(바이트)
+     */
+    private Long renderErrors(List<CommonHttpException> failures) {
+        List<Map.Entry<HttpStatus, String>> errors = new ArrayList<>();
+        for (CommonHttpException failure : failures) {
+            errors.add(Map.entry(HttpStatus.valueOf(failure.getStatusCode()), failure.getMessage()));
+        }
+        for (HttpStatus status : List.of(HttpStatus.NOT_FOUND, HttpStatus.TOO_MANY_REQUESTS,
+                HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT)) {
+            errors.add(Map.entry(status, status.getReasonPhrase()));
+        }
+
+        long bytes = 0;
+        for (int i = 0; i < properties.getErrorRenderIterations(); i++) {
+            Map.Entry<HttpStatus, String> error = errors.get(i % errors.size());
+            bytes += exceptionHandler.renderErrorBody(error.getKey(), error.getValue(), SYNTHETIC_PATH).length;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,57 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 하나에서 다시 선택하지 않을 인스턴스 목록을 exchange(또는 로드밸런서 요청) 속성으로 관리하는 유틸리티입니다.
+ * <p>
+ * 헤지 요청이나 재시도가 이미 사용한 인스턴스를 피하도록 ServiceCacheInstanceListSupplier가 이 속성을 참고합니다.
+ * 제외하고 나면 후보가 없을 때는 제외하지 않은 전체 목록을 사용합니다.
+ */
+public final class ExcludedInstances {
+
+    /** 제외할 인스턴스 키 집합을 저장하는 속성 이름 */
+    public static final String ATTR = ExcludedInstances.class.getName();
+
+    private ExcludedInstances() {
+    }
+
+    /**
+     * 인스턴스를 제외 목록에 추가합니다.
+     *
+     * @param attributes exchange 속성
+     * @param instance   제외할 인스턴스
+     */
+    @SuppressWarnings("unchecked")
+    public static void add(Map<String, Object> attributes, ServiceInstance instance) {
+        Set<String> excluded = (Set<String>) attributes.computeIfAbsent(ATTR, key -> new HashSet<String>());
+        excluded.add(InstanceStatsRegistry.key(instance));
+    }
+
+    /**
+     * 인스턴스가 제외 목록에 있는지 확인합니다.
+     *
+     * @param attributes exchange 속성
+     * @param instance   확인할 인스턴스
+     * @return 제외 여부
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean contains(Map<String, Object> attributes, ServiceInstance instance) {
+        Object excluded = attributes.get(ATTR);
+        return excluded instanceof Set<?> set && ((Set<String>) set).contains(InstanceStatsRegistry.key(instance));
+    }
+
+    /**
+     * 제외 목록이 있는지 확인합니다.
+     *
+     * @param attributes exchange 속성
+     * @return 제외 목록 존재 여부
+     */
+    public static boolean isPresent(Map<String, Object> attributes) {
+        return attributes.get(ATTR) instanceof Set<?> set && !set.isEmpty();
+    }
+}
@@ -0,0 +1,342 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import com.cu2mber.gatewayservice.common.config.GatewayLoadBalancerProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스별 처리 중인 요청 수와 응답 시간 peak-EWMA를 기록하는 레지스트리입니다.
+ * <p>
+ * LoadBalancerLifecycle로 등록되어 ReactiveLoadBalancerClientFilter가 인스턴스를 선택한 시점(onStartRequest)과
+ * 요청이 끝난 시점(onComplete)에 호출됩니다. onComplete 없이 취소된 요청은 LoadBalancerCancellationFilter가
+ * {@link #requestAbandoned}로 되돌립니다. 응답 시간은 새 측정값이 현재 값보다 크면 즉시 반영하고(peak),
+ * 작으면 경과 시간에 따라 지수 감쇠 평균으로 천천히 반영하므로, 느려진 인스턴스를 빠르게 피하고
+ * 회복된 인스턴스에는 점진적으로 트래픽을 돌려줍니다.
+ * <p>
+ * 또한 5xx 응답, 연결 실패, 타임아웃이 연속으로 발생한 인스턴스를 일정 시간 제외 대상으로 표시합니다(passive health check).
+ * 제외된 인스턴스는 ServiceCacheInstanceListSupplier가 선택 후보에서 빼므로, Eureka가 인스턴스를 제거하기 전에도
+ * 트래픽이 끊깁니다. 같은 인스턴스가 다시 제외될 때마다 제외 시간은 두 배로 늘어납니다.
+ */
+@Slf4j
+@Component
+public class InstanceStatsRegistry implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    /** 요청 시작 시각을 저장하는 exchange 속성 이름 */
+    private static final String START_NANOS_ATTR = InstanceStatsRegistry.class.getName() + ".startNanos";
+
+    /** 연결 실패 등으로 응답을 받지 못한 요청에 적용할 응답 시간(나노초) */
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** 측정값이 없는 인스턴스에 요청이 처리 중일 때 적용할 비용 */
+    private static final double UNKNOWN_LATENCY_PENALTY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** 감쇠 시간(나노초) */
+    private final double decayNanos;
+
+    /** 연속 실패 인스턴스 제외 설정 */
+    private final GatewayLoadBalancerProperties.Outlier outlier;
+
+    /** 인스턴스 키 → 통계 */
+    private final Cache<String, InstanceStats> stats = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * InstanceStatsRegistry 생성자
+     *
+     * @param properties 로드밸런서 설정
+     */
+    public InstanceStatsRegistry(GatewayLoadBalancerProperties properties) {
+        this.decayNanos = properties.getDecayTime().toNanos();
+        this.outlier = properties.getOutlier();
+    }
+
+    /**
+     * 인스턴스의 현재 부하 비용을 반환합니다. 값이 작을수록 먼저 선택됩니다.
+     *
+     * @param instance 서비스 인스턴스
+     * @return (응답 시간 EWMA) × (처리 중인 요청 수 + 1)
+     */
+    public double cost(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.getIfPresent(key(instance));
+        return instanceStats == null ? 0 : instanceStats.cost();
+    }
+
+    /**
+     * 인스턴스의 처리 중인 요청 수를 반환합니다.
+     *
+     * @param instance 서비스 인스턴스
+     * @return 처리 중인 요청 수
+     */
+    public int outstanding(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.getIfPresent(key(instance));
+        return instanceStats == null ? 0 : instanceStats.outstanding.get();
+    }
+
+    /**
+     * 인스턴스가 연속 실패로 선택 대상에서 제외된 상태인지 확인합니다.
+     *
+     * @param instance 서비스 인스턴스
+     * @return 제외 여부
+     */
+    public boolean isEjected(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.getIfPresent(key(instance));
+        return instanceStats != null && instanceStats.isEjected(System.nanoTime());
+    }
+
+    /**
+     * 동시에 제외할 수 있는 최대 비율(%)을 반환합니다.
+     *
+     * @return 최대 제외 비율, 제외 기능을 사용하지 않으면 0
+     */
+    public int getMaxEjectionPercent() {
+        return outlier.isEnabled() ? outlier.getMaxEjectionPercent() : 0;
+    }
+
+    /**
+     * 인스턴스에 요청을 보내기 시작했음을 기록합니다.
+     *
+     * @param instance 서비스 인스턴스
+     */
+    public void requestStarted(ServiceInstance instance) {
+        statsFor(instance).outstanding.incrementAndGet();
+    }
+
+    /**
+     * 인스턴스에 보낸 요청이 끝났음을 기록합니다.
+     *
+     * @param instance     서비스 인스턴스
+     * @param elapsedNanos 요청 소요 시간(나노초)
+     * @param outcome      요청 결과
+     */
+    public void requestCompleted(ServiceInstance instance, long elapsedNanos, Outcome outcome) {
+        InstanceStats instanceStats = statsFor(instance);
+        instanceStats.outstanding.decrementAndGet();
+        long now = System.nanoTime();
+        instanceStats.observe(outcome == Outcome.FAILED ? Math.max(elapsedNanos, FAILURE_PENALTY_NANOS) : elapsedNanos,
+                now, decayNanos);
+        if (outlier.isEnabled()) {
+            long ejectionNanos = instanceStats.recordOutcome(outcome == Outcome.SUCCESS, now, outlier);
+            if (ejectionNanos > 0) {
+                log.warn("연속 실패로 인스턴스를 {}ms 동안 제외합니다: {}", ejectionNanos / 1_000_000, key(instance));
+            }
+        }
+    }
+
+    /**
+     * 인스턴스에 보낸 요청이 응답 전에 취소되었음을 기록합니다 (헤지 요청에서 진 쪽 등).
+     * 응답 시간을 알 수 없으므로 처리 중인 요청 수만 줄입니다.
+     *
+     * @param instance 서비스 인스턴스
+     */
+    public void requestCancelled(ServiceInstance instance) {
+        statsFor(instance).outstanding.decrementAndGet();
+    }
+
+    /**
+     * 로드밸런서가 시작한 요청이 onComplete 없이 취소되었을 때 처리 중인 요청 수를 줄입니다.
+     * 시작 시각 속성을 먼저 제거한 쪽만 처리하므로 onComplete와 함께 호출되어도 한 번만 줄어듭니다.
+     *
+     * @param attributes exchange 속성 (로드밸런서 요청 속성과 같은 맵)
+     * @param instance   서비스 인스턴스
+     */
+    public void requestAbandoned(Map<String, Object> attributes, ServiceInstance instance) {
+        if (attributes.remove(START_NANOS_ATTR) != null) {
+            requestCancelled(instance);
+        }
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        requestStarted(lbResponse.getServer());
+        attributes(request).put(START_NANOS_ATTR, System.nanoTime());
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        Request<RequestDataContext> request = completionContext.getLoadBalancerRequest();
+        if (lbResponse == null || !lbResponse.hasServer() || request == null) {
+            return;
+        }
+        Object startNanos = attributes(request).remove(START_NANOS_ATTR);
+        if (startNanos instanceof Long start) {
+            requestCompleted(lbResponse.getServer(), System.nanoTime() - start, outcome(completionContext));
+        }
+    }
+
+    /**
+     * 요청 결과를 분류합니다. 연결 실패, 타임아웃 등 예외는 FAILED, 5xx 응답은 SERVER_ERROR입니다.
+     *
+     * @param completionContext 요청 완료 정보
+     * @return 요청 결과
+     */
+    private static Outcome outcome(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return Outcome.FAILED;
+        }
+        ResponseData responseData = completionContext.getClientResponse();
+        HttpStatusCode status = responseData == null ? null : responseData.getHttpStatus();
+        return status != null && status.is5xxServerError() ? Outcome.SERVER_ERROR : Outcome.SUCCESS;
+    }
+
+    /**
+     * 인스턴스를 식별하는 키를 만듭니다.
+     *
+     * @param instance 서비스 인스턴스
+     * @return 서비스명:호스트:포트
+     */
+    static String key(ServiceInstance instance) {
+        return instance.getServiceId() + ':' + instance.getHost() + ':' + instance.getPort();
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        return stats.get(key(instance), key -> new InstanceStats());
+    }
+
+    private static Map<String, Object> attributes(Request<RequestDataContext> request) {
+        return request.getContext().getClientRequest().getAttributes();
+    }
+
+    /**
+     * 인스턴스에 보낸 요청의 결과.
+     */
+    public enum Outcome {
+
+        /** 5xx가 아닌 응답 */
+        SUCCESS,
+
+        /** 5xx 응답 */
+        SERVER_ERROR,
+
+        /** 연결 실패, 타임아웃 등 응답을 받지 못함 */
+        FAILED
+    }
+
+    /**
+     * 인스턴스 하나의 부하 및 상태 통계.
+     */
+    static final class InstanceStats {
+
+        /** 처리 중인 요청 수 */
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        /** 응답 시간 peak-EWMA(나노초) */
+        private double latencyNanos;
+
+        /** 마지막 측정 시각(System.nanoTime) */
+        private long stampNanos = System.nanoTime();
+
+        /** 연속 실패 횟수 */
+        private int consecutiveFailures;
+
+        /** 최근 제외 횟수 (제외 시간 배수 계산용) */
+        private int ejections;
+
+        /** 한 번이라도 제외된 적이 있는지 여부 */
+        private volatile boolean everEjected;
+
+        /** 제외가 끝나는 시각(System.nanoTime) */
+        private volatile long ejectedUntilNanos;
+
+        /**
+         * 제외 상태인지 확인합니다.
+         *
+         * @param now 현재 시각(System.nanoTime)
+         * @return 제외 여부
+         */
+        boolean isEjected(long now) {
+            return everEjected && ejectedUntilNanos - now > 0;
+        }
+
+        /**
+         * 요청 결과를 반영하고, 연속 실패 횟수가 기준에 도달하면 인스턴스를 제외합니다.
+         * 마지막 제외가 끝난 뒤 최대 제외 시간 동안 다시 제외되지 않았다면 제외 시간 배수를 초기화합니다.
+         *
+         * @param healthy 정상 응답 여부
+         * @param now     현재 시각(System.nanoTime)
+         * @param outlier 제외 설정
+         * @return 새로 제외했다면 제외 시간(나노초), 아니면 0
+         */
+        synchronized long recordOutcome(boolean healthy, long now, GatewayLoadBalancerProperties.Outlier outlier) {
+            if (healthy) {
+                consecutiveFailures = 0;
+                return 0;
+            }
+            if (++consecutiveFailures < outlier.getConsecutiveFailures() || isEjected(now)) {
+                return 0;
+            }
+            long maxNanos = outlier.getMaxEjectionTime().toNanos();
+            if (everEjected && now - ejectedUntilNanos > maxNanos) {
+                ejections = 0;
+            }
+            consecutiveFailures = 0;
+            ejections = Math.min(ejections + 1, Long.SIZE - 2);
+            long ejectionNanos = Math.min(outlier.getBaseEjectionTime().toNanos() << (ejections - 1), maxNanos);
+            if (ejectionNanos <= 0) {
+                ejectionNanos = maxNanos;
+            }
+            ejectedUntilNanos = now + ejectionNanos;
+            everEjected = true;
+            return ejectionNanos;
+        }
+
+        /**
+         * 응답 시간 측정값을 반영합니다.
+         *
+         * @param rttNanos   응답 시간(나노초)
+         * @param now        현재 시각(System.nanoTime)
+         * @param decayNanos 감쇠 시간(나노초)
+         */
+        synchronized void observe(long rttNanos, long now, double decayNanos) {
+            long elapsed = Math.max(0, now - stampNanos);
+            stampNanos = now;
+            if (rttNanos > latencyNanos) {
+                latencyNanos = rttNanos;
+            } else {
+                double weight = Math.exp(-elapsed / decayNanos);
+                latencyNanos = latencyNanos * weight + rttNanos * (1 - weight);
+            }
+        }
+
+        /**
+         * 부하 비용을 계산합니다. 측정값이 없는 인스턴스는 처리 중인 요청이 없으면 가장 먼저 선택됩니다.
+         *
+         * @return 부하 비용
+         */
+        synchronized double cost() {
+            int inFlight = outstanding.get();
+            double latency = latencyNanos == 0 && inFlight > 0 ? UNKNOWN_LATENCY_PENALTY_NANOS : latencyNanos;
+            return latency * (inFlight + 1);
+        }
+    }
+}
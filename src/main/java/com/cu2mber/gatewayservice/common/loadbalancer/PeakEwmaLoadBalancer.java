@@ -0,0 +1,84 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 처리 중인 요청 수와 응답 시간 peak-EWMA로 인스턴스를 선택하는 로드밸런서입니다.
+ * <p>
+ * 모든 인스턴스의 비용을 비교하지 않고 무작위로 고른 두 인스턴스 중 비용이 작은 쪽을 선택합니다(power of two choices).
+ * 비교 비용이 인스턴스 수와 무관하고, 동시에 들어온 요청이 같은 "가장 좋은" 인스턴스로 몰리지 않으면서도
+ * 느리거나 GC로 멈춘 인스턴스는 대부분의 선택에서 제외됩니다.
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    /** 서비스 이름 */
+    private final String serviceId;
+
+    /** 인스턴스 목록 Supplier */
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+
+    /** 인스턴스별 부하 통계 */
+    private final InstanceStatsRegistry statsRegistry;
+
+    /**
+     * PeakEwmaLoadBalancer 생성자
+     *
+     * @param supplierProvider 인스턴스 목록 Supplier
+     * @param serviceId        서비스 이름
+     * @param statsRegistry    인스턴스별 부하 통계
+     */
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId,
+                                InstanceStatsRegistry statsRegistry) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    /**
+     * 인스턴스 목록에서 두 후보를 무작위로 골라 비용이 작은 인스턴스를 선택합니다.
+     *
+     * @param instances 인스턴스 목록
+     * @return 선택 결과
+     */
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        int size = instances.size();
+        if (size == 0) {
+            log.warn("사용 가능한 인스턴스가 없습니다: {}", serviceId);
+            return new EmptyResponse();
+        }
+        if (size == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(statsRegistry.cost(a) <= statsRegistry.cost(b) ? a : b);
+    }
+}
@@ -0,0 +1,43 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로드밸런서가 인스턴스 선택을 시작한 시각과 끝낸 시각을 {@link RequestTiming}에 기록하는 LoadBalancerLifecycle입니다.
+ * <p>
+ * ReactiveLoadBalancerClientFilter는 exchange 속성을 그대로 로드밸런서 요청 속성으로 넘기므로,
+ * 여기서 기록한 시각은 같은 요청의 RequestTiming에 남습니다.
+ */
+@Component
+public class RequestTimingLifecycle implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+        RequestTiming.mark(request.getContext().getClientRequest().getAttributes(), RequestTiming.Mark.LB_START);
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        RequestTiming.mark(request.getContext().getClientRequest().getAttributes(),
+                RequestTiming.Mark.INSTANCE_CHOSEN);
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ServiceCache의 인스턴스 목록을 로드밸런서에 제공하는 ServiceInstanceListSupplier입니다.
+ * <p>
+ * 기본 DiscoveryClient 기반 Supplier 대신 사용하여, 라우트 목록과 인스턴스 목록이
+ * 같은 캐시(Eureka HeartbeatEvent마다 백그라운드 갱신)를 기준으로 동작하게 합니다.
+ * <p>
+ * 연속 실패로 제외된 인스턴스는 목록에서 빼되, 전체 인스턴스 중 max-ejection-percent 이상은 제외하지 않아
+ * 서비스 전체 장애 시 모든 인스턴스가 사라지지 않도록 합니다.
+ * 요청에 {@link ExcludedInstances} 속성이 있으면(헤지 요청, 재시도) 이미 사용한 인스턴스도 후보에서 뺍니다.
+ */
+public class ServiceCacheInstanceListSupplier implements ServiceInstanceListSupplier {
+
+    /** 서비스 이름 */
+    private final String serviceId;
+
+    /** 서비스 인스턴스 캐시 */
+    private final ServiceCache serviceCache;
+
+    /** 인스턴스별 상태 통계 */
+    private final InstanceStatsRegistry statsRegistry;
+
+    /**
+     * ServiceCacheInstanceListSupplier 생성자
+     *
+     * @param serviceId    서비스 이름
+     * @param serviceCache  서비스 인스턴스 캐시
+     * @param statsRegistry 인스턴스별 상태 통계
+     */
+    public ServiceCacheInstanceListSupplier(String serviceId, ServiceCache serviceCache,
+                                            InstanceStatsRegistry statsRegistry) {
+        this.serviceId = serviceId;
+        this.serviceCache = serviceCache;
+        this.statsRegistry = statsRegistry;
+    }
+
+    @Override
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return serviceCache.getInstances(serviceId).map(this::withoutEjected).flux();
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Flux<List<ServiceInstance>> get(Request request) {
+        if (!(request.getContext() instanceof RequestDataContext context)
+                || context.getClientRequest() == null
+                || !ExcludedInstances.isPresent(context.getClientRequest().getAttributes())) {
+            return get();
+        }
+        Map<String, Object> attributes = context.getClientRequest().getAttributes();
+        return get().map(instances -> {
+            List<ServiceInstance> remaining = instances.stream()
+                    .filter(instance -> !ExcludedInstances.contains(attributes, instance))
+                    .toList();
+            return remaining.isEmpty() ? instances : remaining;
+        });
+    }
+
+    /**
+     * 제외된 인스턴스를 최대 비율까지 목록에서 뺍니다.
+     *
+     * @param instances 전체 인스턴스 목록
+     * @return 선택 후보 인스턴스 목록
+     */
+    List<ServiceInstance> withoutEjected(List<ServiceInstance> instances) {
+        int maxEjected = instances.size() * statsRegistry.getMaxEjectionPercent() / 100;
+        if (maxEjected == 0) {
+            return instances;
+        }
+        List<ServiceInstance> available = new ArrayList<>(instances.size());
+        int ejected = 0;
+        for (ServiceInstance instance : instances) {
+            if (ejected < maxEjected && statsRegistry.isEjected(instance)) {
+                ejected++;
+            } else {
+                available.add(instance);
+            }
+        }
+        return ejected == 0 ? instances : available;
+    }
+}
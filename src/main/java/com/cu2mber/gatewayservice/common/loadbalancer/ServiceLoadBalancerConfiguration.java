@@ -0,0 +1,59 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.config.GatewayLoadBalancerProperties;
+import org.springframework.cloud.loadbalancer.core.RandomLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 컨텍스트에 등록되는 구성 클래스입니다.
+ * <p>
+ * LoadBalancerClientFactory가 서비스마다 만드는 자식 컨텍스트에서만 사용되어야 하므로
+ * {@code @Configuration}을 붙이지 않고 {@code @LoadBalancerClients(defaultConfiguration = ...)}로만 등록합니다.
+ */
+public class ServiceLoadBalancerConfiguration {
+
+    /**
+     * ServiceCache 기반 인스턴스 목록 Supplier(연속 실패 인스턴스 제외)를 등록합니다.
+     *
+     * @param environment  자식 컨텍스트 Environment (서비스 이름 포함)
+     * @param serviceCache  서비스 인스턴스 캐시
+     * @param statsRegistry 인스턴스별 상태 통계
+     * @return ServiceInstanceListSupplier
+     */
+    @Bean
+    public ServiceInstanceListSupplier serviceCacheInstanceListSupplier(Environment environment,
+                                                                        ServiceCache serviceCache,
+                                                                        InstanceStatsRegistry statsRegistry) {
+        return new ServiceCacheInstanceListSupplier(LoadBalancerClientFactory.getName(environment), serviceCache,
+                statsRegistry);
+    }
+
+    /**
+     * 서비스에 설정된 전략의 로드밸런서를 등록합니다.
+     *
+     * @param environment   자식 컨텍스트 Environment (서비스 이름 포함)
+     * @param clientFactory 로드밸런서 클라이언트 팩토리
+     * @param properties    로드밸런서 설정
+     * @param statsRegistry 인스턴스별 부하 통계
+     * @return ReactorServiceInstanceLoadBalancer
+     */
+    @Bean
+    public ReactorServiceInstanceLoadBalancer reactorServiceInstanceLoadBalancer(Environment environment,
+                                                                                 LoadBalancerClientFactory clientFactory,
+                                                                                 GatewayLoadBalancerProperties properties,
+                                                                                 InstanceStatsRegistry statsRegistry) {
+        String serviceId = LoadBalancerClientFactory.getName(environment);
+        var suppliers = clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class);
+        return switch (properties.strategyFor(serviceId)) {
+            case PEAK_EWMA -> new PeakEwmaLoadBalancer(suppliers, serviceId, statsRegistry);
+            case ROUND_ROBIN -> new RoundRobinLoadBalancer(suppliers, serviceId);
+            case RANDOM -> new RandomLoadBalancer(suppliers, serviceId);
+        };
+    }
+}
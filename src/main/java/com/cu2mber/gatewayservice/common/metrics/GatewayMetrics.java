@@ -0,0 +1,322 @@
+package com.cu2mber.gatewayservice.common.metrics;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 공통 메트릭(JWT 검증, 서비스 목록 캐시, 응답 압축, 에러 응답, 요청 처리 단계)을 기록하는 컴포넌트 클래스입니다.
+ * <p>
+ * 요청 경로에서 태그 배열이나 Meter를 새로 만들지 않도록, 태그 값이 고정된 Meter는 생성 시점에 모두 만들어 두고
+ * 상태 코드처럼 값이 정해지지 않은 태그는 처음 나타날 때 한 번만 등록한 뒤 재사용합니다.
+ * 기록된 메트릭은 actuator의 Prometheus 엔드포인트({@code /actuator/prometheus})로 노출됩니다.
+ */
+@Component
+public class GatewayMetrics {
+
+    /** 지연 시간 히스토그램의 최소 기대값 */
+    public static final Duration MIN_EXPECTED_LATENCY = Duration.ofMillis(1);
+
+    /** 지연 시간 히스토그램의 최대 기대값 */
+    public static final Duration MAX_EXPECTED_LATENCY = Duration.ofSeconds(30);
+
+    /** 요청 처리 구간 목록 (values() 복사 방지) */
+    private static final RequestTiming.Segment[] SEGMENTS = RequestTiming.Segment.values();
+
+    /** 메트릭 레지스트리 */
+    private final MeterRegistry registry;
+
+    /** JWT 검증 결과 → 검증 시간 타이머 */
+    private final Map<JwtResult, Timer> jwtValidationTimers = new EnumMap<>(JwtResult.class);
+
+    /** JWT 검증 실패 사유 → 실패 카운터 */
+    private final Map<JwtFailure, Counter> jwtFailureCounters = new EnumMap<>(JwtFailure.class);
+
+    /** "캐시 이름:성공 여부" → 레지스트리 조회 시간 타이머 */
+    private final Map<String, Timer> serviceCacheLoadTimers = new ConcurrentHashMap<>();
+
+    /** 라우트 ID → 응답 압축 메트릭 */
+    private final Map<String, CompressionMeters> compressionMeters = new ConcurrentHashMap<>();
+
+    /** "단계:성공 여부" → 예열 단계 실행 시간 타이머 */
+    private final Map<String, Timer> warmupTimers = new ConcurrentHashMap<>();
+
+    /** 라우트 ID → 구간별 처리 시간 Timer (Segment 순서) */
+    private final Map<String, Timer[]> phaseTimers = new ConcurrentHashMap<>();
+
+    /** 상태 코드 → 예외 종류별 에러 응답 카운터 (상태 코드가 처음 나올 때 모든 종류를 한 번에 등록) */
+    private final Map<Integer, Map<ErrorType, Counter>> errorCounters = new ConcurrentHashMap<>();
+
+    /**
+     * GatewayMetrics 생성자
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    public GatewayMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (JwtResult result : JwtResult.values()) {
+            jwtValidationTimers.put(result, Timer.builder("gateway.jwt.validation")
+                    .description("JWT 검증 시간")
+                    .tag("result", tagValue(result))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100))
+                    .maximumExpectedValue(Duration.ofMillis(100))
+                    .register(registry));
+        }
+        for (JwtFailure failure : JwtFailure.values()) {
+            jwtFailureCounters.put(failure, Counter.builder("gateway.jwt.failures")
+                    .description("JWT 인증 실패 수")
+                    .tag("reason", tagValue(failure))
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 메트릭 레지스트리를 반환합니다.
+     *
+     * @return 메트릭 레지스트리
+     */
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * JWT 검증 시간을 기록합니다.
+     *
+     * @param result       검증 결과
+     * @param elapsedNanos 검증 시간(나노초)
+     */
+    public void recordJwtValidation(JwtResult result, long elapsedNanos) {
+        jwtValidationTimers.get(result).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * JWT 인증 실패를 기록합니다.
+     *
+     * @param failure 실패 사유
+     */
+    public void recordJwtFailure(JwtFailure failure) {
+        jwtFailureCounters.get(failure).increment();
+    }
+
+    /**
+     * 서비스 목록 캐시의 레지스트리 조회(최초 로딩과 갱신) 시간을 기록합니다.
+     *
+     * @param cacheName    캐시 이름
+     * @param elapsedNanos 조회 시간(나노초)
+     * @param success      조회 성공 여부
+     */
+    public void recordServiceCacheLoad(String cacheName, long elapsedNanos, boolean success) {
+        Timer timer = serviceCacheLoadTimers.computeIfAbsent(cacheName + ":" + success,
+                key -> Timer.builder("gateway.service-cache.load")
+                        .description("서비스 레지스트리 조회 시간")
+                        .tag("cache", cacheName)
+                        .tag("result", success ? "success" : "failure")
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(MIN_EXPECTED_LATENCY)
+                        .maximumExpectedValue(MAX_EXPECTED_LATENCY)
+                        .register(registry));
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Caffeine 비동기 캐시의 적중/미스/축출 통계를 메트릭으로 등록합니다.
+     * 캐시는 recordStats()로 생성되어 있어야 합니다.
+     *
+     * @param cache     캐시
+     * @param cacheName 캐시 이름
+     */
+    public void monitorCache(AsyncCache<?, ?> cache, String cacheName) {
+        CaffeineCacheMetrics.monitor(registry, cache, cacheName);
+    }
+
+    /**
+     * 에러 응답을 기록합니다.
+     *
+     * @param statusCode HTTP 상태 코드
+     * @param errorType  예외 종류
+     */
+    public void recordError(int statusCode, ErrorType errorType) {
+        errorCounters.computeIfAbsent(statusCode, this::errorCountersFor).get(errorType).increment();
+    }
+
+    /**
+     * 상태 코드 하나에 대한 예외 종류별 에러 응답 카운터를 등록합니다.
+     *
+     * @param statusCode HTTP 상태 코드
+     * @return 예외 종류 → 카운터 (등록 후 변경하지 않음)
+     */
+    private Map<ErrorType, Counter> errorCountersFor(int statusCode) {
+        Map<ErrorType, Counter> counters = new EnumMap<>(ErrorType.class);
+        for (ErrorType type : ErrorType.values()) {
+            counters.put(type, Counter.builder("gateway.errors")
+                    .description("에러 응답 수")
+                    .tag("status", Integer.toString(statusCode))
+                    .tag("type", tagValue(type))
+                    .register(registry));
+        }
+        return counters;
+    }
+
+    /**
+     * 응답 하나의 압축 결과를 기록합니다.
+     *
+     * @param routeId         라우트 ID
+     * @param originalBytes   압축 전 크기(바이트)
+     * @param compressedBytes 압축 후 크기(바이트)
+     * @param elapsedNanos    압축에 사용한 시간(나노초)
+     */
+    public void recordCompression(String routeId, long originalBytes, long compressedBytes, long elapsedNanos) {
+        CompressionMeters meters = compressionMeters.computeIfAbsent(routeId, id -> new CompressionMeters(
+                DistributionSummary.builder("gateway.route.compression.ratio")
+                        .description("라우트별 응답 압축률 (압축 전 크기 / 압축 후 크기)")
+                        .tag("route", id)
+                        .publishPercentiles(0.5, 0.9)
+                        .register(registry),
+                Timer.builder("gateway.route.compression.time")
+                        .description("라우트별 응답 하나의 압축 시간")
+                        .tag("route", id)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(10_000))
+                        .maximumExpectedValue(Duration.ofSeconds(1))
+                        .register(registry),
+                Counter.builder("gateway.route.compression.bytes.saved")
+                        .description("라우트별 압축으로 줄어든 응답 크기")
+                        .baseUnit("bytes")
+                        .tag("route", id)
+                        .register(registry)));
+        if (compressedBytes > 0) {
+            meters.ratio().record((double) originalBytes / compressedBytes);
+        }
+        meters.time().record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meters.savedBytes().increment(Math.max(0, originalBytes - compressedBytes));
+    }
+
+    /**
+     * 기동 예열 단계의 실행 시간을 기록합니다.
+     *
+     * @param step         단계 이름
+     * @param elapsedNanos 실행 시간(나노초)
+     * @param success      단계 성공 여부
+     */
+    public void recordWarmupStep(String step, long elapsedNanos, boolean success) {
+        Timer timer = warmupTimers.computeIfAbsent(step + ":" + success,
+                key -> Timer.builder("gateway.warmup.duration")
+                        .description("기동 예열 단계 실행 시간")
+                        .tag("step", step)
+                        .tag("result", success ? "success" : "failure")
+                        .register(registry));
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요청 하나의 단계별 처리 시간을 라우트와 구간별로 기록합니다. 기록되지 않은 구간은 건너뜁니다.
+     *
+     * @param routeId 라우트 ID
+     * @param timing  요청 단계별 시각
+     */
+    public void recordRequestPhases(String routeId, RequestTiming timing) {
+        Timer[] timers = phaseTimers.computeIfAbsent(routeId, id -> {
+            Timer[] created = new Timer[SEGMENTS.length];
+            for (RequestTiming.Segment segment : SEGMENTS) {
+                created[segment.ordinal()] = Timer.builder("gateway.route.phase")
+                        .description("라우트별 요청 처리 단계 시간")
+                        .tag("route", id)
+                        .tag("phase", segment.label())
+                        .register(registry);
+            }
+            return created;
+        });
+        for (RequestTiming.Segment segment : SEGMENTS) {
+            long nanos = timing.duration(segment);
+            if (nanos >= 0) {
+                timers[segment.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 라우트 하나의 응답 압축 메트릭.
+     *
+     * @param ratio      압축률 분포
+     * @param time       압축 시간
+     * @param savedBytes 줄어든 바이트 수
+     */
+    private record CompressionMeters(DistributionSummary ratio, Timer time, Counter savedBytes) {
+    }
+
+    /**
+     * JWT 검증 결과.
+     */
+    public enum JwtResult {
+
+        /** 서명을 검증하여 통과 */
+        VERIFIED,
+
+        /** 검증된 토큰 캐시로 통과 */
+        CACHED,
+
+        /** 검증 실패 */
+        REJECTED
+    }
+
+    /**
+     * JWT 인증 실패 사유.
+     */
+    public enum JwtFailure {
+
+        /** Authorization 헤더가 없거나 Bearer 토큰이 아님 */
+        MISSING,
+
+        /** 만료된 토큰 */
+        EXPIRED,
+
+        /** 잘못된 서명 */
+        BAD_SIGNATURE,
+
+        /** 형식 오류 */
+        MALFORMED,
+
+        /** 지원하지 않는 토큰 */
+        UNSUPPORTED,
+
+        /** 비어 있거나 잘못된 입력 */
+        INVALID,
+
+        /** 그 밖의 검증 오류 */
+        OTHER,
+
+        /** 유효한 토큰이지만 허용된 역할이 없음 */
+        FORBIDDEN
+    }
+
+    /**
+     * 에러 응답의 예외 종류.
+     */
+    public enum ErrorType {
+
+        /** 게이트웨이 공통 HTTP 예외 (인증 실패, 속도 제한, 서킷 열림 등) */
+        GATEWAY,
+
+        /** ResponseStatusException (업스트림 타임아웃, 라우트 없음 등) */
+        RESPONSE_STATUS,
+
+        /** 처리되지 않은 예외 (업스트림 연결 실패 등) */
+        UNHANDLED
+    }
+}
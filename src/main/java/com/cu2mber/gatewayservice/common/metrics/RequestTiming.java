@@ -0,0 +1,203 @@
+package com.cu2mber.gatewayservice.common.metrics;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 게이트웨이의 각 처리 단계에 도달한 시각(System.nanoTime)을 기록하는 클래스입니다.
+ * <p>
+ * RequestTimingFilter가 요청마다 하나를 만들어 exchange 속성({@link #ATTR})과 Reactor Context에 넣고,
+ * 라우트 조회, JWT 검증, 로드밸런서, 업스트림 HttpClient가 각자의 단계에서 {@link #mark}를 호출합니다.
+ * 두 시각 사이의 구간({@link Segment})이 Server-Timing 헤더, 액세스 로그, 단계별 메트릭의 값이 됩니다.
+ * 재시도로 같은 단계를 여러 번 지나면 마지막 시도의 시각이 남습니다.
+ * <p>
+ * 시각은 요청 처리 체인의 각 신호에서 기록되고 같은 체인의 이후 신호에서 읽히므로 별도의 동기화를 하지 않습니다.
+ */
+public final class RequestTiming {
+
+    /** RequestTiming을 저장하는 exchange 속성 이름 */
+    public static final String ATTR = RequestTiming.class.getName();
+
+    /** 기록되지 않은 시각 */
+    private static final long UNSET = Long.MIN_VALUE;
+
+    /** 구간 목록 (values() 복사 방지) */
+    private static final Segment[] SEGMENTS = Segment.values();
+
+    /** 단계별 시각 (Mark 순서) */
+    private final long[] marks = new long[Mark.values().length];
+
+    /**
+     * RequestTiming 생성자
+     *
+     * @param receivedNanos 요청을 받은 시각(System.nanoTime)
+     */
+    public RequestTiming(long receivedNanos) {
+        Arrays.fill(marks, UNSET);
+        marks[Mark.RECEIVED.ordinal()] = receivedNanos;
+    }
+
+    /**
+     * 현재 시각을 단계 시각으로 기록합니다.
+     *
+     * @param mark 단계
+     */
+    public void mark(Mark mark) {
+        marks[mark.ordinal()] = System.nanoTime();
+    }
+
+    /**
+     * exchange 속성에 RequestTiming이 있으면 현재 시각을 단계 시각으로 기록합니다.
+     *
+     * @param attributes exchange 속성
+     * @param mark       단계
+     */
+    public static void mark(Map<String, Object> attributes, Mark mark) {
+        if (attributes.get(ATTR) instanceof RequestTiming timing) {
+            timing.mark(mark);
+        }
+    }
+
+    /**
+     * exchange에 RequestTiming이 있으면 현재 시각을 단계 시각으로 기록합니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @param mark     단계
+     */
+    public static void mark(ServerWebExchange exchange, Mark mark) {
+        mark(exchange.getAttributes(), mark);
+    }
+
+    /**
+     * 구간의 소요 시간을 반환합니다.
+     *
+     * @param segment 구간
+     * @return 소요 시간(나노초), 구간의 시작이나 끝이 기록되지 않았으면 -1
+     */
+    public long duration(Segment segment) {
+        long from = marks[segment.from.ordinal()];
+        long to = marks[segment.to.ordinal()];
+        return from == UNSET || to == UNSET || to < from ? -1 : to - from;
+    }
+
+    /**
+     * 기록된 구간을 Server-Timing 헤더 값으로 만듭니다. (예: {@code route;dur=0.012, auth;dur=0.350, total;dur=15.200})
+     *
+     * @return Server-Timing 헤더 값
+     */
+    public String toServerTiming() {
+        StringBuilder value = new StringBuilder(128);
+        for (Segment segment : SEGMENTS) {
+            long nanos = duration(segment);
+            if (nanos < 0) {
+                continue;
+            }
+            if (!value.isEmpty()) {
+                value.append(", ");
+            }
+            value.append(segment.label).append(";dur=");
+            appendMillis(value, nanos);
+        }
+        return value.toString();
+    }
+
+    /**
+     * 나노초를 소수점 세 자리 밀리초로 덧붙입니다.
+     *
+     * @param target 대상
+     * @param nanos  시간(나노초)
+     */
+    public static void appendMillis(StringBuilder target, long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        long fraction = micros % 1000;
+        target.append(micros / 1000).append('.');
+        if (fraction < 100) {
+            target.append(fraction < 10 ? "00" : "0");
+        }
+        target.append(fraction);
+    }
+
+    /**
+     * 요청 처리 단계.
+     */
+    public enum Mark {
+
+        /** 요청 수신 */
+        RECEIVED,
+
+        /** 라우트 조회 완료 */
+        ROUTED,
+
+        /** JWT 검증 시작 */
+        AUTH_START,
+
+        /** JWT 검증 완료 (실패 포함) */
+        AUTH_END,
+
+        /** 로드밸런서 인스턴스 선택 시작 */
+        LB_START,
+
+        /** 로드밸런서 인스턴스 선택 완료 */
+        INSTANCE_CHOSEN,
+
+        /** 업스트림 커넥션을 얻어 요청 전송 시작 */
+        REQUEST_SENT,
+
+        /** 업스트림 응답 헤더 수신 */
+        RESPONSE_RECEIVED,
+
+        /** 클라이언트 응답 커밋 (헤더 전송 직전) */
+        COMMITTED
+    }
+
+    /**
+     * 두 단계 사이의 구간.
+     */
+    public enum Segment {
+
+        /** 라우트 조회 */
+        ROUTE("route", Mark.RECEIVED, Mark.ROUTED),
+
+        /** JWT 검증 */
+        AUTH("auth", Mark.AUTH_START, Mark.AUTH_END),
+
+        /** 로드밸런서 인스턴스 선택 */
+        LB("lb", Mark.LB_START, Mark.INSTANCE_CHOSEN),
+
+        /** 커넥션 풀 획득과 연결 */
+        CONNECT("connect", Mark.INSTANCE_CHOSEN, Mark.REQUEST_SENT),
+
+        /** 업스트림 응답 대기 */
+        UPSTREAM("upstream", Mark.REQUEST_SENT, Mark.RESPONSE_RECEIVED),
+
+        /** 요청 수신부터 응답 커밋까지 */
+        TOTAL("total", Mark.RECEIVED, Mark.COMMITTED);
+
+        /** Server-Timing, 로그, 메트릭 태그에 쓰는 이름 */
+        private final String label;
+
+        /** 구간 시작 단계 */
+        private final Mark from;
+
+        /** 구간 끝 단계 */
+        private final Mark to;
+
+        Segment(String label, Mark from, Mark to) {
+            this.label = label;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * 구간 이름을 반환합니다.
+         *
+         * @return 소문자 구간 이름
+         */
+        public String label() {
+            return label;
+        }
+    }
+}
@@ -1,23 +1,42 @@
 package com.cu2mber.gatewayservice.common.provider;
 
 import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics.JwtFailure;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics.JwtResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 /**
  * JWT(JSON Web Token) 토큰 검증 및 관련 로직을 제공하는 컴포넌트 클래스.
  * <p>
  * 이 클래스는 Spring Bean으로 등록되어, 다른 컴포넌트에서 JWT 토큰 검증을 수행할 수 있도록 지원합니다.
  * JWT 서명 검증, 만료 여부, 형식 오류 등을 처리하며, 문제가 있을 경우 UnauthorizedException을 발생시킵니다.
+ * <p>
+ * 한 번 검증을 통과한 토큰은 SHA-256 다이제스트를 키로 하여 토큰 자체의 만료 시각(exp)까지 캐싱되며,
+ * 이후 같은 토큰으로 들어오는 요청은 서명 검증 없이 캐시 조회만으로 통과합니다.
+ * 검증 시간(서명 검증/캐시 적중/실패별)과 실패 사유는 GatewayMetrics로 기록합니다.
+ * 토큰 원문은 로그에 남기지 않습니다.
  */
 @Slf4j
 @Component
@@ -27,16 +46,74 @@ public class JwtProvider {
     @Value("${jwt.secret}")
     private String secret;
 
+    /** 검증된 토큰 캐시의 최대 엔트리 수 */
+    @Value("${gateway.jwt.cache.max-size:10000}")
+    private long tokenCacheMaxSize = 10_000;
+
+    /** 검증 시간과 실패 사유를 기록할 메트릭 */
+    private final GatewayMetrics metrics;
+
     /** JWT 서명용 Key 객체 */
     private Key secretKey;
 
+    /** init() 시점에 한 번 생성하여 재사용하는 불변·thread-safe JWT 파서 */
+    private JwtParser jwtParser;
+
+    /** 서명 검증을 통과한 토큰(다이제스트) → Claims 캐시, 토큰의 exp 시각에 만료 */
+    private Cache<String, Claims> verifiedTokenCache;
+
+    /** 스레드별 SHA-256 MessageDigest (MessageDigest는 thread-safe 하지 않음) */
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
     /**
-     * Bean 초기화 후 실행되며, Base64로 인코딩된 secret 값을 디코딩하여 secretKey를 생성합니다.
+     * JwtProvider 생성자
+     *
+     * @param metrics 게이트웨이 공통 메트릭
+     */
+    public JwtProvider(GatewayMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 운영 메트릭과 검증 캐시에 영향을 주지 않는 별도 인스턴스를 생성합니다.
+     * <p>
+     * 메트릭은 독립된 SimpleMeterRegistry에 기록되고 검증 캐시 크기는 0이므로,
+     * 합성 토큰으로 검증 경로를 반복 실행하는 예열 등에 사용합니다.
+     *
+     * @param secret JWT 서명 키 (Base64)
+     * @return 초기화된 JwtProvider
+     */
+    public static JwtProvider detached(String secret) {
+        JwtProvider provider = new JwtProvider(new GatewayMetrics(new SimpleMeterRegistry()));
+        provider.secret = secret;
+        provider.tokenCacheMaxSize = 0;
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * Bean 초기화 후 실행되며, Base64로 인코딩된 secret 값을 디코딩하여 secretKey를 생성하고
+     * 검증된 토큰 캐시를 초기화합니다.
      */
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(Expiry.creating((String digest, Claims claims) ->
+                        Duration.between(Instant.now(), claims.getExpiration().toInstant())))
+                .recordStats()
+                .build();
     }
 
     /**
@@ -46,39 +123,104 @@ public class JwtProvider {
      *
      * @param token 검증할 JWT 토큰 문자열
      * @throws UnauthorizedException JWT가 만료되었거나 서명이 잘못되었거나 형식이 올바르지 않은 경우
+     * @see #validateAndGetClaims(String)
      */
     public void validateToken(String token) {
+        validateAndGetClaims(token);
+    }
+
+    /**
+     * 주어진 JWT 토큰을 검증하고, 검증된 Claims를 한 번의 파싱으로 반환합니다.
+     * <p>
+     * 이미 검증된 토큰이면 캐시 조회만으로 통과하며, 그렇지 않으면 서명/만료를 검증한 뒤
+     * exp 클레임이 있는 토큰에 한해 캐시에 등록합니다.
+     * 검증 실패 시 UnauthorizedException을 발생시키며, 예외 메시지는 오류 원인에 따라 다릅니다.
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @return 검증된 토큰의 Claims
+     * @throws UnauthorizedException JWT가 만료되었거나 서명이 잘못되었거나 형식이 올바르지 않은 경우
+     */
+    public Claims validateAndGetClaims(String token) {
+        long start = System.nanoTime();
         try {
             isValidJwtToken(token);
 
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            String digest = digest(token);
+            Claims cached = verifiedTokenCache.getIfPresent(digest);
+            if (cached != null) {
+                metrics.recordJwtValidation(JwtResult.CACHED, System.nanoTime() - start);
+                return cached;
+            }
 
-            log.debug("JWT 유효성 검사 통과: {}", token);
+            Claims claims = getClaims(token);
+
+            if (claims.getExpiration() != null) {
+                verifiedTokenCache.put(digest, claims);
+            }
+
+            metrics.recordJwtValidation(JwtResult.VERIFIED, System.nanoTime() - start);
+            log.debug("JWT 유효성 검사 통과. sub: {}", claims.getSubject());
+            return claims;
 
         } catch (ExpiredJwtException e) {
+            recordFailure(JwtFailure.EXPIRED, start);
             log.debug("JWT 만료. exp: {}, now: {}", e.getClaims().getExpiration(), new Date());
             throw new UnauthorizedException("만료된 JWT 토큰입니다.");
         } catch (SignatureException e) {
-            log.debug("잘못된 JWT 서명. token: {}", token);
+            recordFailure(JwtFailure.BAD_SIGNATURE, start);
+            log.debug("잘못된 JWT 서명");
             throw new UnauthorizedException("잘못된 서명입니다.");
         } catch (MalformedJwtException e) {
-            log.debug("JWT 형식 오류. token: {}", token);
+            recordFailure(JwtFailure.MALFORMED, start);
+            log.debug("JWT 형식 오류. message: {}", e.getMessage());
             throw new UnauthorizedException("잘못된 JWT 토큰 형식입니다.");
         } catch (UnsupportedJwtException e) {
-            log.debug("지원하지 않는 JWT 토큰. token: {}", token);
+            recordFailure(JwtFailure.UNSUPPORTED, start);
+            log.debug("지원하지 않는 JWT 토큰. message: {}", e.getMessage());
             throw new UnauthorizedException("지원하지 않는 JWT 토큰입니다.");
         } catch (IllegalArgumentException e) {
-            log.debug("잘못된 JWT 입력. token: {}", token);
+            recordFailure(JwtFailure.INVALID, start);
+            log.debug("잘못된 JWT 입력. message: {}", e.getMessage());
             throw new UnauthorizedException("잘못된 JWT 입력입니다.");
         } catch (JwtException e) {
-            log.debug("JWT 검증 과정에서 알 수 없는 오류가 발생. message: {}, token: {}", e.getMessage(), token);
+            recordFailure(JwtFailure.OTHER, start);
+            log.debug("JWT 검증 과정에서 알 수 없는 오류가 발생. message: {}", e.getMessage());
             throw new UnauthorizedException(e.getMessage());
         }
     }
 
+    /**
+     * 검증된 토큰 캐시의 적중/미스/축출 통계를 반환합니다.
+     *
+     * @return 캐시 통계 스냅샷
+     */
+    public CacheStats getTokenCacheStats() {
+        return verifiedTokenCache.stats();
+    }
+
+    /**
+     * 검증 실패 시간과 사유를 기록합니다.
+     *
+     * @param failure 실패 사유
+     * @param start   검증 시작 시각(System.nanoTime)
+     */
+    private void recordFailure(JwtFailure failure, long start) {
+        metrics.recordJwtValidation(JwtResult.REJECTED, System.nanoTime() - start);
+        metrics.recordJwtFailure(failure);
+    }
+
+    /**
+     * 토큰 문자열의 SHA-256 다이제스트를 16진수 문자열로 반환합니다.
+     * <p>
+     * 토큰 원문 대신 다이제스트를 캐시 키로 사용하여 메모리에 토큰이 그대로 남지 않도록 합니다.
+     *
+     * @param token JWT 토큰
+     * @return 16진수 다이제스트 문자열
+     */
+    private static String digest(String token) {
+        return HexFormat.of().formatHex(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
     /**
      * 토큰 값이 null이거나 공백일 경우 IllegalArgumentException을 발생시킵니다.
      *
@@ -92,16 +234,16 @@ public class JwtProvider {
     }
 
     /**
-     * 주어진 JWT 토큰에서 Claims 정보를 반환합니다.
+     * 주어진 JWT 토큰의 서명을 검증하고 Claims 정보를 반환합니다.
+     * <p>
+     * init() 시점에 생성한 공유 파서를 사용하므로 호출마다 파서를 새로 만들지 않습니다.
      *
      * @param token JWT 토큰
      * @return Claims 토큰 내 클레임 정보
      * @throws JwtException 토큰 검증 실패 시 발생
      */
     private Claims getClaims(String token) throws JwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
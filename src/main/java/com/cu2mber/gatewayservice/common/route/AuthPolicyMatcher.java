@@ -0,0 +1,163 @@
+package com.cu2mber.gatewayservice.common.route;
+
+import com.cu2mber.gatewayservice.common.config.AuthPolicyProperties;
+import com.cu2mber.gatewayservice.common.config.AuthPolicyProperties.Policy;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 라우트와 요청 경로에 적용할 인증 정책을 찾는 매처입니다.
+ * <p>
+ * {@link AuthPolicyProperties}의 규칙을 시작 시점에 한 번 컴파일합니다.
+ * 와일드카드나 변수가 없는 경로는 해시 맵으로, 나머지는 {@link PathPattern}으로 만들어 구체적인 순서로 정렬해 두므로
+ * 요청마다 패턴을 파싱하거나 정렬하지 않습니다. 규칙이 없는 라우트는 경로를 보지 않고 라우트 정책을 바로 반환합니다.
+ * <p>
+ * 잘못된 경로 패턴이나 역할 목록이 없는 ROLE 정책은 시작 시점에 예외로 드러납니다.
+ */
+@Component
+public class AuthPolicyMatcher {
+
+    /** 라우트별 설정이 없을 때 적용할 결정 */
+    private final Decision defaultDecision;
+
+    /** 라우트(서비스명, 소문자) → 컴파일된 규칙 */
+    private final Map<String, RouteRules> routes;
+
+    /**
+     * 인증 정책 설정을 컴파일하여 AuthPolicyMatcher를 생성합니다.
+     *
+     * @param properties 인증 정책 설정
+     */
+    public AuthPolicyMatcher(AuthPolicyProperties properties) {
+        this.defaultDecision = decision(properties.getDefaultPolicy(), List.of(), "default-policy");
+
+        Map<String, RouteRules> compiled = new HashMap<>();
+        properties.getRoutes().forEach((routeId, routeAuth) ->
+                compiled.put(routeId.toLowerCase(Locale.ROOT), compile(routeId, routeAuth)));
+        this.routes = Map.copyOf(compiled);
+    }
+
+    /**
+     * 요청에 적용할 인증 정책을 찾습니다.
+     *
+     * @param routeId 라우트 ID (서비스명, 소문자)
+     * @param request 현재 요청 (프리픽스가 제거된 경로)
+     * @return 적용할 인증 정책
+     */
+    public Decision match(String routeId, ServerHttpRequest request) {
+        RouteRules rules = routes.get(routeId);
+        if (rules == null) {
+            return defaultDecision;
+        }
+        if (rules.isEmpty()) {
+            return rules.fallback();
+        }
+
+        HttpMethod method = request.getMethod();
+        List<CompiledRule> exact = rules.exactPaths().get(request.getPath().pathWithinApplication().value());
+        if (exact != null) {
+            for (CompiledRule rule : exact) {
+                if (rule.matches(method)) {
+                    return rule.decision();
+                }
+            }
+        }
+        for (CompiledRule rule : rules.patterns()) {
+            if (rule.matches(method) && rule.pattern().matches(request.getPath().pathWithinApplication())) {
+                return rule.decision();
+            }
+        }
+        return rules.fallback();
+    }
+
+    private RouteRules compile(String routeId, AuthPolicyProperties.RouteAuth routeAuth) {
+        Decision fallback = routeAuth.getPolicy() == null
+                ? defaultDecision
+                : decision(routeAuth.getPolicy(), routeAuth.getRoles(), routeId);
+
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        Map<String, List<CompiledRule>> exactPaths = new HashMap<>();
+        List<CompiledRule> patterns = new ArrayList<>();
+        for (AuthPolicyProperties.Rule rule : routeAuth.getRules()) {
+            Decision decision = decision(rule.getPolicy(), rule.getRoles(), routeId);
+            Set<HttpMethod> methods = rule.getMethods().stream()
+                    .map(method -> HttpMethod.valueOf(method.trim().toUpperCase(Locale.ROOT)))
+                    .collect(Collectors.toUnmodifiableSet());
+            for (String path : rule.getPaths()) {
+                PathPattern pattern = parser.parse(path.trim());
+                CompiledRule compiled = new CompiledRule(pattern, methods, decision);
+                if (isLiteral(pattern.getPatternString())) {
+                    exactPaths.computeIfAbsent(pattern.getPatternString(), key -> new ArrayList<>()).add(compiled);
+                } else {
+                    patterns.add(compiled);
+                }
+            }
+        }
+        patterns.sort(Comparator.comparing(CompiledRule::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+
+        Map<String, List<CompiledRule>> frozen = new HashMap<>();
+        exactPaths.forEach((path, rules) -> frozen.put(path, List.copyOf(rules)));
+        return new RouteRules(fallback, Map.copyOf(frozen), List.copyOf(patterns));
+    }
+
+    private static Decision decision(Policy policy, List<String> roles, String source) {
+        if (policy == Policy.ROLE && roles.isEmpty()) {
+            throw new IllegalStateException("ROLE 인증 정책에 허용할 역할이 없습니다: " + source);
+        }
+        return new Decision(policy, policy == Policy.ROLE ? Set.copyOf(roles) : Set.of());
+    }
+
+    private static boolean isLiteral(String pattern) {
+        return pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0 && pattern.indexOf('{') < 0;
+    }
+
+    /**
+     * 요청에 적용할 인증 정책.
+     *
+     * @param policy 인증 정책
+     * @param roles  ROLE 정책에서 허용할 역할 목록
+     */
+    public record Decision(Policy policy, Set<String> roles) {
+    }
+
+    /**
+     * 컴파일된 경로 규칙 하나.
+     *
+     * @param pattern  경로 패턴
+     * @param methods  적용할 HTTP 메서드, 비어 있으면 모든 메서드
+     * @param decision 적용할 인증 정책
+     */
+    private record CompiledRule(PathPattern pattern, Set<HttpMethod> methods, Decision decision) {
+
+        boolean matches(HttpMethod method) {
+            return methods.isEmpty() || methods.contains(method);
+        }
+    }
+
+    /**
+     * 라우트 하나의 컴파일된 규칙.
+     *
+     * @param fallback   일치하는 규칙이 없을 때 적용할 정책
+     * @param exactPaths 고정 경로 → 규칙 목록
+     * @param patterns   패턴 규칙 목록 (구체적인 순서)
+     */
+    private record RouteRules(Decision fallback, Map<String, List<CompiledRule>> exactPaths,
+                              List<CompiledRule> patterns) {
+
+        boolean isEmpty() {
+            return exactPaths.isEmpty() && patterns.isEmpty();
+        }
+    }
+}
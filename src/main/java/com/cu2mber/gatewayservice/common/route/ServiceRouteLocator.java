@@ -0,0 +1,207 @@
+package com.cu2mber.gatewayservice.common.route;
+
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.filter.AdaptiveConcurrencyFilter;
+import com.cu2mber.gatewayservice.common.filter.CircuitBreakerFilter;
+import com.cu2mber.gatewayservice.common.filter.HedgingFilter;
+import com.cu2mber.gatewayservice.common.filter.JwtAuthorizationFilter;
+import com.cu2mber.gatewayservice.common.filter.RateLimitFilter;
+import com.cu2mber.gatewayservice.common.filter.RequestCoalescingFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCacheFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCompressionFilter;
+import com.cu2mber.gatewayservice.common.filter.RetryFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.StripPrefixGatewayFilterFactory;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ServiceCache의 서비스 목록을 따라 "/api/{서비스명}/**" 라우트를 유지하는 RouteLocator입니다.
+ * <p>
+ * Gateway는 RefreshRoutesEvent(Eureka HeartbeatEvent 시 RouteRefreshListener가 발행)를 받을 때마다
+ * {@link #getRoutes()}를 호출합니다. 이때 현재 서비스 목록과 기존 라우트를 비교하여
+ * 새로 등록된 서비스의 라우트만 생성하고, 사라진 서비스의 라우트만 제거합니다.
+ * 변경되지 않은 서비스는 기존 Route 객체(및 predicate, 필터)를 그대로 재사용하므로
+ * 라우트 갱신 시 전체 predicate를 다시 만들지 않으며, CachingRouteLocator가 새 목록으로
+ * 원자적으로 교체하므로 처리 중인 요청도 영향을 받지 않습니다.
+ */
+@Slf4j
+public class ServiceRouteLocator implements RouteLocator {
+
+    /**
+     * 요청 전처리 필터(경로 변환, 인증, 속도 제한) 순서.
+     * 응답을 가공하는 필터(NettyWriteResponseFilter 이전 순서)보다 먼저 실행되어야 합니다.
+     */
+    static final int PRE_FILTER_ORDER = ResponseCacheFilter.ORDER - 100;
+
+    /** Eureka에서 가져온 서비스 리스트 캐시 */
+    private final ServiceCache serviceCache;
+
+    /** JWT 인증 필터 */
+    private final JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    /** 사용자별 속도 제한 필터 */
+    private final RateLimitFilter rateLimitFilter;
+
+    /** 응답 압축 필터 */
+    private final ResponseCompressionFilter responseCompressionFilter;
+
+    /** 응답 캐시 필터 */
+    private final ResponseCacheFilter responseCacheFilter;
+
+    /** 동일 요청 병합 필터 */
+    private final RequestCoalescingFilter requestCoalescingFilter;
+
+    /** 적응형 동시 요청 수 제한 필터 */
+    private final AdaptiveConcurrencyFilter adaptiveConcurrencyFilter;
+
+    /** 서킷 브레이커 필터 */
+    private final CircuitBreakerFilter circuitBreakerFilter;
+
+    /** 업스트림 호출 재시도 필터 */
+    private final RetryFilter retryFilter;
+
+    /** 헤지 요청 필터 */
+    private final HedgingFilter hedgingFilter;
+
+    /** 경로 프리픽스 제거 필터 팩토리 */
+    private final StripPrefixGatewayFilterFactory stripPrefixFactory;
+
+    /** 경로 predicate 팩토리 */
+    private final PathRoutePredicateFactory pathPredicateFactory;
+
+    /** 서비스명 → 라우트 (불변 스냅샷, 갱신 시 통째로 교체) */
+    private volatile Map<String, Route> routes = Map.of();
+
+    /**
+     * ServiceRouteLocator 생성자
+     *
+     * @param serviceCache              서비스 목록 캐시
+     * @param jwtAuthorizationFilter    JWT 인증 필터
+     * @param rateLimitFilter           속도 제한 필터
+     * @param responseCompressionFilter 응답 압축 필터
+     * @param responseCacheFilter       응답 캐시 필터
+     * @param requestCoalescingFilter   동일 요청 병합 필터
+     * @param adaptiveConcurrencyFilter 적응형 동시 요청 수 제한 필터
+     * @param circuitBreakerFilter      서킷 브레이커 필터
+     * @param retryFilter               업스트림 호출 재시도 필터
+     * @param hedgingFilter             헤지 요청 필터
+     * @param stripPrefixFactory        StripPrefix 필터 팩토리
+     * @param pathPredicateFactory      Path predicate 팩토리
+     */
+    public ServiceRouteLocator(ServiceCache serviceCache,
+                               JwtAuthorizationFilter jwtAuthorizationFilter,
+                               RateLimitFilter rateLimitFilter,
+                               ResponseCompressionFilter responseCompressionFilter,
+                               ResponseCacheFilter responseCacheFilter,
+                               RequestCoalescingFilter requestCoalescingFilter,
+                               AdaptiveConcurrencyFilter adaptiveConcurrencyFilter,
+                               CircuitBreakerFilter circuitBreakerFilter,
+                               RetryFilter retryFilter,
+                               HedgingFilter hedgingFilter,
+                               StripPrefixGatewayFilterFactory stripPrefixFactory,
+                               PathRoutePredicateFactory pathPredicateFactory) {
+        this.serviceCache = serviceCache;
+        this.jwtAuthorizationFilter = jwtAuthorizationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.responseCompressionFilter = responseCompressionFilter;
+        this.responseCacheFilter = responseCacheFilter;
+        this.requestCoalescingFilter = requestCoalescingFilter;
+        this.adaptiveConcurrencyFilter = adaptiveConcurrencyFilter;
+        this.circuitBreakerFilter = circuitBreakerFilter;
+        this.retryFilter = retryFilter;
+        this.hedgingFilter = hedgingFilter;
+        this.stripPrefixFactory = stripPrefixFactory;
+        this.pathPredicateFactory = pathPredicateFactory;
+    }
+
+    /**
+     * 현재 서비스 목록에 맞춰 갱신된 라우트 목록을 반환합니다.
+     *
+     * @return 서비스별 라우트
+     */
+    @Override
+    public Flux<Route> getRoutes() {
+        return serviceCache.getServices()
+                .flatMapMany(services -> Flux.fromIterable(reconcile(services).values()));
+    }
+
+    /**
+     * 서비스 목록과 기존 라우트를 비교하여 변경된 부분만 반영한 새 스냅샷을 만듭니다.
+     *
+     * @param services 현재 서비스 이름 목록
+     * @return 갱신된 라우트 스냅샷
+     */
+    synchronized Map<String, Route> reconcile(List<String> services) {
+        Map<String, Route> current = routes;
+        if (current.size() == services.size() && current.keySet().containsAll(services)) {
+            return current;
+        }
+
+        Map<String, Route> updated = new LinkedHashMap<>();
+        for (String serviceName : services) {
+            Route route = current.get(serviceName);
+            if (route == null) {
+                route = buildRoute(serviceName);
+                log.info("서비스 라우트 추가: {}", serviceName);
+            }
+            updated.put(serviceName, route);
+        }
+        current.keySet().stream()
+                .filter(serviceName -> !updated.containsKey(serviceName))
+                .forEach(serviceName -> log.info("서비스 라우트 제거: {}", serviceName));
+
+        this.routes = Collections.unmodifiableMap(updated);
+        return this.routes;
+    }
+
+    /**
+     * 서비스 하나에 대한 라우트를 생성합니다.
+     * <p>
+     * "/api/{서비스명}/**" 경로로 들어오는 요청에 경로 프리픽스 2단계를 제거(stripPrefix(2))하고
+     * JWT 인증 필터와 사용자별 속도 제한 필터를 적용한 뒤 서비스명으로 로드밸런싱(lb://{서비스명})합니다.
+     * 응답 캐시 필터와 동일 요청 병합 필터는 인증과 속도 제한을 통과한 요청에만 적용되도록 그 뒤에 배치하며,
+     * 캐시 적중 요청은 병합 대상이 되지 않도록 캐시 필터를 먼저 실행합니다.
+     * 동시 요청 수 제한과 서킷 브레이커는 실제로 업스트림을 호출하는 요청에만 적용되도록 그 다음에 실행하며,
+     * 동시 요청 수 제한의 거절이 서킷 브레이커의 실패로 집계되지 않도록 동시 요청 수 제한을 먼저 실행합니다.
+     * 재시도 필터는 서킷 브레이커가 재시도를 포함한 최종 결과만 집계하도록 서킷 브레이커 다음에 실행되며,
+     * 재시도할 때마다 로드밸런서부터 다시 실행합니다. 헤지 요청 필터는 로드밸런서가 인스턴스를 고른 뒤에 실행됩니다.
+     *
+     * @param serviceName 서비스 이름
+     * @return 생성된 라우트
+     */
+    private Route buildRoute(String serviceName) {
+        String segment = serviceName.toLowerCase(Locale.ROOT);
+        String pattern = "/api/" + segment + "/**";
+        GatewayFilter stripPrefix = stripPrefixFactory.apply(c -> c.setParts(2));
+
+        return Route.async()
+                .id(serviceName)
+                .uri("lb://" + serviceName)
+                .metadata(ServiceRouteMatcher.SERVICE_METADATA_KEY, segment)
+                .asyncPredicate(ServerWebExchangeUtils.toAsyncPredicate(
+                        pathPredicateFactory.apply(c -> c.setPatterns(List.of(pattern)))))
+                .filters(new OrderedGatewayFilter(stripPrefix, PRE_FILTER_ORDER),
+                        new OrderedGatewayFilter(jwtAuthorizationFilter, PRE_FILTER_ORDER),
+                        new OrderedGatewayFilter(rateLimitFilter, PRE_FILTER_ORDER),
+                        new OrderedGatewayFilter(responseCompressionFilter, ResponseCompressionFilter.ORDER),
+                        new OrderedGatewayFilter(responseCacheFilter, ResponseCacheFilter.ORDER),
+                        new OrderedGatewayFilter(requestCoalescingFilter, RequestCoalescingFilter.ORDER),
+                        new OrderedGatewayFilter(adaptiveConcurrencyFilter, AdaptiveConcurrencyFilter.ORDER),
+                        new OrderedGatewayFilter(circuitBreakerFilter, CircuitBreakerFilter.ORDER),
+                        new OrderedGatewayFilter(retryFilter, RetryFilter.ORDER),
+                        new OrderedGatewayFilter(hedgingFilter, HedgingFilter.ORDER))
+                .build();
+    }
+}
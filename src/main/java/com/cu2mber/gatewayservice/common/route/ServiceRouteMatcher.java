@@ -0,0 +1,73 @@
+package com.cu2mber.gatewayservice.common.route;
+
+import org.springframework.cloud.gateway.route.Route;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * "/api/{서비스명}/**" 형태의 서비스 라우트를 경로의 두 번째 세그먼트 해시 조회로 찾는 매처입니다.
+ * <p>
+ * Spring Cloud Gateway 기본 매칭은 모든 라우트의 Path predicate를 순서대로 평가하므로
+ * 라우트 수에 비례해 비용이 늘어납니다. 서비스 라우트는 모두 같은 경로 구조를 가지므로,
+ * 서비스명 세그먼트를 키로 한 해시 맵 한 번의 조회로 라우트를 찾을 수 있습니다.
+ * <p>
+ * {@link #SERVICE_METADATA_KEY} 메타데이터가 있는 라우트만 인덱싱하며,
+ * 인덱스는 라우트가 갱신될 때마다 불변 맵으로 통째로 교체됩니다.
+ */
+public class ServiceRouteMatcher {
+
+    /** 서비스 라우트임을 나타내고 경로 세그먼트(소문자 서비스명)를 담는 라우트 메타데이터 키 */
+    public static final String SERVICE_METADATA_KEY = "gateway.service-segment";
+
+    /** 서비스 라우트 경로 프리픽스 */
+    private static final String API_PREFIX = "/api/";
+
+    /** 서비스명 세그먼트 → 라우트 */
+    private volatile Map<String, Route> index = Map.of();
+
+    /**
+     * 라우트 목록으로 인덱스를 다시 만듭니다.
+     *
+     * @param routes 현재 라우트 목록
+     */
+    public void update(List<Route> routes) {
+        Map<String, Route> updated = new HashMap<>();
+        for (Route route : routes) {
+            Object segment = route.getMetadata().get(SERVICE_METADATA_KEY);
+            if (segment != null) {
+                updated.putIfAbsent(segment.toString(), route);
+            }
+        }
+        this.index = Map.copyOf(updated);
+    }
+
+    /**
+     * 요청 경로에 해당하는 서비스 라우트를 찾습니다.
+     *
+     * @param path 요청 경로
+     * @return 매칭된 라우트, 서비스 라우트 형태가 아니거나 등록되지 않은 서비스면 null
+     */
+    public Route match(String path) {
+        String segment = serviceSegment(path);
+        return segment == null ? null : index.get(segment);
+    }
+
+    /**
+     * "/api/{서비스명}" 또는 "/api/{서비스명}/..." 경로에서 서비스명 세그먼트를 추출합니다.
+     *
+     * @param path 요청 경로
+     * @return 서비스명 세그먼트, 형태가 맞지 않으면 null
+     */
+    static String serviceSegment(String path) {
+        if (!path.startsWith(API_PREFIX)) {
+            return null;
+        }
+        int end = path.indexOf('/', API_PREFIX.length());
+        if (end < 0) {
+            end = path.length();
+        }
+        return end == API_PREFIX.length() ? null : path.substring(API_PREFIX.length(), end);
+    }
+}
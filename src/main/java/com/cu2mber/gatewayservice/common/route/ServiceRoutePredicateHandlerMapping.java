@@ -0,0 +1,80 @@
+package com.cu2mber.gatewayservice.common.route;
+
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR;
+
+/**
+ * 서비스 라우트를 {@link ServiceRouteMatcher}로 먼저 조회하는 RoutePredicateHandlerMapping입니다.
+ * <p>
+ * "/api/{서비스명}/**" 요청은 라우트 수와 관계없이 해시 조회 한 번으로 라우트를 찾고,
+ * 그 외 요청만 기본 구현처럼 라우트 predicate를 순서대로 평가합니다.
+ * 라우트 갱신이 끝날 때마다(RefreshRoutesResultEvent) 매처의 인덱스를 다시 만듭니다.
+ * 라우트를 찾으면 {@link RequestTiming}에 라우트 조회 완료 시각을 기록합니다.
+ */
+public class ServiceRoutePredicateHandlerMapping extends RoutePredicateHandlerMapping
+        implements ApplicationListener<RefreshRoutesResultEvent> {
+
+    /** 라우트 목록 (CachingRouteLocator) */
+    private final RouteLocator routeLocator;
+
+    /** 서비스 라우트 매처 */
+    private final ServiceRouteMatcher serviceRouteMatcher;
+
+    /**
+     * ServiceRoutePredicateHandlerMapping 생성자
+     *
+     * @param webHandler           Gateway FilteringWebHandler
+     * @param routeLocator         라우트 목록
+     * @param globalCorsProperties 전역 CORS 설정
+     * @param environment          Spring Environment
+     * @param serviceRouteMatcher  서비스 라우트 매처
+     */
+    public ServiceRoutePredicateHandlerMapping(FilteringWebHandler webHandler, RouteLocator routeLocator,
+                                               GlobalCorsProperties globalCorsProperties, Environment environment,
+                                               ServiceRouteMatcher serviceRouteMatcher) {
+        super(webHandler, routeLocator, globalCorsProperties, environment);
+        this.routeLocator = routeLocator;
+        this.serviceRouteMatcher = serviceRouteMatcher;
+    }
+
+    /**
+     * 서비스 라우트는 해시 조회로, 나머지는 기본 predicate 평가로 라우트를 찾습니다.
+     *
+     * @param exchange 현재 HTTP 요청/응답 정보
+     * @return 매칭된 라우트
+     */
+    @Override
+    protected Mono<Route> lookupRoute(ServerWebExchange exchange) {
+        Route route = serviceRouteMatcher.match(exchange.getRequest().getPath().pathWithinApplication().value());
+        if (route != null) {
+            exchange.getAttributes().put(GATEWAY_PREDICATE_ROUTE_ATTR, route.getId());
+            RequestTiming.mark(exchange, RequestTiming.Mark.ROUTED);
+            return Mono.just(route);
+        }
+        return super.lookupRoute(exchange)
+                .doOnNext(matched -> RequestTiming.mark(exchange, RequestTiming.Mark.ROUTED));
+    }
+
+    /**
+     * 라우트 갱신이 성공하면 매처 인덱스를 새 라우트 목록으로 교체합니다.
+     *
+     * @param event 라우트 갱신 결과 이벤트
+     */
+    @Override
+    public void onApplicationEvent(RefreshRoutesResultEvent event) {
+        if (event.isSuccess()) {
+            routeLocator.getRoutes().collectList().subscribe(serviceRouteMatcher::update);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.cu2mber.gatewayservice.common.accesslog;
+
+import com.cu2mber.gatewayservice.common.config.AccessLogProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private AccessLogProperties properties() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setEnabled(true);
+        properties.setPath(dir.resolve("logs/access.log").toString());
+        properties.setFlushInterval(Duration.ofMillis(10));
+        return properties;
+    }
+
+    @Test
+    @DisplayName("기록을 JSON 한 줄씩 쓰고, 종료 시 남은 기록을 모두 씀")
+    void offer_writesJsonLines() throws IOException {
+        AccessLogWriter writer = new AccessLogWriter(properties(), new GatewayMetrics(new SimpleMeterRegistry()));
+        writer.start();
+        assertTrue(writer.offer("order-service", "GET", "/order-service/orders/\"1\"", 200,
+                URI.create("http://10.0.0.1:8080/orders/1"), "authenticated", 1_500_000, 12_345_678, timing()));
+        assertTrue(writer.offer("order-service", "POST", "/order-service/orders", 401, null, "rejected", -1, 250_000, null));
+        writer.stop();
+
+        List<String> lines = Files.readAllLines(dir.resolve("logs/access.log"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).matches("\\{\"ts\":\"[0-9T:.\\-]+Z\",\"route\":\"order-service\",\"method\":\"GET\","
+                + "\"path\":\"/order-service/orders/\\\\\"1\\\\\"\",\"status\":200,\"upstream\":\"10.0.0.1:8080\","
+                + "\"auth\":\"authenticated\",\"ttfbMs\":1.500,\"durationMs\":12.345,"
+                + "\"phasesMs\":\\{\"route\":[0-9.]+,\"auth\":[0-9.]+}}"), lines.get(0));
+        assertTrue(lines.get(1).endsWith("\"status\":401,\"auth\":\"rejected\",\"durationMs\":0.250}"), lines.get(1));
+        assertEquals(2, writer.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("파일이 최대 크기를 넘으면 이전 파일을 밀어내고 max-history개까지만 보관")
+    void flush_rotatesBySize() throws IOException {
+        AccessLogProperties properties = properties();
+        properties.setMaxFileSize(DataSize.ofBytes(300));
+        properties.setMaxHistory(2);
+        properties.setBatchSize(1);
+        AccessLogWriter writer = new AccessLogWriter(properties, new GatewayMetrics(new SimpleMeterRegistry()));
+        writer.start();
+        for (int i = 0; i < 20; i++) {
+            writer.offer("order-service", "GET", "/order-service/orders/" + i, 200, null, null, -1, 1_000, null);
+            awaitWritten(writer, i + 1);
+        }
+        writer.stop();
+
+        Path log = dir.resolve("logs/access.log");
+        assertTrue(Files.size(log) <= 300);
+        assertTrue(Files.exists(log.resolveSibling("access.log.1")));
+        assertTrue(Files.exists(log.resolveSibling("access.log.2")));
+        assertFalse(Files.exists(log.resolveSibling("access.log.3")));
+        assertTrue(Files.readString(log).contains("/order-service/orders/19"));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 기다리지 않고 기록을 버림")
+    void offer_dropsWhenFull() {
+        AccessLogProperties properties = properties();
+        properties.setBufferSize(4);
+        AccessLogWriter writer = new AccessLogWriter(properties, new GatewayMetrics(new SimpleMeterRegistry()));
+
+        for (int i = 0; i < 6; i++) {
+            writer.offer("order-service", "GET", "/", 200, null, null, -1, 1_000, null);
+        }
+
+        assertEquals(2, writer.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣은 기록을 빠짐없이 순서대로 꺼냄")
+    void ringBuffer_concurrentProducers() throws InterruptedException {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 200;
+        CountDownLatch ready = new CountDownLatch(producers);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                for (int i = 0; i < perProducer; i++) {
+                    AccessLogEntry entry = ringBuffer.claim();
+                    entry.status = producer * perProducer + i;
+                    ringBuffer.publish(entry);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        boolean[] seen = new boolean[producers * perProducer];
+        int drained = ringBuffer.drain(entry -> seen[entry.status] = true, Integer.MAX_VALUE);
+
+        assertEquals(producers * perProducer, drained);
+        for (boolean value : seen) {
+            assertTrue(value);
+        }
+        assertFalse(ringBuffer.hasPublished());
+    }
+
+    private static RequestTiming timing() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        timing.mark(RequestTiming.Mark.ROUTED);
+        timing.mark(RequestTiming.Mark.AUTH_START);
+        timing.mark(RequestTiming.Mark.AUTH_END);
+        return timing;
+    }
+
+    private static void awaitWritten(AccessLogWriter writer, long count) {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (writer.getWrittenCount() < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "기록이 처리되지 않음");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.cu2mber.gatewayservice.common.cache;
+
+import com.cu2mber.gatewayservice.common.config.RegistrySnapshotProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistrySnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private RegistrySnapshotStore store(Duration maxAge) {
+        RegistrySnapshotProperties properties = new RegistrySnapshotProperties();
+        properties.setPath(dir.resolve("snapshot/registry.bin").toString());
+        properties.setMaxAge(maxAge);
+        return new RegistrySnapshotStore(properties);
+    }
+
+    @Test
+    @DisplayName("저장한 서비스와 인스턴스 목록을 그대로 읽음")
+    void saveAndLoad_roundTrip() {
+        ServiceInstance instance = new DefaultServiceInstance("user-1", "user-service", "10.0.0.1", 8080, true,
+                Map.of("zone", "a", "version", "2"));
+
+        assertTrue(store(Duration.ofHours(1)).save(List.of("user-service", "order-service"),
+                Map.of("user-service", List.of(instance))));
+        RegistrySnapshotStore.Snapshot snapshot = store(Duration.ofHours(1)).load().orElseThrow();
+
+        assertEquals(List.of("user-service", "order-service"), snapshot.services());
+        assertFalse(snapshot.instances().containsKey("order-service"));
+        ServiceInstance restored = snapshot.instances().get("user-service").get(0);
+        assertEquals("user-1", restored.getInstanceId());
+        assertEquals("user-service", restored.getServiceId());
+        assertEquals(instance.getUri(), restored.getUri());
+        assertEquals(instance.getMetadata(), restored.getMetadata());
+    }
+
+    @Test
+    @DisplayName("내용이 바뀌지 않으면 파일을 다시 쓰지 않음")
+    void save_skipsUnchanged() {
+        RegistrySnapshotStore store = store(Duration.ofHours(1));
+
+        assertTrue(store.save(List.of("user-service"), Map.of()));
+        assertFalse(store.save(List.of("user-service"), Map.of()));
+        assertTrue(store.save(List.of("user-service", "order-service"), Map.of()));
+    }
+
+    @Test
+    @DisplayName("내용이 같아도 저장 시각이 max-age의 절반을 넘으면 다시 써서 스냅샷이 만료되지 않음")
+    void save_refreshesTimestampOfUnchangedSnapshot() throws InterruptedException {
+        RegistrySnapshotStore store = store(Duration.ofMillis(400));
+
+        assertTrue(store.save(List.of("user-service"), Map.of()));
+        Thread.sleep(250);
+        assertTrue(store.save(List.of("user-service"), Map.of()));
+        Thread.sleep(250);
+
+        assertTrue(store(Duration.ofMillis(400)).load().isPresent());
+    }
+
+    @Test
+    @DisplayName("max-age를 넘은 스냅샷과 손상된 스냅샷은 사용하지 않음")
+    void load_ignoresExpiredOrCorrupt() throws IOException {
+        store(Duration.ofHours(1)).save(List.of("user-service"), Map.of());
+        assertTrue(store(Duration.ZERO).load().isEmpty());
+
+        Files.write(dir.resolve("snapshot/registry.bin"), new byte[]{1, 2, 3});
+        assertTrue(store(Duration.ofHours(1)).load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("경로가 없으면 비활성화")
+    void disabled() {
+        RegistrySnapshotStore store = RegistrySnapshotStore.disabled();
+
+        assertFalse(store.isEnabled());
+        assertFalse(store.save(List.of("user-service"), Map.of()));
+        assertTrue(store.load().isEmpty());
+    }
+}
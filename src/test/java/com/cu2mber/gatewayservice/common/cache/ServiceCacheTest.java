@@ -0,0 +1,147 @@
+package com.cu2mber.gatewayservice.common.cache;
+
+import com.cu2mber.gatewayservice.common.config.RegistrySnapshotProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceCacheTest {
+
+    private DiscoveryClient discoveryClient;
+    private ServiceCache serviceCache;
+
+    @BeforeEach
+    void setUp() {
+        discoveryClient = mock(DiscoveryClient.class);
+        serviceCache = new ServiceCache(discoveryClient, 60, 200, new GatewayMetrics(new SimpleMeterRegistry()),
+                RegistrySnapshotStore.disabled());
+        serviceCache.init();
+    }
+
+    @Test
+    @DisplayName("캐시된 서비스 목록은 레지스트리를 다시 호출하지 않고 반환됨")
+    void getServices_cached() {
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service"));
+
+        assertEquals(List.of("user-service"), serviceCache.getServices().block());
+        assertEquals(List.of("user-service"), serviceCache.getServices().block());
+
+        verify(discoveryClient, times(1)).getServices();
+    }
+
+    @Test
+    @DisplayName("레지스트리 갱신이 실패하면 마지막으로 조회한 목록을 계속 제공")
+    void refresh_keepsLastKnownServicesOnFailure() {
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service"));
+        serviceCache.getServices().block();
+
+        when(discoveryClient.getServices()).thenThrow(new IllegalStateException("eureka down"));
+
+        assertEquals(List.of("user-service"), serviceCache.refresh().block());
+        assertEquals(List.of("user-service"), serviceCache.getServices().block());
+    }
+
+    @Test
+    @DisplayName("레지스트리 응답이 타임아웃을 넘으면 빈 목록으로 응답")
+    void getServices_timeout() {
+        when(discoveryClient.getServices()).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return List.of("user-service");
+        });
+
+        assertEquals(List.of(), serviceCache.getServices().block());
+    }
+
+    @Test
+    @DisplayName("서비스별 인스턴스 목록을 캐싱")
+    void getInstances_cached() {
+        ServiceInstance instance = new DefaultServiceInstance("user-1", "user-service", "10.0.0.1", 8080, false);
+        when(discoveryClient.getInstances("user-service")).thenReturn(List.of(instance));
+
+        assertEquals(List.of(instance), serviceCache.getInstances("user-service").block());
+        assertEquals(List.of(instance), serviceCache.getInstances("user-service").block());
+
+        verify(discoveryClient, times(1)).getInstances("user-service");
+    }
+
+    @Test
+    @DisplayName("레지스트리가 비어 있어도 스냅샷의 서비스와 인스턴스로 기동하고, 레지스트리 응답 후 스냅샷을 갱신")
+    void init_restoresSnapshotUntilRegistryResponds(@TempDir Path dir) {
+        RegistrySnapshotProperties properties = new RegistrySnapshotProperties();
+        properties.setPath(dir.resolve("registry.bin").toString());
+        properties.setSaveDelay(Duration.ZERO);
+        ServiceInstance instance = new DefaultServiceInstance("user-1", "user-service", "10.0.0.1", 8080, false);
+        new RegistrySnapshotStore(properties).save(List.of("user-service"), Map.of("user-service", List.of(instance)));
+
+        when(discoveryClient.getServices()).thenReturn(List.of());
+        when(discoveryClient.getInstances("user-service")).thenReturn(List.of());
+        RegistrySnapshotStore store = new RegistrySnapshotStore(properties);
+        ServiceCache cache = new ServiceCache(discoveryClient, 60, 200,
+                new GatewayMetrics(new SimpleMeterRegistry()), store);
+        cache.init();
+
+        verify(discoveryClient, timeout(1_000)).getServices();
+        assertEquals(List.of("user-service"), cache.refresh().block());
+        assertEquals("10.0.0.1", cache.getInstances("user-service").block().get(0).getHost());
+
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service", "order-service"));
+        assertEquals(List.of("user-service", "order-service"), cache.refresh().block());
+        await(() -> new RegistrySnapshotStore(properties).load().orElseThrow().services().size() == 2);
+    }
+
+    @Test
+    @DisplayName("등록 해제된 서비스의 인스턴스는 스냅샷에 다시 저장되지 않음")
+    void loadServices_prunesDeregisteredServicesFromSnapshot(@TempDir Path dir) {
+        RegistrySnapshotProperties properties = new RegistrySnapshotProperties();
+        properties.setPath(dir.resolve("registry.bin").toString());
+        properties.setSaveDelay(Duration.ZERO);
+        ServiceCache cache = new ServiceCache(discoveryClient, 60, 200,
+                new GatewayMetrics(new SimpleMeterRegistry()), new RegistrySnapshotStore(properties));
+        cache.init();
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service", "order-service"));
+        when(discoveryClient.getInstances("user-service")).thenReturn(
+                List.of(new DefaultServiceInstance("user-1", "user-service", "10.0.0.1", 8080, false)));
+        when(discoveryClient.getInstances("order-service")).thenReturn(
+                List.of(new DefaultServiceInstance("order-1", "order-service", "10.0.0.2", 8080, false)));
+        cache.refresh().block();
+        cache.getInstances("user-service").block();
+        cache.getInstances("order-service").block();
+        await(() -> new RegistrySnapshotStore(properties).load()
+                .map(snapshot -> snapshot.instances().containsKey("order-service")).orElse(false));
+
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service"));
+        cache.refresh().block();
+        await(() -> new RegistrySnapshotStore(properties).load().orElseThrow().services().size() == 1);
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service", "order-service"));
+        cache.refresh().block();
+        await(() -> new RegistrySnapshotStore(properties).load().orElseThrow().services().size() == 2);
+
+        RegistrySnapshotStore.Snapshot snapshot = new RegistrySnapshotStore(properties).load().orElseThrow();
+        assertTrue(snapshot.instances().containsKey("user-service"));
+        assertFalse(snapshot.instances().containsKey("order-service"));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "조건을 만족하지 않음");
+            LockSupport.parkNanos(10_000_000);
+        }
+    }
+}
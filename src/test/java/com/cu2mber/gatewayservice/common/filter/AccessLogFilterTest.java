@@ -0,0 +1,72 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.accesslog.AccessLogWriter;
+import com.cu2mber.gatewayservice.common.config.AccessLogProperties;
+import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccessLogFilterTest {
+
+    private final AccessLogProperties properties = new AccessLogProperties();
+    private final AccessLogWriter writer = mock(AccessLogWriter.class);
+    private final AccessLogFilter filter = new AccessLogFilter(properties, writer);
+
+    @BeforeEach
+    void setUp() {
+        when(writer.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("라우트, 경로, 업스트림, 인증 결과를 기록하고 쿼리 문자열은 기록하지 않음")
+    void filter_recordsRequest() {
+        MockServerWebExchange exchange = exchange("/order-service/orders?access_token=secret");
+
+        filter.filter(exchange, e -> {
+            e.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                    URI.create("http://10.0.0.1:8080/orders?access_token=secret"));
+            e.getAttributes().put(JwtAuthorizationFilter.AUTH_OUTCOME_ATTR,
+                    JwtAuthorizationFilter.AuthOutcome.AUTHENTICATED);
+            e.getResponse().setStatusCode(HttpStatus.CREATED);
+            return e.getResponse().setComplete();
+        }).block();
+
+        verify(writer).offer(eq("order-service"), eq("GET"), eq("/order-service/orders"), eq(201),
+                eq(URI.create("http://10.0.0.1:8080/orders?access_token=secret")), eq("authenticated"),
+                longThat(ttfb -> ttfb >= 0), longThat(duration -> duration >= 0), isNull());
+    }
+
+    @Test
+    @DisplayName("샘플링에서 빠진 성공 응답은 기록하지 않고, 에러는 항상 기록")
+    void filter_samplesSuccessesOnly() {
+        properties.setSampleRate(0);
+
+        filter.filter(exchange("/order-service/orders"), e -> Mono.empty()).block();
+        assertThrows(UnauthorizedException.class, () -> filter.filter(exchange("/order-service/orders"),
+                e -> Mono.error(new UnauthorizedException("인증 실패"))).block());
+
+        verify(writer, times(1)).offer(any(), any(), any(), anyInt(), any(), any(), anyLong(), anyLong(), any());
+        verify(writer).offer(eq("order-service"), eq("GET"), eq("/order-service/orders"), eq(401), isNull(),
+                isNull(), eq(-1L), anyLong(), isNull());
+    }
+
+    private static MockServerWebExchange exchange(String uri) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("ORDER-SERVICE").uri("lb://ORDER-SERVICE").predicate(e -> true).build());
+        return exchange;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.ConcurrencyLimitProperties;
+import com.cu2mber.gatewayservice.common.exception.ServiceUnavailableException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyFilterTest {
+
+    private ConcurrencyLimitProperties properties;
+    private AdaptiveConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setPriorityReservedRatio(0.5);
+        properties.setPriorityRoles(List.of("ADMIN"));
+        filter = new AdaptiveConcurrencyFilter(properties);
+    }
+
+    @Test
+    @DisplayName("한도에 도달하면 대기 없이 503으로 거절하고, 남겨 둔 몫은 우선 요청만 사용")
+    void filter_shedsBeyondLimitAndReservesPriorityCapacity() {
+        Sinks.Empty<Void> upstream = Sinks.empty();
+        GatewayFilterChain pending = exchange -> upstream.asMono();
+
+        for (int i = 0; i < 5; i++) {
+            filter.filter(exchange(null), pending).subscribe();
+        }
+        assertThrows(ServiceUnavailableException.class, () -> filter.filter(exchange(null), pending).block());
+        for (int i = 0; i < 5; i++) {
+            filter.filter(exchange("ADMIN"), pending).subscribe();
+        }
+        assertThrows(ServiceUnavailableException.class, () -> filter.filter(exchange("ADMIN"), pending).block());
+        assertEquals(2, filter.getRejectedCount());
+
+        upstream.tryEmitEmpty();
+        assertDoesNotThrow(() -> filter.filter(exchange(null), e -> Mono.empty()).block());
+    }
+
+    @Test
+    @DisplayName("응답 시간이 길어지면 한도를 줄이고 안정되면 다시 늘림")
+    void limiter_followsLatency() {
+        AdaptiveConcurrencyFilter.RouteLimiter limiter = new AdaptiveConcurrencyFilter.RouteLimiter(properties);
+        long fast = TimeUnit.MILLISECONDS.toNanos(10);
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(fast, 10, false);
+        }
+        int steady = currentLimit(limiter);
+        assertTrue(steady > 10);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(fast * 10, steady, false);
+        }
+        int congested = currentLimit(limiter);
+        assertTrue(congested < steady, "congested=" + congested + ", steady=" + steady);
+
+        limiter.onSample(fast, congested, true);
+        assertTrue(currentLimit(limiter) < congested);
+    }
+
+    private static int currentLimit(AdaptiveConcurrencyFilter.RouteLimiter limiter) {
+        int accepted = 0;
+        while (limiter.tryAcquire(true)) {
+            accepted++;
+        }
+        for (int i = 0; i < accepted; i++) {
+            limiter.releaseWithoutSample();
+        }
+        return accepted;
+    }
+
+    private static MockServerWebExchange exchange(String role) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/order-service/orders"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("ORDER-SERVICE").uri("lb://ORDER-SERVICE").predicate(e -> true).build());
+        if (role != null) {
+            Claims claims = Jwts.claims().setSubject("user-1");
+            claims.put("roles", List.of(role));
+            exchange.getAttributes().put(JwtAuthorizationFilter.CLAIMS_ATTR, claims);
+        }
+        return exchange;
+    }
+}
@@ -0,0 +1,100 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.CircuitBreakerProperties;
+import com.cu2mber.gatewayservice.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerFilterTest {
+
+    private CircuitBreakerFilter filter;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.getDefaultPolicy().setFailureThreshold(3);
+        properties.getDefaultPolicy().setOpenDuration(Duration.ofMillis(200));
+        filter = new CircuitBreakerFilter(properties);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 업스트림 호출 없이 503으로 거절")
+    void filter_opensAfterConsecutiveFailures() {
+        filter.filter(exchange(), respond(HttpStatus.BAD_GATEWAY)).block();
+        filter.filter(exchange(), respond(HttpStatus.SERVICE_UNAVAILABLE)).block();
+        RuntimeException connectFailure = assertThrows(RuntimeException.class,
+                () -> filter.filter(exchange(), connectFailure()).block());
+        assertInstanceOf(ConnectException.class, Exceptions.unwrap(connectFailure));
+
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> filter.filter(exchange(), respond(HttpStatus.OK)).block());
+        assertEquals(503, exception.getStatusCode());
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(3, upstreamCalls.get());
+        assertTrue(filter.isOpen("ORDER-SERVICE"));
+    }
+
+    @Test
+    @DisplayName("성공 응답은 연속 실패 횟수를 초기화")
+    void filter_successResetsFailures() {
+        filter.filter(exchange(), respond(HttpStatus.BAD_GATEWAY)).block();
+        filter.filter(exchange(), respond(HttpStatus.BAD_GATEWAY)).block();
+        filter.filter(exchange(), respond(HttpStatus.NOT_FOUND)).block();
+        filter.filter(exchange(), respond(HttpStatus.BAD_GATEWAY)).block();
+
+        assertFalse(filter.isOpen("ORDER-SERVICE"));
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 요청이 성공할 때 서킷을 닫음")
+    void filter_closesAfterSuccessfulTrial() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            filter.filter(exchange(), respond(HttpStatus.BAD_GATEWAY)).block();
+        }
+        assertTrue(filter.isOpen("ORDER-SERVICE"));
+
+        Thread.sleep(250);
+        filter.filter(exchange(), respond(HttpStatus.OK)).block();
+
+        assertFalse(filter.isOpen("ORDER-SERVICE"));
+        assertDoesNotThrow(() -> filter.filter(exchange(), respond(HttpStatus.OK)).block());
+    }
+
+    private GatewayFilterChain respond(HttpStatus status) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(status);
+            return Mono.empty();
+        };
+    }
+
+    private GatewayFilterChain connectFailure() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new ConnectException("Connection refused"));
+        };
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/order-service/orders"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("ORDER-SERVICE").uri("lb://ORDER-SERVICE").predicate(e -> true).build());
+        return exchange;
+    }
+}
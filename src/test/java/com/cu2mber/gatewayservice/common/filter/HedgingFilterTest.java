@@ -0,0 +1,192 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.GatewayLoadBalancerProperties;
+import com.cu2mber.gatewayservice.common.config.HedgingProperties;
+import com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HedgingFilterTest {
+
+    private DisposableServer slowBackend;
+    private DisposableServer fastBackend;
+    private DisposableServer brokenBackend;
+    private ServiceInstance hedgeInstance;
+    private HedgingProperties properties;
+    private HedgingFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        slowBackend = stubBackend("slow", Duration.ofMillis(500));
+        fastBackend = stubBackend("fast", Duration.ZERO);
+        brokenBackend = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/items", (request, response) -> Mono.delay(Duration.ofMillis(100))
+                        .doOnNext(tick -> response.withConnection(Connection::dispose))
+                        .then()))
+                .bindNow();
+        hedgeInstance = instance(fastBackend);
+
+        properties = new HedgingProperties();
+        properties.setRoutes(List.of("catalog-service"));
+        properties.setMinSamples(1);
+        properties.setMinDelay(Duration.ofMillis(20));
+        properties.setBudgetPercent(100);
+
+        ObjectProvider<List<HttpHeadersFilter>> headersFilters = mock(ObjectProvider.class);
+        when(headersFilters.getIfAvailable()).thenReturn(List.of());
+        ReactorServiceInstanceLoadBalancer loadBalancer = request -> Mono.just(new DefaultResponse(hedgeInstance));
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstance(eq("catalog-service"), eq(ReactorServiceInstanceLoadBalancer.class)))
+                .thenReturn(loadBalancer);
+
+        filter = new HedgingFilter(properties, HttpClient.create(), new HttpClientProperties(), headersFilters,
+                clientFactory, new InstanceStatsRegistry(new GatewayLoadBalancerProperties()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowBackend.disposeNow();
+        fastBackend.disposeNow();
+        brokenBackend.disposeNow();
+    }
+
+    @Test
+    @DisplayName("첫 인스턴스가 지연 기준 안에 응답하지 않으면 다른 인스턴스의 응답을 사용")
+    void filter_usesHedgedResponseWhenPrimaryIsSlow() {
+        warmUp();
+
+        MockServerWebExchange exchange = exchange();
+        long start = System.nanoTime();
+        filter.filter(exchange, e -> Mono.empty()).block(Duration.ofSeconds(5));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("fast", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, filter.getHedgedCount());
+        assertEquals(1, filter.getHedgeWinCount());
+        assertTrue(elapsedMillis < 400, "elapsed=" + elapsedMillis);
+    }
+
+    @Test
+    @DisplayName("헤지 예산이 없으면 첫 인스턴스의 응답을 기다림")
+    void filter_waitsForPrimaryWithoutBudget() {
+        properties.setBudgetPercent(0);
+        warmUp();
+
+        MockServerWebExchange exchange = exchange();
+        filter.filter(exchange, e -> Mono.empty()).block(Duration.ofSeconds(5));
+
+        assertEquals("slow", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, filter.getHedgedCount());
+    }
+
+    @Test
+    @DisplayName("헤지 요청을 보낸 뒤 첫 요청이 실패하면 헤지 응답을 사용")
+    void filter_usesHedgeWhenPrimaryFailsAfterHedgeSent() {
+        warmUp();
+        DisposableServer slowHedgeBackend = stubBackend("hedge", Duration.ofMillis(300));
+        hedgeInstance = instance(slowHedgeBackend);
+        try {
+            MockServerWebExchange exchange = exchange(brokenBackend);
+            filter.filter(exchange, e -> Mono.empty()).block(Duration.ofSeconds(5));
+
+            assertEquals("hedge", exchange.getResponse().getBodyAsString().block());
+            assertEquals(1, filter.getHedgeWinCount());
+        } finally {
+            slowHedgeBackend.disposeNow();
+        }
+    }
+
+    @Test
+    @DisplayName("첫 요청이 실패하고 헤지 요청을 보내지 않았으면 첫 요청의 오류를 전달")
+    void filter_propagatesPrimaryFailureWithoutHedge() {
+        properties.setBudgetPercent(0);
+        warmUp();
+
+        assertThrows(Exception.class,
+                () -> filter.filter(exchange(brokenBackend), e -> Mono.empty()).block(Duration.ofSeconds(5)));
+        assertEquals(0, filter.getHedgedCount());
+    }
+
+    @Test
+    @DisplayName("응답 본문이 max-buffer-size를 넘으면 헤지 결과를 버리고 기본 라우팅으로 넘김")
+    void filter_fallsBackToRoutingWhenResponseIsTooLarge() {
+        warmUp();
+        properties.setMaxBufferSize(DataSize.ofBytes(2));
+
+        MockServerWebExchange exchange = exchange();
+        AtomicBoolean routedByChain = new AtomicBoolean();
+        filter.filter(exchange, e -> {
+            routedByChain.set(!ServerWebExchangeUtils.isAlreadyRouted(e));
+            return Mono.empty();
+        }).block(Duration.ofSeconds(5));
+
+        assertTrue(routedByChain.get());
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 64; i++) {
+            filter.filter(exchange(), e -> Mono.empty()).block();
+        }
+    }
+
+    private MockServerWebExchange exchange() {
+        return exchange(slowBackend);
+    }
+
+    private MockServerWebExchange exchange(DisposableServer primary) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/catalog-service/items"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("CATALOG-SERVICE").uri("lb://CATALOG-SERVICE").predicate(e -> true).build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                new DefaultResponse(instance(primary)));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                URI.create("http://localhost:" + primary.port() + "/items"));
+        return exchange;
+    }
+
+    private static ServiceInstance instance(DisposableServer backend) {
+        return new DefaultServiceInstance("catalog-" + backend.port(), "catalog-service", "localhost", backend.port(),
+                false);
+    }
+
+    private static DisposableServer stubBackend(String body, Duration latency) {
+        return HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/items",
+                        (request, response) -> response.sendString(Mono.just(body).delayElement(latency))))
+                .bindNow();
+    }
+}
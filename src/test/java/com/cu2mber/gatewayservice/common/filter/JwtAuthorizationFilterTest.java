@@ -0,0 +1,182 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.AuthPolicyProperties;
+import com.cu2mber.gatewayservice.common.config.ClaimHeaderProperties;
+import com.cu2mber.gatewayservice.common.exception.ForbiddenException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.provider.JwtProvider;
+import com.cu2mber.gatewayservice.common.route.AuthPolicyMatcher;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthorizationFilterTest {
+
+    private static final String SECRET = "aWFtdGVzdHNlY3JldGtleTEyMzQ1Njc4OTBhYmNkZWY=";
+
+    private JwtAuthorizationFilter filter;
+    private JwtProvider jwtProvider;
+    private GatewayMetrics metrics;
+    private ClaimHeaderProperties properties;
+    private AuthPolicyProperties authPolicyProperties;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new GatewayMetrics(new SimpleMeterRegistry());
+        jwtProvider = new JwtProvider(metrics);
+        ReflectionTestUtils.setField(jwtProvider, "secret", SECRET);
+        jwtProvider.init();
+
+        properties = new ClaimHeaderProperties();
+        authPolicyProperties = new AuthPolicyProperties();
+        rebuildFilter();
+
+        Key key = Keys.hmacShaKeyFor(java.util.Base64.getDecoder().decode(SECRET));
+        token = Jwts.builder()
+                .setSubject("user-1")
+                .claim("roles", List.of("USER", "ADMIN"))
+                .claim("tenant", "acme")
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Test
+    @DisplayName("검증된 클레임은 헤더로 전달되고 클라이언트가 보낸 신뢰 헤더는 제거됨")
+    void filter_propagatesClaimsAndStripsClientHeaders() {
+        MockServerWebExchange exchange = exchange("ORDER-SERVICE", HttpHeaders.AUTHORIZATION, "Bearer " + token,
+                "X-User-Id", "attacker", "X-Tenant-Id", "other");
+
+        HttpHeaders forwarded = runFilter(exchange);
+
+        assertEquals(List.of("user-1"), forwarded.get("X-User-Id"));
+        assertEquals("USER,ADMIN", forwarded.getFirst("X-User-Roles"));
+        assertEquals("acme", forwarded.getFirst("X-Tenant-Id"));
+        assertNotNull(forwarded.getFirst("X-Token-Expires"));
+        assertNotNull(exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR));
+    }
+
+    @Test
+    @DisplayName("라우트별 설정에 포함된 클레임만 전달됨")
+    void filter_usesRouteSpecificClaims() {
+        properties.setRoutes(Map.of("order-service", List.of("sub")));
+        MockServerWebExchange exchange = exchange("ORDER-SERVICE", HttpHeaders.AUTHORIZATION, "Bearer " + token,
+                "X-User-Roles", "ADMIN");
+
+        HttpHeaders forwarded = runFilter(exchange);
+
+        assertEquals("user-1", forwarded.getFirst("X-User-Id"));
+        assertNull(forwarded.getFirst("X-User-Roles"));
+        assertNull(forwarded.getFirst("X-Tenant-Id"));
+    }
+
+    @Test
+    @DisplayName("PUBLIC 경로는 토큰 없이 통과하고 클라이언트가 보낸 신뢰 헤더는 제거됨")
+    void filter_publicPathSkipsAuthentication() {
+        useRules(AuthPolicyProperties.Policy.PUBLIC, "/orders");
+        MockServerWebExchange exchange = exchange("ORDER-SERVICE", "X-User-Id", "attacker");
+
+        HttpHeaders forwarded = runFilter(exchange);
+
+        assertNotNull(forwarded);
+        assertNull(forwarded.getFirst("X-User-Id"));
+        assertNull(exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR));
+    }
+
+    @Test
+    @DisplayName("OPTIONAL 경로는 토큰이 없으면 통과하고, 있으면 검증하여 클레임을 전달함")
+    void filter_optionalPathVerifiesOnlyPresentToken() {
+        useRules(AuthPolicyProperties.Policy.OPTIONAL, "/orders");
+
+        assertNotNull(runFilter(exchange("ORDER-SERVICE")));
+
+        HttpHeaders forwarded = runFilter(exchange("ORDER-SERVICE", HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        assertEquals("user-1", forwarded.getFirst("X-User-Id"));
+    }
+
+    @Test
+    @DisplayName("REQUIRED 경로는 토큰이 없으면 401을 반환함")
+    void filter_requiredPathRejectsMissingToken() {
+        MockServerWebExchange exchange = exchange("ORDER-SERVICE");
+
+        assertNull(runFilter(exchange));
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("ROLE 경로는 허용된 역할이 없으면 ForbiddenException을 반환함")
+    void filter_rolePathRequiresAllowedRole() {
+        AuthPolicyProperties.Rule rule = useRules(AuthPolicyProperties.Policy.ROLE, "/orders");
+        rule.setRoles(List.of("AUDITOR"));
+        rebuildFilter();
+
+        MockServerWebExchange exchange = exchange("ORDER-SERVICE", HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        assertThrows(ForbiddenException.class, () -> runFilter(exchange));
+
+        rule.setRoles(List.of("ADMIN"));
+        rebuildFilter();
+        HttpHeaders forwarded = runFilter(exchange("ORDER-SERVICE", HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        assertEquals("user-1", forwarded.getFirst("X-User-Id"));
+    }
+
+    private AuthPolicyProperties.Rule useRules(AuthPolicyProperties.Policy policy, String path) {
+        AuthPolicyProperties.Rule rule = new AuthPolicyProperties.Rule();
+        rule.setPaths(List.of(path));
+        rule.setPolicy(policy);
+        rule.setRoles(List.of("ADMIN"));
+        AuthPolicyProperties.RouteAuth routeAuth = new AuthPolicyProperties.RouteAuth();
+        routeAuth.setRules(List.of(rule));
+        authPolicyProperties.setRoutes(Map.of("order-service", routeAuth));
+        rebuildFilter();
+        return rule;
+    }
+
+    private void rebuildFilter() {
+        filter = new JwtAuthorizationFilter(jwtProvider, properties, metrics,
+                new AuthPolicyMatcher(authPolicyProperties));
+    }
+
+    private MockServerWebExchange exchange(String routeId, String... headers) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/orders");
+        for (int i = 0; i < headers.length; i += 2) {
+            request.header(headers[i], headers[i + 1]);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id(routeId).uri("lb://" + routeId).predicate(e -> true).build());
+        return exchange;
+    }
+
+    private HttpHeaders runFilter(ServerWebExchange exchange) {
+        AtomicReference<HttpHeaders> forwarded = new AtomicReference<>();
+        GatewayFilterChain chain = e -> {
+            forwarded.set(e.getRequest().getHeaders());
+            return Mono.empty();
+        };
+        filter.filter(exchange, chain).block();
+        return forwarded.get();
+    }
+}
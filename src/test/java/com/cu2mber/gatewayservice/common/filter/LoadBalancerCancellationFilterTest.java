@@ -0,0 +1,67 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.GatewayLoadBalancerProperties;
+import com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadBalancerCancellationFilterTest {
+
+    private final ServiceInstance instance =
+            new DefaultServiceInstance("order-1", "order-service", "10.0.0.1", 8080, false);
+    private final InstanceStatsRegistry statsRegistry = new InstanceStatsRegistry(new GatewayLoadBalancerProperties());
+    private final LoadBalancerCancellationFilter filter = new LoadBalancerCancellationFilter(statsRegistry);
+
+    @Test
+    @DisplayName("프록시 중인 요청이 취소되면 인스턴스의 처리 중인 요청 수가 0으로 돌아옴")
+    void filter_releasesOutstandingOnCancel() {
+        MockServerWebExchange exchange = exchange();
+        startRequest(exchange);
+        assertEquals(1, statsRegistry.outstanding(instance));
+
+        filter.filter(exchange, e -> Mono.never()).subscribe().dispose();
+
+        assertEquals(0, statsRegistry.outstanding(instance));
+    }
+
+    @Test
+    @DisplayName("onComplete로 이미 완료된 요청은 취소되어도 다시 줄이지 않음")
+    void filter_doesNotReleaseCompletedRequestTwice() {
+        MockServerWebExchange exchange = exchange();
+        Request<RequestDataContext> request = startRequest(exchange);
+        statsRegistry.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request,
+                new DefaultResponse(instance)));
+
+        filter.filter(exchange, e -> Mono.never()).subscribe().dispose();
+
+        assertEquals(0, statsRegistry.outstanding(instance));
+    }
+
+    private Request<RequestDataContext> startRequest(MockServerWebExchange exchange) {
+        Response<ServiceInstance> lbResponse = new DefaultResponse(instance);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, lbResponse);
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext(
+                new RequestData(exchange.getRequest(), exchange.getAttributes()), "default"));
+        statsRegistry.onStartRequest(request, lbResponse);
+        return request;
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/order-service/orders"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.RateLimitProperties;
+import com.cu2mber.gatewayservice.common.exception.TooManyRequestsException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private RateLimitProperties properties;
+    private RateLimitFilter filter;
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.getDefaultLimit().setReplenishRate(1);
+        properties.getDefaultLimit().setBurstCapacity(3);
+        filter = new RateLimitFilter(properties);
+    }
+
+    @Test
+    @DisplayName("버스트 용량까지 허용하고 초과하면 Retry-After와 함께 거절")
+    void filter_rejectsAfterBurst() {
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> filter.filter(exchange("user-1", "10.0.0.1"), chain).block());
+        }
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> filter.filter(exchange("user-1", "10.0.0.1"), chain).block());
+        assertEquals(429, exception.getStatusCode());
+        assertEquals(1, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("JWT subject별로 버킷이 분리되고 subject가 없으면 IP로 구분")
+    void filter_separatesBucketsByPrincipal() {
+        for (int i = 0; i < 3; i++) {
+            filter.filter(exchange("user-1", "10.0.0.1"), chain).block();
+        }
+
+        assertDoesNotThrow(() -> filter.filter(exchange("user-2", "10.0.0.1"), chain).block());
+        assertDoesNotThrow(() -> filter.filter(exchange(null, "10.0.0.1"), chain).block());
+        assertEquals(3, filter.getBucketCount());
+    }
+
+    @Test
+    @DisplayName("replenish-rate가 0 이하인 라우트는 제한하지 않음")
+    void filter_unlimitedRoute() {
+        RateLimitProperties.Limit unlimited = new RateLimitProperties.Limit();
+        unlimited.setReplenishRate(0);
+        properties.setRoutes(Map.of("user-service", unlimited));
+
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> filter.filter(exchange("user-1", "10.0.0.1"), chain).block());
+        }
+        assertEquals(0, filter.getBucketCount());
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시 수가 설정되면 익명 요청을 X-Forwarded-For의 클라이언트 IP로 구분")
+    void filter_separatesAnonymousClientsBehindProxy() {
+        properties.setTrustedProxies(1);
+        filter = new RateLimitFilter(properties);
+
+        for (int i = 0; i < 3; i++) {
+            filter.filter(exchange(null, "10.0.0.1", "203.0.113.1"), chain).block();
+        }
+        assertThrows(TooManyRequestsException.class,
+                () -> filter.filter(exchange(null, "10.0.0.1", "203.0.113.1"), chain).block());
+
+        assertDoesNotThrow(() -> filter.filter(exchange(null, "10.0.0.1", "203.0.113.2"), chain).block());
+        assertDoesNotThrow(() -> filter.filter(exchange(null, "10.0.0.1", "198.51.100.9, 203.0.113.3"), chain).block());
+        assertEquals(3, filter.getBucketCount());
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시 수가 0이면 X-Forwarded-For를 무시하고 소켓 원격 주소로 구분")
+    void filter_ignoresForwardedForWithoutTrustedProxies() {
+        for (int i = 0; i < 3; i++) {
+            filter.filter(exchange(null, "10.0.0.1", "203.0.113." + i), chain).block();
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> filter.filter(exchange(null, "10.0.0.1", "203.0.113.9"), chain).block());
+        assertEquals(1, filter.getBucketCount());
+    }
+
+    private static MockServerWebExchange exchange(String subject, String ip) {
+        return exchange(subject, ip, null);
+    }
+
+    private static MockServerWebExchange exchange(String subject, String ip, String forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/user-service/users")
+                .remoteAddress(new InetSocketAddress(ip, 50000));
+        if (forwardedFor != null) {
+            request.header("X-Forwarded-For", forwardedFor);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("USER-SERVICE").uri("lb://USER-SERVICE").predicate(e -> true).build());
+        if (subject != null) {
+            Claims claims = Jwts.claims().setSubject(subject);
+            exchange.getAttributes().put(JwtAuthorizationFilter.CLAIMS_ATTR, claims);
+        }
+        return exchange;
+    }
+}
@@ -0,0 +1,135 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.RequestCoalescingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescingFilterTest {
+
+    private RequestCoalescingFilter filter;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        RequestCoalescingProperties properties = new RequestCoalescingProperties();
+        properties.setRoutes(List.of("catalog-service"));
+        filter = new RequestCoalescingFilter(properties);
+    }
+
+    @Test
+    @DisplayName("처리 중인 동일 요청은 업스트림 호출 하나의 응답을 공유")
+    void filter_sharesInFlightResponse() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain slowUpstream = exchange -> release.asMono().then(write(exchange, "shared"));
+
+        MockServerWebExchange leader = exchange("/api/catalog-service/items?page=1");
+        MockServerWebExchange follower = exchange("/api/catalog-service/items?page=1");
+        Mono<Void> leaderResult = filter.filter(leader, slowUpstream).cache();
+        leaderResult.subscribe();
+        Mono<Void> followerResult = filter.filter(follower, slowUpstream).cache();
+        followerResult.subscribe();
+        assertEquals(1, filter.getInFlightCount());
+
+        release.tryEmitEmpty();
+        leaderResult.block();
+        followerResult.block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, filter.getCoalescedCount());
+        assertEquals(0, filter.getInFlightCount());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+        assertEquals("shared", follower.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    @DisplayName("leader가 실패하면 대기 중인 요청은 각자 업스트림을 호출")
+    void filter_fallsBackWhenLeaderFails() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain failing = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.error(new IllegalStateException("upstream down")));
+        };
+
+        MockServerWebExchange leader = exchange("/api/catalog-service/items");
+        MockServerWebExchange follower = exchange("/api/catalog-service/items");
+        Mono<Void> leaderResult = filter.filter(leader, failing).onErrorResume(e -> Mono.empty()).cache();
+        leaderResult.subscribe();
+        Mono<Void> followerResult = filter.filter(follower, exchange -> write(exchange, "own")).cache();
+        followerResult.subscribe();
+
+        release.tryEmitEmpty();
+        leaderResult.block();
+        followerResult.block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0, filter.getCoalescedCount());
+        assertEquals("own", follower.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    @DisplayName("Cookie가 다른 요청은 병합하지 않음")
+    void filter_doesNotShareResponsesAcrossCookies() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain slowUpstream = exchange -> release.asMono()
+                .then(write(exchange, exchange.getRequest().getHeaders().getFirst(HttpHeaders.COOKIE)));
+
+        MockServerWebExchange first = exchange("/api/catalog-service/cart", "SESSION=a");
+        MockServerWebExchange second = exchange("/api/catalog-service/cart", "SESSION=b");
+        Mono<Void> firstResult = filter.filter(first, slowUpstream).cache();
+        firstResult.subscribe();
+        Mono<Void> secondResult = filter.filter(second, slowUpstream).cache();
+        secondResult.subscribe();
+        assertEquals(2, filter.getInFlightCount());
+
+        release.tryEmitEmpty();
+        firstResult.block();
+        secondResult.block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0, filter.getCoalescedCount());
+        assertEquals("SESSION=a", first.getResponse().getBodyAsString().block());
+        assertEquals("SESSION=b", second.getResponse().getBodyAsString().block());
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, String body) {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            var response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        });
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return exchange(path, null);
+    }
+
+    private static MockServerWebExchange exchange(String path, String cookie) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (cookie != null) {
+            request.header(HttpHeaders.COOKIE, cookie);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("CATALOG-SERVICE").uri("lb://CATALOG-SERVICE").predicate(e -> true).build());
+        return exchange;
+    }
+}
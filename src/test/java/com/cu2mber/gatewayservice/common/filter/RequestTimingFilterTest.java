@@ -0,0 +1,88 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.ServerTimingProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.cu2mber.gatewayservice.common.metrics.RequestTiming;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServerTimingProperties properties = new ServerTimingProperties();
+    private final RequestTimingFilter filter = new RequestTimingFilter(properties, new GatewayMetrics(meterRegistry));
+
+    @Test
+    @DisplayName("opt-in 헤더가 있으면 기록된 구간만 Server-Timing 헤더로 응답하고, 구간별 메트릭을 기록")
+    void filter_addsServerTimingWhenOptedIn() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/order-service/orders").header("X-Gateway-Timing", "1"));
+
+        filter.filter(exchange, this::proxy).block();
+
+        String serverTiming = exchange.getResponse().getHeaders().getFirst(RequestTimingFilter.SERVER_TIMING);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.matches("route;dur=[0-9.]+, auth;dur=[0-9.]+, lb;dur=[0-9.]+, connect;dur=[0-9.]+, "
+                + "upstream;dur=[0-9.]+, total;dur=[0-9.]+"), serverTiming);
+        for (String phase : new String[]{"route", "auth", "lb", "connect", "upstream", "total"}) {
+            assertEquals(1, meterRegistry.get("gateway.route.phase").tag("route", "order-service")
+                    .tag("phase", phase).timer().count(), phase);
+        }
+    }
+
+    @Test
+    @DisplayName("opt-in 헤더가 없고 샘플링되지 않으면 Server-Timing 헤더를 붙이지 않음")
+    void filter_skipsServerTimingByDefault() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/order-service/orders"));
+
+        filter.filter(exchange, this::proxy).block();
+
+        assertFalse(exchange.getResponse().getHeaders().containsKey(RequestTimingFilter.SERVER_TIMING));
+        assertEquals(1, meterRegistry.get("gateway.route.phase").tag("phase", "total").timer().count());
+    }
+
+    @Test
+    @DisplayName("sample-rate가 1이면 모든 응답에 Server-Timing 헤더를 붙임")
+    void filter_samplesServerTiming() {
+        properties.setSampleRate(1.0);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/order-service/orders"));
+
+        filter.filter(exchange, this::proxy).block();
+
+        String serverTiming = exchange.getResponse().getHeaders().getFirst(RequestTimingFilter.SERVER_TIMING);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("route;dur="), serverTiming);
+    }
+
+    /**
+     * 라우트 조회, JWT 검증, 로드밸런서, 업스트림 호출 단계를 흉내 냅니다.
+     * 업스트림 단계는 실제 HttpClient 훅처럼 Reactor Context의 RequestTiming에 기록합니다.
+     */
+    private Mono<Void> proxy(ServerWebExchange exchange) {
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("ORDER-SERVICE").uri("lb://ORDER-SERVICE").predicate(e -> true).build());
+        for (RequestTiming.Mark mark : new RequestTiming.Mark[]{RequestTiming.Mark.ROUTED,
+                RequestTiming.Mark.AUTH_START, RequestTiming.Mark.AUTH_END, RequestTiming.Mark.LB_START,
+                RequestTiming.Mark.INSTANCE_CHOSEN}) {
+            RequestTiming.mark(exchange, mark);
+        }
+        return Mono.deferContextual(context -> {
+                    RequestTiming timing = context.get(RequestTiming.class);
+                    timing.mark(RequestTiming.Mark.REQUEST_SENT);
+                    timing.mark(RequestTiming.Mark.RESPONSE_RECEIVED);
+                    return Mono.empty();
+                })
+                .then(exchange.getResponse().setComplete());
+    }
+}
@@ -0,0 +1,129 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.cache.ResponseCache;
+import com.cu2mber.gatewayservice.common.config.ResponseCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"items\":[1,2,3]}";
+
+    private ResponseCacheProperties properties;
+    private ResponseCacheFilter filter;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.getRoutes().put("catalog-service", new ResponseCacheProperties.RoutePolicy());
+        properties.getRoutes().get("catalog-service").setEnabled(true);
+        filter = new ResponseCacheFilter(properties, new ResponseCache(properties));
+    }
+
+    @Test
+    @DisplayName("max-age 응답은 캐시되어 두 번째 요청은 업스트림 호출 없이 응답")
+    void filter_servesSecondRequestFromCache() {
+        MockServerWebExchange first = exchange("/api/catalog-service/items?page=1");
+        filter.filter(first, upstream("max-age=60")).block();
+        MockServerWebExchange second = exchange("/api/catalog-service/items?page=1");
+        filter.filter(second, upstream("max-age=60")).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertNotNull(second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 캐시된 ETag와 일치하면 업스트림 호출 없이 304")
+    void filter_answersConditionalRequestWith304() {
+        MockServerWebExchange first = exchange("/api/catalog-service/items");
+        filter.filter(first, upstream("public, max-age=60")).block();
+        MockServerWebExchange hit = exchange("/api/catalog-service/items");
+        filter.filter(hit, upstream("public, max-age=60")).block();
+        String etag = hit.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange conditional = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/catalog-service/items").header(HttpHeaders.IF_NONE_MATCH, etag));
+        conditional.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+        filter.filter(conditional, upstream("public, max-age=60")).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("no-store, private 응답과 다른 쿼리는 캐시되지 않음")
+    void filter_respectsCacheControl() {
+        filter.filter(exchange("/api/catalog-service/a"), upstream("no-store")).block();
+        filter.filter(exchange("/api/catalog-service/a"), upstream("no-store")).block();
+        filter.filter(exchange("/api/catalog-service/b"), upstream("private, max-age=60")).block();
+        filter.filter(exchange("/api/catalog-service/b"), upstream("private, max-age=60")).block();
+        filter.filter(exchange("/api/catalog-service/c?x=1"), upstream("max-age=60")).block();
+        filter.filter(exchange("/api/catalog-service/c?x=2"), upstream("max-age=60")).block();
+
+        assertEquals(6, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Authorization 요청의 max-age 응답은 subject별 캐시가 아니면 공유 캐시에 저장되지 않음")
+    void filter_doesNotShareAuthorizedResponsesWithoutPublic() {
+        filter.filter(authorizedExchange("/api/catalog-service/me"), upstream("max-age=60")).block();
+        MockServerWebExchange anonymous = exchange("/api/catalog-service/me");
+        filter.filter(anonymous, upstream("max-age=60")).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("MISS", anonymous.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+
+        filter.filter(authorizedExchange("/api/catalog-service/items"), upstream("public, max-age=60")).block();
+        MockServerWebExchange shared = exchange("/api/catalog-service/items");
+        filter.filter(shared, upstream("public, max-age=60")).block();
+
+        assertEquals(3, upstreamCalls.get());
+        assertEquals("HIT", shared.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+    }
+
+    private GatewayFilterChain upstream(String cacheControl) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            var response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+            byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        };
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+        return exchange;
+    }
+
+    private static MockServerWebExchange authorizedExchange(String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get(path).header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+        return exchange;
+    }
+
+    private static Route route() {
+        return Route.async().id("CATALOG-SERVICE").uri("lb://CATALOG-SERVICE").predicate(e -> true).build();
+    }
+}
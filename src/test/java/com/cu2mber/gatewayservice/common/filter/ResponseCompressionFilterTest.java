@@ -0,0 +1,181 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.cache.ResponseCache;
+import com.cu2mber.gatewayservice.common.config.ResponseCacheProperties;
+import com.cu2mber.gatewayservice.common.config.ResponseCompressionProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCompressionFilterTest {
+
+    private static final String CHUNK = "{\"id\":1,\"name\":\"product\",\"tags\":[\"a\",\"b\"]},";
+
+    private SimpleMeterRegistry registry;
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new ResponseCompressionFilter(new ResponseCompressionProperties(), new GatewayMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하는 요청의 JSON 응답은 청크 단위로 압축되고 압축률이 기록됨")
+    void filter_compressesEligibleResponse() throws IOException {
+        MockServerWebExchange exchange = exchange("gzip, deflate, br");
+        String expected = CHUNK.repeat(1000);
+
+        filter.filter(exchange, upstream(MediaType.APPLICATION_JSON, null, CHUNK, 1000)).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), headers.getVary());
+        assertEquals(-1, headers.getContentLength());
+        byte[] compressed = body(exchange);
+        assertTrue(compressed.length < expected.length() / 10);
+        assertEquals(expected, gunzip(compressed));
+        assertEquals(1, registry.get("gateway.route.compression.ratio").tag("route", "catalog-service")
+                .summary().count());
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하지 않거나 이미 압축된 응답, 허용 목록 밖의 Content-Type은 그대로 전달됨")
+    void filter_passesThroughIneligibleResponses() {
+        MockServerWebExchange noGzip = exchange("br;q=1, gzip;q=0");
+        filter.filter(noGzip, upstream(MediaType.APPLICATION_JSON, null, CHUNK, 100)).block();
+        assertNull(noGzip.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), noGzip.getResponse().getHeaders().getVary());
+
+        MockServerWebExchange encoded = exchange("gzip");
+        filter.filter(encoded, upstream(MediaType.APPLICATION_JSON, "br", CHUNK, 100)).block();
+        assertEquals("br", encoded.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+
+        MockServerWebExchange image = exchange("gzip");
+        filter.filter(image, upstream(MediaType.IMAGE_PNG, null, CHUNK, 100)).block();
+        assertNull(image.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(CHUNK.repeat(100), new String(body(image), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Content-Length가 최소 크기보다 작으면 압축하지 않음")
+    void filter_skipsSmallResponses() {
+        MockServerWebExchange exchange = exchange("gzip");
+        GatewayFilterChain chain = e -> {
+            e.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            e.getResponse().getHeaders().setContentLength(CHUNK.length());
+            return e.getResponse().writeWith(Flux.just(buffer(e, CHUNK)));
+        };
+
+        filter.filter(exchange, chain).block();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(CHUNK, new String(body(exchange), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("응답 캐시와 함께 실행하면 캐시 미스와 적중 응답 모두 올바르게 압축되고, 캐시에는 압축 전 헤더가 저장됨")
+    void filter_compressesCachedResponsesConsistently() throws IOException {
+        ResponseCacheProperties cacheProperties = new ResponseCacheProperties();
+        ResponseCacheProperties.RoutePolicy policy = new ResponseCacheProperties.RoutePolicy();
+        policy.setEnabled(true);
+        cacheProperties.getRoutes().put("catalog-service", policy);
+        ResponseCacheFilter cacheFilter = new ResponseCacheFilter(cacheProperties, new ResponseCache(cacheProperties));
+        GatewayFilterChain upstream = e -> {
+            e.getResponse().setStatusCode(HttpStatus.OK);
+            e.getResponse().getHeaders().setCacheControl("max-age=60");
+            e.getResponse().getHeaders().setETag("\"v1\"");
+            return upstream(MediaType.APPLICATION_JSON, null, CHUNK, 100).filter(e);
+        };
+        String expected = CHUNK.repeat(100);
+
+        MockServerWebExchange miss = exchange("gzip");
+        filter.filter(miss, e -> cacheFilter.filter(e, upstream)).block();
+        MockServerWebExchange hit = exchange("gzip");
+        filter.filter(hit, e -> cacheFilter.filter(e, upstream)).block();
+        MockServerWebExchange identity = exchange("identity");
+        filter.filter(identity, e -> cacheFilter.filter(e, upstream)).block();
+
+        assertEquals(expected, gunzip(body(miss)));
+        HttpHeaders hitHeaders = hit.getResponse().getHeaders();
+        assertEquals("HIT", hitHeaders.getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("gzip", hitHeaders.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), hitHeaders.getVary());
+        assertEquals("W/\"v1\"", hitHeaders.getETag());
+        assertEquals(expected, gunzip(body(hit)));
+        HttpHeaders identityHeaders = identity.getResponse().getHeaders();
+        assertEquals("HIT", identityHeaders.getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertNull(identityHeaders.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"v1\"", identityHeaders.getETag());
+        assertEquals(expected, new String(body(identity), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 q 값과 와일드카드를 해석함")
+    void acceptsGzip_negotiatesQuality() {
+        assertTrue(ResponseCompressionFilter.acceptsGzip(List.of("gzip")));
+        assertTrue(ResponseCompressionFilter.acceptsGzip(List.of("br, *;q=0.1")));
+        assertFalse(ResponseCompressionFilter.acceptsGzip(List.of("gzip;q=0, *")));
+        assertFalse(ResponseCompressionFilter.acceptsGzip(List.of("identity")));
+        assertFalse(ResponseCompressionFilter.acceptsGzip(null));
+    }
+
+    private static MockServerWebExchange exchange(String acceptEncoding) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/items").header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("CATALOG-SERVICE").uri("lb://CATALOG-SERVICE").predicate(e -> true).build());
+        return exchange;
+    }
+
+    private static GatewayFilterChain upstream(MediaType contentType, String contentEncoding, String chunk,
+                                               int chunks) {
+        return exchange -> {
+            exchange.getResponse().getHeaders().setContentType(contentType);
+            if (contentEncoding != null) {
+                exchange.getResponse().getHeaders().set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            }
+            return exchange.getResponse().writeWith(Flux.range(0, chunks).map(i -> buffer(exchange, chunk)));
+        };
+    }
+
+    private static DataBuffer buffer(ServerWebExchange exchange, String text) {
+        return exchange.getResponse().bufferFactory().wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] body(MockServerWebExchange exchange) {
+        DataBuffer joined = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        DataBufferUtils.release(joined);
+        return bytes;
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.RetryProperties;
+import com.cu2mber.gatewayservice.common.loadbalancer.ExcludedInstances;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryFilterTest {
+
+    private RetryProperties properties;
+    private RetryFilter filter;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetryProperties();
+        properties.getDefaultPolicy().setFirstBackoff(Duration.ofMillis(1));
+        properties.getDefaultPolicy().setMaxBackoff(Duration.ofMillis(5));
+        filter = new RetryFilter(properties);
+    }
+
+    @Test
+    @DisplayName("연결 실패는 실패한 인스턴스를 제외하고 다시 시도")
+    void filter_retriesConnectFailureOnOtherInstance() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.post("/orders"));
+
+        filter.filter(exchange, failTimes(2, new ConnectException("Connection refused"))).block();
+
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals(2, filter.getRetryCount("ORDER-SERVICE"));
+        assertTrue(ExcludedInstances.contains(exchange.getAttributes(), instance(0)));
+        assertTrue(ExcludedInstances.contains(exchange.getAttributes(), instance(1)));
+        assertFalse(ExcludedInstances.contains(exchange.getAttributes(), instance(2)));
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 경우 멱등 메서드만 재시도")
+    void filter_retriesPrematureCloseOnlyForIdempotentMethods() {
+        filter.filter(exchange(MockServerHttpRequest.get("/orders")),
+                failTimes(1, PrematureCloseException.TEST_EXCEPTION)).block();
+        assertEquals(2, upstreamCalls.get());
+
+        upstreamCalls.set(0);
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> filter.filter(exchange(MockServerHttpRequest.post("/orders")),
+                        failTimes(1, PrematureCloseException.TEST_EXCEPTION)).block());
+        assertSame(PrematureCloseException.TEST_EXCEPTION, Exceptions.unwrap(exception));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 쓰면 더 이상 재시도하지 않음")
+    void filter_stopsRetryingWhenBudgetIsExhausted() {
+        properties.setBudgetPercent(0);
+        properties.getDefaultPolicy().setMaxRetries(1);
+        for (int i = 0; i < 10; i++) {
+            upstreamCalls.set(0);
+            filter.filter(exchange(MockServerHttpRequest.get("/orders")),
+                    failTimes(1, new ConnectException("Connection refused"))).block();
+        }
+
+        upstreamCalls.set(0);
+        assertThrows(RuntimeException.class, () -> filter.filter(exchange(MockServerHttpRequest.get("/orders")),
+                failTimes(1, new ConnectException("Connection refused"))).block());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, filter.getBudgetExhaustedCount());
+    }
+
+    private GatewayFilterChain failTimes(int failures, Throwable error) {
+        return exchange -> {
+            int call = upstreamCalls.getAndIncrement();
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                    new DefaultResponse(instance(call)));
+            if (call < failures) {
+                return Mono.error(error);
+            }
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        };
+    }
+
+    private static ServiceInstance instance(int index) {
+        return new DefaultServiceInstance("order-" + index, "order-service", "10.0.0." + index, 8080, false);
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("ORDER-SERVICE").uri("lb://ORDER-SERVICE").predicate(e -> true).build());
+        return exchange;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cu2mber.gatewayservice.common.filter;
+
+import com.cu2mber.gatewayservice.common.config.CircuitBreakerProperties;
+import com.cu2mber.gatewayservice.common.config.ConcurrencyLimitProperties;
+import com.cu2mber.gatewayservice.common.config.RetryProperties;
+import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RouteMetricsFilter filter = new RouteMetricsFilter(new GatewayMetrics(meterRegistry),
+            new RetryFilter(new RetryProperties()), new AdaptiveConcurrencyFilter(new ConcurrencyLimitProperties()),
+            new CircuitBreakerFilter(new CircuitBreakerProperties()));
+
+    @Test
+    @DisplayName("라우트와 결과별로 요청 처리 시간이 기록됨")
+    void filter_recordsLatencyPerRouteAndOutcome() {
+        filter.filter(exchange(), exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        }).block();
+        filter.filter(exchange(), exchange -> {
+            exchange.getResponse().setStatusCode(HttpStatus.BAD_GATEWAY);
+            return Mono.empty();
+        }).block();
+        assertThrows(UnauthorizedException.class, () -> filter.filter(exchange(),
+                exchange -> Mono.error(new UnauthorizedException("인증 실패"))).block());
+
+        assertEquals(1, timerCount("success"));
+        assertEquals(1, timerCount("server_error"));
+        assertEquals(1, timerCount("client_error"));
+        assertEquals(0, meterRegistry.get("gateway.route.retries").tag("route", "order-service")
+                .functionCounter().count());
+    }
+
+    private long timerCount(String outcome) {
+        return meterRegistry.get("gateway.route.requests")
+                .tag("route", "order-service")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("ORDER-SERVICE").uri("lb://ORDER-SERVICE").predicate(e -> true).build());
+        return exchange;
+    }
+}
@@ -1,7 +1,12 @@
 package com.cu2mber.gatewayservice.common.handler;
 
+import com.cu2mber.gatewayservice.common.config.ServerTimingProperties;
 import com.cu2mber.gatewayservice.common.exception.CommonHttpException;
+import com.cu2mber.gatewayservice.common.exception.TooManyRequestsException;
 import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration;
@@ -30,12 +35,25 @@ class GlobalExceptionHandlerTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private GatewayMetrics gatewayMetrics;
+
     // 테스트를 위한 더미 라우터 설정
     @TestConfiguration
     static class TestRouterConfig {
         // GlobalExceptionHandler는 @Component이므로 WebFluxTest가 자동으로 스캔하여 빈으로 등록합니다.
         // 따라서 여기에 별도로 빈 등록할 필요는 없습니다.
 
+        @Bean
+        public GatewayMetrics gatewayMetrics() {
+            return new GatewayMetrics(new SimpleMeterRegistry());
+        }
+
+        @Bean
+        public ServerTimingProperties serverTimingProperties() {
+            return new ServerTimingProperties();
+        }
+
         @Bean
         public RouterFunction<ServerResponse> testRoutes() {
             return route(GET("/test/common-exception"), request -> {
@@ -44,6 +62,12 @@ class GlobalExceptionHandlerTest {
                     .andRoute(GET("/test/unauthorized-exception"), request -> {
                         throw new UnauthorizedException("Test UnauthorizedException");
                     })
+                    .andRoute(GET("/test/unauthorized-exception/{name}"), request -> {
+                        throw new UnauthorizedException("Test \"quoted\" UnauthorizedException");
+                    })
+                    .andRoute(GET("/test/too-many-requests-exception"), request -> {
+                        throw new TooManyRequestsException("Test TooManyRequestsException", 3);
+                    })
                     .andRoute(GET("/test/not-found-exception"), request -> {
                         throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Test Not Found Exception");
                     })
@@ -133,4 +157,51 @@ class GlobalExceptionHandlerTest {
                     assertThat(body.get("path")).isEqualTo("/test/general-exception");
                 });
     }
+
+    @Test
+    void handleUnauthorizedException_reusesTemplateAndCountsInsteadOfLogging() {
+        double before = unauthorizedErrorCount();
+
+        for (String name : new String[]{"first", "second"}) {
+            webTestClient.get().uri("/test/unauthorized-exception/" + name)
+                    .exchange()
+                    .expectStatus().isUnauthorized()
+                    .expectBody(Map.class)
+                    .consumeWith(response -> {
+                        Map<String, Object> body = response.getResponseBody();
+                        assertThat(body).isNotNull();
+                        assertThat(body.get("message")).isEqualTo("Test \"quoted\" UnauthorizedException");
+                        assertThat(body.get("path")).isEqualTo("/test/unauthorized-exception/" + name);
+                    });
+        }
+
+        assertThat(unauthorizedErrorCount()).isEqualTo(before + 2);
+    }
+
+    private double unauthorizedErrorCount() {
+        Counter counter = gatewayMetrics.getRegistry().find("gateway.errors")
+                .tags("status", "401", "type", "gateway")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void handleTooManyRequestsException() {
+        webTestClient.get().uri("/test/too-many-requests-exception")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals("Retry-After", "3")
+                .expectBody(Map.class)
+                .consumeWith(response -> {
+                    Map<String, Object> body = response.getResponseBody();
+                    assertThat(body).isNotNull();
+                    assertThat(body.get("status")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+                    assertThat(body.get("message")).isEqualTo("Test TooManyRequestsException");
+                });
+    }
+
+    @Test
+    void unauthorizedExceptionHasNoStackTrace() {
+        assertThat(new UnauthorizedException("Test UnauthorizedException").getStackTrace()).isEmpty();
+    }
 }
\ No newline at end of file
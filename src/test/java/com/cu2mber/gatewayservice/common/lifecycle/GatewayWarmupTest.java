@@ -0,0 +1,95 @@
+package com.cu2mber.gatewayservice.common.lifecycle;
+
+import com.cu2mber.gatewayservice.common.cache.RegistrySnapshotStore;
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.config.WarmupProperties;
+import com.cu2mber.gatewayservice.common.handler.GlobalExceptionHandler;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GatewayWarmupTest {
+
+    private static final String SECRET = "aWFtdGVzdHNlY3JldGtleTEyMzQ1Njc4OTBhYmNkZWY=";
+
+    private DisposableServer upstream;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<Object> connections = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        upstream = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .doOnConnection(connection -> connections.add(connection.channel().id()))
+                .handle((request, response) -> {
+                    requests.incrementAndGet();
+                    return response.sendString(Mono.just("{\"status\":\"UP\"}"));
+                })
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.disposeNow();
+    }
+
+    @Test
+    @DisplayName("예열은 서비스 캐시를 채우고 인스턴스마다 커넥션을 열며 단계별 실행 시간을 기록함")
+    void start_runsAllStepsAndReportsDurations() {
+        GatewayMetrics metrics = new GatewayMetrics(new SimpleMeterRegistry());
+        DiscoveryClient discoveryClient = mock(DiscoveryClient.class);
+        when(discoveryClient.getServices()).thenReturn(List.of("order-service"));
+        when(discoveryClient.getInstances("order-service")).thenReturn(List.of(
+                new DefaultServiceInstance("order-1", "order-service", "127.0.0.1", upstream.port(), false)));
+        ServiceCache serviceCache = new ServiceCache(discoveryClient, 60, 1000, metrics,
+                RegistrySnapshotStore.disabled());
+        serviceCache.init();
+        RouteLocator routeLocator = mock(RouteLocator.class);
+        when(routeLocator.getRoutes()).thenReturn(Flux.empty());
+
+        WarmupProperties properties = new WarmupProperties();
+        properties.setConnectionsPerInstance(3);
+        properties.setJwtIterations(50);
+        properties.setErrorRenderIterations(50);
+        GatewayWarmup warmup = new GatewayWarmup(properties, serviceCache, routeLocator, HttpClient.create(),
+                new GlobalExceptionHandler(new ObjectMapper(), metrics), metrics, SECRET);
+
+        warmup.start();
+
+        assertTrue(warmup.isRunning());
+        assertEquals(List.of("service-cache", "routes", "connections", "jwt", "error-render"),
+                List.copyOf(warmup.getStepDurations().keySet()));
+        assertEquals(3, requests.get());
+        assertEquals(3, connections.size());
+        assertEquals(1, metrics.getRegistry().get("gateway.warmup.duration")
+                .tags("step", "jwt", "result", "success").timer().count());
+        assertEquals(0, metrics.getRegistry().get("gateway.jwt.validation").timers().stream()
+                .mapToLong(Timer::count).sum(), "합성 토큰 검증은 운영 JWT 메트릭에 기록되지 않아야 함");
+        assertEquals(0, metrics.getRegistry().get("gateway.jwt.failures").counters().stream()
+                .mapToDouble(Counter::count).sum());
+    }
+}
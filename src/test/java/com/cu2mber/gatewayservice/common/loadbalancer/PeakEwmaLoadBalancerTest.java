@@ -0,0 +1,77 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import com.cu2mber.gatewayservice.common.config.GatewayLoadBalancerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry.Outcome.SUCCESS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class PeakEwmaLoadBalancerTest {
+
+    private final ServiceInstance fast = instance("fast", 8081);
+    private final ServiceInstance slow = instance("slow", 8082);
+
+    private InstanceStatsRegistry registry;
+    private PeakEwmaLoadBalancer loadBalancer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new InstanceStatsRegistry(new GatewayLoadBalancerProperties());
+        loadBalancer = new PeakEwmaLoadBalancer(mock(ObjectProvider.class), "order-service", registry);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 긴 인스턴스는 거의 선택되지 않음")
+    void choose_prefersLowLatencyInstance() {
+        registry.requestStarted(fast);
+        registry.requestCompleted(fast, TimeUnit.MILLISECONDS.toNanos(5), SUCCESS);
+        registry.requestStarted(slow);
+        registry.requestCompleted(slow, TimeUnit.MILLISECONDS.toNanos(500), SUCCESS);
+
+        assertEquals(fast, chooseMostOften(List.of(fast, slow)));
+    }
+
+    @Test
+    @DisplayName("응답 시간이 같으면 처리 중인 요청이 적은 인스턴스를 선택")
+    void choose_prefersFewerOutstandingRequests() {
+        for (ServiceInstance instance : List.of(fast, slow)) {
+            registry.requestStarted(instance);
+            registry.requestCompleted(instance, TimeUnit.MILLISECONDS.toNanos(10), SUCCESS);
+        }
+        registry.requestStarted(slow);
+        registry.requestStarted(slow);
+
+        assertEquals(2, registry.outstanding(slow));
+        assertEquals(fast, chooseMostOften(List.of(fast, slow)));
+    }
+
+    @Test
+    @DisplayName("인스턴스가 없으면 빈 응답")
+    void choose_returnsEmptyResponseWithoutInstances() {
+        assertFalse(loadBalancer.choose(List.<ServiceInstance>of()).hasServer());
+    }
+
+    private ServiceInstance chooseMostOften(List<ServiceInstance> instances) {
+        int fastCount = 0;
+        for (int i = 0; i < 100; i++) {
+            if (loadBalancer.choose(instances).getServer() == fast) {
+                fastCount++;
+            }
+        }
+        return fastCount > 50 ? fast : slow;
+    }
+
+    private static ServiceInstance instance(String host, int port) {
+        return new DefaultServiceInstance(host + "-1", "order-service", host, port, false);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cu2mber.gatewayservice.common.loadbalancer;
+
+import com.cu2mber.gatewayservice.common.cache.RegistrySnapshotStore;
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.config.GatewayLoadBalancerProperties;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry.Outcome.FAILED;
+import static com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry.Outcome.SERVER_ERROR;
+import static com.cu2mber.gatewayservice.common.loadbalancer.InstanceStatsRegistry.Outcome.SUCCESS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceCacheInstanceListSupplierTest {
+
+    private final ServiceInstance healthy = new DefaultServiceInstance("a", "order-service", "10.0.0.1", 8080, false);
+    private final ServiceInstance failing = new DefaultServiceInstance("b", "order-service", "10.0.0.2", 8080, false);
+
+    private InstanceStatsRegistry registry;
+    private ServiceCacheInstanceListSupplier supplier;
+
+    @BeforeEach
+    void setUp() {
+        GatewayLoadBalancerProperties properties = new GatewayLoadBalancerProperties();
+        properties.getOutlier().setConsecutiveFailures(3);
+        properties.getOutlier().setBaseEjectionTime(Duration.ofMillis(200));
+        registry = new InstanceStatsRegistry(properties);
+
+        DiscoveryClient discoveryClient = mock(DiscoveryClient.class);
+        when(discoveryClient.getInstances("order-service")).thenReturn(List.of(healthy, failing));
+        ServiceCache serviceCache = new ServiceCache(discoveryClient, 60, 1000,
+                new GatewayMetrics(new SimpleMeterRegistry()), RegistrySnapshotStore.disabled());
+        serviceCache.init();
+        supplier = new ServiceCacheInstanceListSupplier("order-service", serviceCache, registry);
+    }
+
+    @Test
+    @DisplayName("연속 실패한 인스턴스는 제외 시간 동안 선택 후보에서 빠짐")
+    void get_excludesEjectedInstance() throws InterruptedException {
+        record(failing, SERVER_ERROR, FAILED, SERVER_ERROR);
+
+        assertTrue(registry.isEjected(failing));
+        assertEquals(List.of(healthy), supplier.get().blockFirst());
+
+        Thread.sleep(250);
+        assertEquals(List.of(healthy, failing), supplier.get().blockFirst());
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 연속 실패로 보지 않음")
+    void get_successResetsConsecutiveFailures() {
+        record(failing, SERVER_ERROR, FAILED, SUCCESS, SERVER_ERROR, FAILED);
+
+        assertFalse(registry.isEjected(failing));
+    }
+
+    @Test
+    @DisplayName("최대 제외 비율을 넘는 인스턴스는 제외하지 않음")
+    void get_keepsInstancesBeyondMaxEjectionPercent() {
+        record(healthy, FAILED, FAILED, FAILED);
+        record(failing, FAILED, FAILED, FAILED);
+
+        assertEquals(1, supplier.get().blockFirst().size());
+    }
+
+    private void record(ServiceInstance instance, InstanceStatsRegistry.Outcome... outcomes) {
+        for (InstanceStatsRegistry.Outcome outcome : outcomes) {
+            registry.requestStarted(instance);
+            registry.requestCompleted(instance, 1_000_000, outcome);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.cu2mber.gatewayservice.common.route;
+
+import com.cu2mber.gatewayservice.common.config.AuthPolicyProperties;
+import com.cu2mber.gatewayservice.common.config.AuthPolicyProperties.Policy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthPolicyMatcherTest {
+
+    @Test
+    @DisplayName("고정 경로, 메서드 조건, 더 구체적인 패턴 순으로 정책을 결정함")
+    void match_prefersExactAndMoreSpecificRules() {
+        AuthPolicyProperties.RouteAuth routeAuth = new AuthPolicyProperties.RouteAuth();
+        routeAuth.setRules(List.of(
+                rule(Policy.OPTIONAL, List.of("GET"), "/products/**"),
+                rule(Policy.ROLE, List.of(), "/products/admin/**"),
+                rule(Policy.PUBLIC, List.of(), "/health")));
+        AuthPolicyProperties properties = new AuthPolicyProperties();
+        properties.setRoutes(Map.of("Product-Service", routeAuth));
+        AuthPolicyMatcher matcher = new AuthPolicyMatcher(properties);
+
+        assertEquals(Policy.PUBLIC, match(matcher, "product-service", HttpMethod.GET, "/health").policy());
+        assertEquals(Policy.OPTIONAL, match(matcher, "product-service", HttpMethod.GET, "/products/1").policy());
+        assertEquals(Policy.REQUIRED, match(matcher, "product-service", HttpMethod.POST, "/products/1").policy());
+
+        AuthPolicyMatcher.Decision admin = match(matcher, "product-service", HttpMethod.GET, "/products/admin/1");
+        assertEquals(Policy.ROLE, admin.policy());
+        assertEquals(Set.of("ADMIN"), admin.roles());
+
+        assertEquals(Policy.REQUIRED, match(matcher, "order-service", HttpMethod.GET, "/health").policy());
+    }
+
+    @Test
+    @DisplayName("역할 목록이 없는 ROLE 정책은 생성 시점에 거부됨")
+    void constructor_rejectsRolePolicyWithoutRoles() {
+        AuthPolicyProperties.RouteAuth routeAuth = new AuthPolicyProperties.RouteAuth();
+        routeAuth.setPolicy(Policy.ROLE);
+        AuthPolicyProperties properties = new AuthPolicyProperties();
+        properties.setRoutes(Map.of("admin-service", routeAuth));
+
+        assertThrows(IllegalStateException.class, () -> new AuthPolicyMatcher(properties));
+    }
+
+    private static AuthPolicyProperties.Rule rule(Policy policy, List<String> methods, String path) {
+        AuthPolicyProperties.Rule rule = new AuthPolicyProperties.Rule();
+        rule.setPaths(List.of(path));
+        rule.setMethods(methods);
+        rule.setPolicy(policy);
+        rule.setRoles(policy == Policy.ROLE ? List.of("ADMIN") : List.of());
+        return rule;
+    }
+
+    private static AuthPolicyMatcher.Decision match(AuthPolicyMatcher matcher, String routeId,
+                                                    HttpMethod method, String path) {
+        return matcher.match(routeId, MockServerHttpRequest.method(method, path).build());
+    }
+}
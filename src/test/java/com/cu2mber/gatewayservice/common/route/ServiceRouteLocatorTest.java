@@ -0,0 +1,119 @@
+package com.cu2mber.gatewayservice.common.route;
+
+import com.cu2mber.gatewayservice.common.cache.RegistrySnapshotStore;
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.filter.AdaptiveConcurrencyFilter;
+import com.cu2mber.gatewayservice.common.filter.CircuitBreakerFilter;
+import com.cu2mber.gatewayservice.common.filter.HedgingFilter;
+import com.cu2mber.gatewayservice.common.filter.JwtAuthorizationFilter;
+import com.cu2mber.gatewayservice.common.filter.RateLimitFilter;
+import com.cu2mber.gatewayservice.common.filter.RequestCoalescingFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCacheFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCompressionFilter;
+import com.cu2mber.gatewayservice.common.filter.RetryFilter;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxProperties;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.factory.StripPrefixGatewayFilterFactory;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceRouteLocatorTest {
+
+    private DiscoveryClient discoveryClient;
+    private ServiceCache serviceCache;
+    private ServiceRouteLocator locator;
+
+    @BeforeEach
+    void setUp() {
+        discoveryClient = mock(DiscoveryClient.class);
+        serviceCache = new ServiceCache(discoveryClient, 60, 1000, new GatewayMetrics(new SimpleMeterRegistry()),
+                RegistrySnapshotStore.disabled());
+        serviceCache.init();
+
+        locator = new ServiceRouteLocator(serviceCache, mock(JwtAuthorizationFilter.class), mock(RateLimitFilter.class),
+                mock(ResponseCompressionFilter.class), mock(ResponseCacheFilter.class),
+                mock(RequestCoalescingFilter.class),
+                mock(AdaptiveConcurrencyFilter.class), mock(CircuitBreakerFilter.class),
+                mock(RetryFilter.class),
+                mock(HedgingFilter.class),
+                new StripPrefixGatewayFilterFactory(), new PathRoutePredicateFactory(new WebFluxProperties()));
+    }
+
+    @Test
+    @DisplayName("기동 이후 등록된 서비스도 갱신 시 라우트가 생성됨")
+    void getRoutes_addsNewlyRegisteredService() {
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service"));
+        assertEquals(List.of("user-service"), routeIds());
+
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service", "order-service"));
+        assertEquals(List.of("user-service", "order-service"), routeIds());
+    }
+
+    @Test
+    @DisplayName("변경되지 않은 서비스의 라우트는 재사용되고 사라진 서비스의 라우트는 제거됨")
+    void getRoutes_reusesUnchangedRoutes() {
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service", "order-service"));
+        Map<String, Route> before = routes();
+
+        when(discoveryClient.getServices()).thenReturn(List.of("user-service", "board-service"));
+        Map<String, Route> after = routes();
+
+        assertSame(before.get("user-service"), after.get("user-service"));
+        assertFalse(after.containsKey("order-service"));
+        assertTrue(after.containsKey("board-service"));
+    }
+
+    @Test
+    @DisplayName("라우트는 /api/{서비스명}/** 경로에만 매칭됨")
+    void getRoutes_matchesServicePrefix() {
+        when(discoveryClient.getServices()).thenReturn(List.of("USER-SERVICE"));
+        Route route = routes().get("USER-SERVICE");
+
+        assertEquals("lb://USER-SERVICE", route.getUri().toString());
+        assertTrue(matches(route, "/api/user-service/users/1"));
+        assertFalse(matches(route, "/api/order-service/orders/1"));
+    }
+
+    @Test
+    @DisplayName("업스트림 보호 필터는 동시 요청 수 제한 → 서킷 브레이커 → 재시도 → 로드밸런서 순으로 중첩됨")
+    void filterOrders_nestUpstreamProtection() {
+        assertTrue(NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER < AdaptiveConcurrencyFilter.ORDER);
+        assertTrue(AdaptiveConcurrencyFilter.ORDER < CircuitBreakerFilter.ORDER);
+        assertTrue(CircuitBreakerFilter.ORDER < RetryFilter.ORDER);
+        assertTrue(RetryFilter.ORDER < ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER);
+    }
+
+    private List<String> routeIds() {
+        serviceCache.refresh().block();
+        return locator.getRoutes().map(Route::getId).collectList().block();
+    }
+
+    private Map<String, Route> routes() {
+        serviceCache.refresh().block();
+        return locator.getRoutes().collect(Collectors.toMap(Route::getId, Function.identity())).block();
+    }
+
+    private static boolean matches(Route route, String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        return Boolean.TRUE.equals(Mono.from(route.getPredicate().apply(exchange)).block());
+    }
+}
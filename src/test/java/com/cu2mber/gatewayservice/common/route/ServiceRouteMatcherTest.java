@@ -0,0 +1,73 @@
+package com.cu2mber.gatewayservice.common.route;
+
+import com.cu2mber.gatewayservice.common.cache.RegistrySnapshotStore;
+import com.cu2mber.gatewayservice.common.cache.ServiceCache;
+import com.cu2mber.gatewayservice.common.filter.AdaptiveConcurrencyFilter;
+import com.cu2mber.gatewayservice.common.filter.CircuitBreakerFilter;
+import com.cu2mber.gatewayservice.common.filter.HedgingFilter;
+import com.cu2mber.gatewayservice.common.filter.JwtAuthorizationFilter;
+import com.cu2mber.gatewayservice.common.filter.RateLimitFilter;
+import com.cu2mber.gatewayservice.common.filter.RequestCoalescingFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCacheFilter;
+import com.cu2mber.gatewayservice.common.filter.ResponseCompressionFilter;
+import com.cu2mber.gatewayservice.common.filter.RetryFilter;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxProperties;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.gateway.filter.factory.StripPrefixGatewayFilterFactory;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.route.Route;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceRouteMatcherTest {
+
+    @Test
+    @DisplayName("두 번째 경로 세그먼트로 서비스 라우트를 찾음")
+    void match_byServiceSegment() {
+        ServiceRouteMatcher matcher = new ServiceRouteMatcher();
+        matcher.update(buildRoutes(List.of("USER-SERVICE", "ORDER-SERVICE")));
+
+        assertEquals("USER-SERVICE", matcher.match("/api/user-service/users/1").getId());
+        assertEquals("ORDER-SERVICE", matcher.match("/api/order-service").getId());
+        assertNull(matcher.match("/api/board-service/posts"));
+        assertNull(matcher.match("/api/"));
+        assertNull(matcher.match("/health"));
+    }
+
+    @Test
+    @DisplayName("라우트 목록을 갱신하면 인덱스를 통째로 교체")
+    void update_replacesIndex() {
+        ServiceRouteMatcher matcher = new ServiceRouteMatcher();
+        matcher.update(buildRoutes(List.of("USER-SERVICE")));
+        assertNotNull(matcher.match("/api/user-service/users"));
+
+        matcher.update(buildRoutes(List.of("ORDER-SERVICE")));
+        assertNull(matcher.match("/api/user-service/users"));
+        assertEquals("ORDER-SERVICE", matcher.match("/api/order-service/orders").getId());
+    }
+
+    private static List<Route> buildRoutes(List<String> services) {
+        DiscoveryClient discoveryClient = mock(DiscoveryClient.class);
+        when(discoveryClient.getServices()).thenReturn(services);
+        ServiceCache serviceCache = new ServiceCache(discoveryClient, 60, 1000,
+                new GatewayMetrics(new SimpleMeterRegistry()), RegistrySnapshotStore.disabled());
+        serviceCache.init();
+
+        ServiceRouteLocator locator = new ServiceRouteLocator(serviceCache, mock(JwtAuthorizationFilter.class), mock(RateLimitFilter.class),
+                mock(ResponseCompressionFilter.class), mock(ResponseCacheFilter.class),
+                mock(RequestCoalescingFilter.class),
+                mock(AdaptiveConcurrencyFilter.class), mock(CircuitBreakerFilter.class),
+                mock(RetryFilter.class),
+                mock(HedgingFilter.class),
+                new StripPrefixGatewayFilterFactory(), new PathRoutePredicateFactory(new WebFluxProperties()));
+        return locator.getRoutes().collectList().block();
+    }
+}
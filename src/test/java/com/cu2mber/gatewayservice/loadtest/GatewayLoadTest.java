@@ -0,0 +1,145 @@
+package com.cu2mber.gatewayservice.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.context.annotation.Bean;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Netty 수신, 라우트 조회, JWT 검증, 로드밸런싱, 프록시까지 게이트웨이 전체 경로의 처리량과 응답 시간 백분위수를 측정하는
+ * 부하 테스트입니다.
+ * <p>
+ * GatewayServiceApplication을 임의 포트로 띄우고, Eureka 대신 {@link StubDiscoveryClient}가 로컬 {@link StubBackend}
+ * 인스턴스 목록을 제공합니다. 모든 통신은 127.0.0.1에서 이루어지므로 네트워크 없이 실행됩니다.
+ * 스프링 시큐리티 자동 구성은 제외하여 게이트웨이 자체 필터만 측정합니다.
+ * <p>
+ * 기본 빌드에서는 실행되지 않으며 {@code mvn -P load-test test}로 실행하고, 측정 결과는 INFO 로그로 남깁니다.
+ * 업스트림 실패율이 0인데 5xx 응답이 error-budget 비율을 넘거나 p99가 max-p99-ms를 넘으면 실패합니다.
+ * 부하 조건과 기준은 시스템 속성으로 바꿀 수 있습니다.
+ * <ul>
+ *     <li>{@code loadtest.rate} 초당 요청 수 (기본 200)</li>
+ *     <li>{@code loadtest.duration-seconds} 측정 시간 (기본 10)</li>
+ *     <li>{@code loadtest.warmup-seconds} 측정 전 워밍업 시간 (기본 3)</li>
+ *     <li>{@code loadtest.backends} 업스트림 인스턴스 수 (기본 3)</li>
+ *     <li>{@code loadtest.backend-latency-ms} 업스트림 응답 지연 (기본 5)</li>
+ *     <li>{@code loadtest.failure-rate} 업스트림 503 응답 비율 (기본 0)</li>
+ *     <li>{@code loadtest.error-budget} 업스트림 실패율이 0일 때 허용하는 5xx 응답 비율 (기본 0)</li>
+ *     <li>{@code loadtest.max-p99-ms} 허용하는 p99 응답 시간 (기본 500)</li>
+ * </ul>
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.autoconfigure.exclude="
+                + "org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration,"
+                + "org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration",
+        "logging.level.com.cu2mber.gatewayservice=INFO"
+})
+class GatewayLoadTest {
+
+    private static final String SERVICE_ID = "order-service";
+    private static final int USERS = 64;
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 10);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 3);
+    private static final int BACKEND_COUNT = Integer.getInteger("loadtest.backends", 3);
+    private static final int BACKEND_LATENCY_MS = Integer.getInteger("loadtest.backend-latency-ms", 5);
+    private static final double FAILURE_RATE = Double.parseDouble(System.getProperty("loadtest.failure-rate", "0"));
+    private static final double ERROR_BUDGET = Double.parseDouble(System.getProperty("loadtest.error-budget", "0"));
+    private static final double MAX_P99_MS = Double.parseDouble(System.getProperty("loadtest.max-p99-ms", "500"));
+
+    /** 컨텍스트보다 먼저 시작해야 DiscoveryClient에 포트를 넘길 수 있으므로 클래스 초기화 시점에 시작 */
+    private static final List<StubBackend> BACKENDS = IntStream.range(0, BACKEND_COUNT)
+            .mapToObj(i -> new StubBackend(Duration.ofMillis(BACKEND_LATENCY_MS), FAILURE_RATE))
+            .toList();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @AfterAll
+    static void stopBackends() {
+        BACKENDS.forEach(StubBackend::stop);
+    }
+
+    @Test
+    @DisplayName("일정한 요청률에서 게이트웨이 전체 경로의 처리량과 응답 시간 백분위수 측정")
+    void gateway_underConstantRate() throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(port, "/api/" + SERVICE_ID + "/items/1", authorizations(),
+                1_000);
+        try {
+            generator.run(RATE, Duration.ofSeconds(WARMUP_SECONDS));
+            LoadGenerator.LoadReport report = generator.run(RATE, Duration.ofSeconds(DURATION_SECONDS));
+
+            log.info("게이트웨이 부하 테스트 (업스트림 {}개, 지연 {}ms, 실패율 {})\n  {}",
+                    BACKEND_COUNT, BACKEND_LATENCY_MS, FAILURE_RATE, report.summary());
+            assertEquals(report.requests(), report.successes() + report.serverErrors()
+                    + report.unexpectedStatuses() + report.transportErrors());
+            assertEquals(0, report.unexpectedStatuses());
+            assertEquals(0, report.transportErrors());
+            if (FAILURE_RATE == 0) {
+                assertTrue(report.serverErrors() <= report.requests() * ERROR_BUDGET,
+                        () -> "업스트림 실패 없이 5xx 응답 발생: " + report.summary());
+            }
+            assertTrue(report.percentileMillis(99) <= MAX_P99_MS,
+                    () -> "p99가 " + MAX_P99_MS + "ms를 넘음: " + report.summary());
+            assertTrue(report.successes() > 0);
+            BACKENDS.forEach(backend -> assertTrue(backend.requestCount() > 0));
+        } finally {
+            generator.close();
+        }
+    }
+
+    private List<String> authorizations() {
+        Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        List<String> authorizations = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            authorizations.add("Bearer " + Jwts.builder()
+                    .setSubject("load-user-" + i)
+                    .claim("roles", List.of("USER"))
+                    .setExpiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000L))
+                    .signWith(key, SignatureAlgorithm.HS256)
+                    .compact());
+        }
+        return authorizations;
+    }
+
+    @TestConfiguration
+    static class StubDiscoveryConfig {
+
+        @Bean
+        StubDiscoveryClient stubDiscoveryClient() {
+            List<ServiceInstance> instances = IntStream.range(0, BACKENDS.size())
+                    .mapToObj(i -> (ServiceInstance) new DefaultServiceInstance(SERVICE_ID + "-" + i, SERVICE_ID,
+                            "127.0.0.1", BACKENDS.get(i).port(), false))
+                    .toList();
+            return new StubDiscoveryClient(Map.of(SERVICE_ID, instances));
+        }
+    }
+}
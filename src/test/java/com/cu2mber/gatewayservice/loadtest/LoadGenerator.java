@@ -0,0 +1,158 @@
+package com.cu2mber.gatewayservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.HttpHeaders;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 일정한 요청률(open model)로 부하를 거는 HTTP 부하 생성기입니다.
+ * <p>
+ * i번째 요청의 예정 시각을 {@code 시작 시각 + i / 요청률}로 미리 정해 두고, 응답 시간을 실제 전송 시각이 아닌
+ * 예정 시각부터 측정합니다. 게이트웨이가 느려져 전송이 밀리거나 커넥션 풀에서 대기하더라도 그 지연이 응답 시간에
+ * 포함되므로, 응답을 기다렸다가 다음 요청을 보내는 방식(closed model)에서 생기는
+ * coordinated omission 없이 백분위수를 계산합니다.
+ */
+final class LoadGenerator {
+
+    /** 인증 헤더별로 미리 구성한 HttpClient (요청마다 헤더 설정 객체를 만들지 않도록) */
+    private final List<HttpClient> clients;
+
+    private final ConnectionProvider connectionProvider;
+
+    private final String path;
+
+    /**
+     * LoadGenerator 생성자
+     *
+     * @param port           게이트웨이 포트
+     * @param path           요청 경로
+     * @param authorizations 요청마다 돌아가며 사용할 Authorization 헤더 값
+     * @param maxConnections 최대 커넥션 수
+     */
+    LoadGenerator(int port, String path, List<String> authorizations, int maxConnections) {
+        this.connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient base = HttpClient.create(connectionProvider).baseUrl("http://127.0.0.1:" + port);
+        this.clients = authorizations.stream()
+                .map(authorization -> base.headers(headers -> headers.set(HttpHeaders.AUTHORIZATION, authorization)))
+                .toList();
+        this.path = path;
+    }
+
+    /**
+     * 지정한 요청률로 지정한 시간 동안 요청을 보내고, 모든 응답을 받은 뒤 결과를 반환합니다.
+     *
+     * @param requestsPerSecond 초당 요청 수
+     * @param duration          부하 시간
+     * @return 부하 결과
+     * @throws InterruptedException 응답 대기 중 인터럽트된 경우
+     */
+    LoadReport run(int requestsPerSecond, Duration duration) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        int total = (int) (requestsPerSecond * duration.toMillis() / 1000);
+        Histogram histogram = new ConcurrentHistogram(3);
+        LongAdder successes = new LongAdder();
+        LongAdder serverErrors = new LongAdder();
+        LongAdder unexpectedStatuses = new LongAdder();
+        LongAdder transportErrors = new LongAdder();
+        CountDownLatch completed = new CountDownLatch(total);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            clients.get(i % clients.size())
+                    .get()
+                    .uri(path)
+                    .responseSingle((response, body) -> body.asByteArray()
+                            .map(bytes -> response.status().code())
+                            .defaultIfEmpty(response.status().code()))
+                    .subscribe(status -> {
+                        histogram.recordValue(System.nanoTime() - intended);
+                        if (status >= 200 && status < 300) {
+                            successes.increment();
+                        } else if (status >= 500) {
+                            serverErrors.increment();
+                        } else {
+                            unexpectedStatuses.increment();
+                        }
+                        completed.countDown();
+                    }, error -> {
+                        histogram.recordValue(System.nanoTime() - intended);
+                        transportErrors.increment();
+                        completed.countDown();
+                    });
+        }
+        completed.await(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new LoadReport(requestsPerSecond, total, successes.sum(), serverErrors.sum(),
+                unexpectedStatuses.sum(), transportErrors.sum(), elapsedNanos, histogram.copy());
+    }
+
+    void close() {
+        connectionProvider.disposeLater().block();
+    }
+
+    /**
+     * 부하 결과.
+     *
+     * @param targetRate         목표 초당 요청 수
+     * @param requests           보낸 요청 수
+     * @param successes          2xx 응답 수
+     * @param serverErrors       5xx 응답 수
+     * @param unexpectedStatuses 그 밖의 상태 코드(401, 404, 429 등) 응답 수
+     * @param transportErrors    연결 오류 수
+     * @param elapsedNanos       첫 요청부터 마지막 응답까지의 시간(나노초)
+     * @param latencies          예정 시각 기준 응답 시간 히스토그램(나노초)
+     */
+    record LoadReport(int targetRate, long requests, long successes, long serverErrors, long unexpectedStatuses,
+                      long transportErrors, long elapsedNanos, Histogram latencies) {
+
+        /**
+         * 백분위 응답 시간을 밀리초로 반환합니다.
+         *
+         * @param percentile 백분위 (0~100)
+         * @return 응답 시간(밀리초)
+         */
+        double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+
+        /**
+         * 실제로 처리한 초당 요청 수를 반환합니다.
+         *
+         * @return 초당 요청 수
+         */
+        double achievedRate() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * 결과 요약 문자열을 반환합니다.
+         *
+         * @return 요약
+         */
+        String summary() {
+            return String.format("target=%d rps, achieved=%.1f rps, requests=%d, 2xx=%d, 5xx=%d, other=%d, "
+                            + "transport-errors=%d%n  latency(ms) p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f",
+                    targetRate, achievedRate(), requests, successes, serverErrors, unexpectedStatuses,
+                    transportErrors, percentileMillis(50), percentileMillis(90), percentileMillis(99),
+                    percentileMillis(99.9), latencies.getMaxValue() / 1_000_000.0);
+        }
+    }
+}
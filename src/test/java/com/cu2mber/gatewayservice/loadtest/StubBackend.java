@@ -0,0 +1,61 @@
+package com.cu2mber.gatewayservice.loadtest;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 로컬 업스트림 서버입니다.
+ * <p>
+ * 임의의 포트에서 모든 경로의 요청에 작은 JSON 본문으로 응답하며, 고정 지연 시간과
+ * 실패율(503 응답 비율)을 지정하여 느리거나 불안정한 인스턴스를 흉내 낼 수 있습니다.
+ */
+final class StubBackend {
+
+    /** 응답 본문 */
+    private static final byte[] BODY = "{\"id\":1,\"name\":\"item\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final DisposableServer server;
+    private final LongAdder requestCount = new LongAdder();
+
+    /**
+     * 서버를 시작합니다.
+     *
+     * @param latency     응답 지연 시간
+     * @param failureRate 503으로 응답할 요청 비율 (0~1)
+     */
+    StubBackend(Duration latency, double failureRate) {
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> {
+                    requestCount.increment();
+                    Mono<Void> delay = latency.isZero() ? Mono.empty() : Mono.delay(latency).then();
+                    if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                        return delay.then(response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send());
+                    }
+                    return delay.then(response.header("Content-Type", "application/json")
+                            .sendByteArray(Mono.just(BODY))
+                            .then());
+                })
+                .bindNow();
+    }
+
+    int port() {
+        return server.port();
+    }
+
+    long requestCount() {
+        return requestCount.sum();
+    }
+
+    void stop() {
+        server.disposeNow();
+    }
+}
@@ -0,0 +1,40 @@
+package com.cu2mber.gatewayservice.loadtest;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Eureka 대신 고정된 서비스/인스턴스 목록을 제공하는 프로세스 내 DiscoveryClient입니다.
+ * CompositeDiscoveryClient가 이 빈을 함께 조회하므로 게이트웨이 코드는 그대로 사용됩니다.
+ */
+final class StubDiscoveryClient implements DiscoveryClient {
+
+    private final Map<String, List<ServiceInstance>> instances;
+
+    /**
+     * StubDiscoveryClient 생성자
+     *
+     * @param instances 서비스명 → 인스턴스 목록
+     */
+    StubDiscoveryClient(Map<String, List<ServiceInstance>> instances) {
+        this.instances = Map.copyOf(instances);
+    }
+
+    @Override
+    public String description() {
+        return "Load test stub discovery client";
+    }
+
+    @Override
+    public List<ServiceInstance> getInstances(String serviceId) {
+        return instances.getOrDefault(serviceId, List.of());
+    }
+
+    @Override
+    public List<String> getServices() {
+        return List.copyOf(instances.keySet());
+    }
+}
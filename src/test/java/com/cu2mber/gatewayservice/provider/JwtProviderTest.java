@@ -1,15 +1,18 @@
 package com.cu2mber.gatewayservice.provider;
 
 import com.cu2mber.gatewayservice.common.exception.UnauthorizedException;
+import com.cu2mber.gatewayservice.common.metrics.GatewayMetrics;
 import com.cu2mber.gatewayservice.common.provider.JwtProvider;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.lang.management.ManagementFactory;
 import java.security.Key;
 import java.util.Date;
 
@@ -17,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class JwtProviderTest {
     private JwtProvider jwtProvider;
+    private SimpleMeterRegistry meterRegistry;
     private Key secretkey;
     private String validToken;
     private String expiredToken;
@@ -26,7 +30,8 @@ class JwtProviderTest {
 
     @BeforeEach
     void setUP() {
-        jwtProvider = new JwtProvider();
+        meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = new JwtProvider(new GatewayMetrics(meterRegistry));
 
         // 테스트용 시크릿키 생성
         String secret = "aWFtdGVzdHNlY3JldGtleTEyMzQ1Njc4OTBhYmNkZWY="; // 'iamtestsecretkey1234567890abcdef'를 BASE64로 인코딩
@@ -125,4 +130,82 @@ class JwtProviderTest {
 
         assertEquals("잘못된 서명입니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("한 번 검증된 토큰은 캐시에서 바로 통과")
+    void validateToken_cachedToken() {
+        jwtProvider.validateToken(validToken);
+        jwtProvider.validateToken(validToken);
+
+        assertEquals(1, jwtProvider.getTokenCacheStats().hitCount());
+        assertEquals(1, jwtProvider.getTokenCacheStats().missCount());
+    }
+
+    @Test
+    @DisplayName("검증 결과별 시간과 실패 사유가 메트릭으로 기록됨")
+    void validateToken_recordsMetrics() {
+        jwtProvider.validateToken(validToken);
+        jwtProvider.validateToken(validToken);
+        assertThrows(UnauthorizedException.class, () -> jwtProvider.validateToken(expiredToken));
+
+        assertEquals(1, meterRegistry.get("gateway.jwt.validation").tag("result", "verified").timer().count());
+        assertEquals(1, meterRegistry.get("gateway.jwt.validation").tag("result", "cached").timer().count());
+        assertEquals(1, meterRegistry.get("gateway.jwt.validation").tag("result", "rejected").timer().count());
+        assertEquals(1, meterRegistry.get("gateway.jwt.failures").tag("reason", "expired").counter().count());
+        assertEquals(0, meterRegistry.get("gateway.jwt.failures").tag("reason", "malformed").counter().count());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시에 저장되지 않음")
+    void validateToken_failedTokenNotCached() {
+        assertThrows(UnauthorizedException.class, () -> jwtProvider.validateToken(expiredToken));
+        assertThrows(UnauthorizedException.class, () -> jwtProvider.validateToken(expiredToken));
+
+        assertEquals(0, jwtProvider.getTokenCacheStats().hitCount());
+    }
+
+    @Test
+    @DisplayName("공유 파서를 사용하는 검증 경로는 호출마다 파서를 만드는 경로보다 할당량이 적음")
+    void validateAndGetClaims_allocatesLessThanParserPerCall() {
+        int iterations = 2_000;
+        String[] tokens = new String[iterations];
+        for (int i = 0; i < iterations; i++) {
+            // 캐시 적중 없이 파싱 경로만 비교하기 위해 모두 다른 토큰을 사용
+            tokens[i] = Jwts.builder()
+                    .setSubject(TEST_USER + i)
+                    .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60))
+                    .signWith(secretkey, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+
+        // JIT 워밍업
+        for (int i = 0; i < 200; i++) {
+            Jwts.parserBuilder().setSigningKey(secretkey).build().parseClaimsJws(validToken);
+            jwtProvider.validateAndGetClaims(tokens[i]);
+        }
+
+        long before = allocatedBytes(() -> {
+            for (String token : tokens) {
+                Jwts.parserBuilder().setSigningKey(secretkey).build().parseClaimsJws(token).getBody();
+            }
+        }) / iterations;
+
+        jwtProvider.init(); // 캐시 초기화
+        long after = allocatedBytes(() -> {
+            for (String token : tokens) {
+                jwtProvider.validateAndGetClaims(token);
+            }
+        }) / iterations;
+
+        assertTrue(after < before,
+                () -> "JWT 검증 1회당 할당량 - 파서 매번 생성: " + before + " bytes, 공유 파서: " + after + " bytes");
+    }
+
+    private static long allocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long start = threadMXBean.getCurrentThreadAllocatedBytes();
+        task.run();
+        return threadMXBean.getCurrentThreadAllocatedBytes() - start;
+    }
 }
\ No newline at end of file